@@ -0,0 +1,49 @@
+package com.victoriasemkina.validator.infra.testing;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MockMvc matchers checking the response against the specification:
+ * <pre>{@code
+ * mockMvc.perform(get("/users/1"))
+ *         .andExpect(status().isOk())
+ *         .andExpect(ContractResultMatchers.conformsTo("openapi.yaml"));
+ * }</pre>
+ */
+public final class ContractResultMatchers {
+
+    private ContractResultMatchers() {
+    }
+
+    /**
+     * @param specPath path to OpenAPI file (YAML or JSON), loaded once per JVM
+     */
+    public static ResultMatcher conformsTo(String specPath) {
+        return conformsTo(ContractValidator.forSpec(specPath));
+    }
+
+    public static ResultMatcher conformsTo(ContractValidator validator) {
+        return result -> {
+            MockHttpServletRequest request = result.getRequest();
+            MockHttpServletResponse response = result.getResponse();
+            String body = response.getContentAsByteArray().length == 0
+                    ? null
+                    // JSON is UTF-8 unless the response says otherwise
+                    : response.isCharset() ? response.getContentAsString() : response.getContentAsString(StandardCharsets.UTF_8);
+            validator.assertValid(request.getMethod(), pathOf(request), response.getStatus(), body);
+        };
+    }
+
+    private static String pathOf(MockHttpServletRequest request) {
+        String path = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (!contextPath.isEmpty() && path.startsWith(contextPath)) {
+            path = path.substring(contextPath.length());
+        }
+        return request.getQueryString() != null ? path + '?' + request.getQueryString() : path;
+    }
+}
@@ -0,0 +1,43 @@
+package com.victoriasemkina.validator.infra.testing;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * JUnit 5 extension behind {@link ValidateContract}: loads the specification before the
+ * first test of the class, so a broken specification fails fast, and resolves
+ * {@link ContractValidator} parameters.
+ */
+public class ContractValidationExtension implements BeforeAllCallback, ParameterResolver {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        validatorFor(context);
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == ContractValidator.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return validatorFor(extensionContext);
+    }
+
+    private static ContractValidator validatorFor(ExtensionContext context) {
+        ValidateContract annotation = context.getTestClass()
+                .flatMap(testClass -> AnnotationSupport.findAnnotation(testClass, ValidateContract.class))
+                .orElseThrow(() -> new ExtensionConfigurationException(
+                        "ContractValidator parameters need @ValidateContract on the test class"));
+        try {
+            return ContractValidator.forSpec(annotation.value());
+        } catch (RuntimeException e) {
+            throw new ExtensionConfigurationException("Cannot load specification " + annotation.value(), e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.victoriasemkina.validator.infra.testing;
+
+import com.victoriasemkina.validator.domain.model.RecordedExchange;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.service.ReplayValidatorService;
+import com.victoriasemkina.validator.domain.service.ResponseValidatorService;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import com.victoriasemkina.validator.infra.schema.ArrayValidator;
+import com.victoriasemkina.validator.infra.schema.ObjectValidator;
+import com.victoriasemkina.validator.infra.schema.PrimitiveValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Validates responses produced in memory — by MockMvc, WebTestClient or a plain controller
+ * call — against a specification, without a running server.
+ * <p>
+ * The validation engine and each specification are loaded once per JVM and shared by all
+ * tests: a check costs routing plus schema validation of the body. Instances are thread-safe.
+ */
+public final class ContractValidator {
+
+    private static final Map<String, ContractValidator> CACHE = new ConcurrentHashMap<>();
+
+    private final String specPath;
+    private final OperationRouter router;
+
+    private ContractValidator(String specPath, OperationRouter router) {
+        this.specPath = specPath;
+        this.router = router;
+    }
+
+    /**
+     * Returns the validator of a specification, parsing it on first use
+     *
+     * @param specPath path to OpenAPI file (YAML or JSON)
+     */
+    public static ContractValidator forSpec(String specPath) {
+        return CACHE.computeIfAbsent(new File(specPath).getAbsolutePath(), key -> new ContractValidator(specPath,
+                OperationRouter.compile(Engine.CONTEXT.getBean(OpenApiParserService.class).parse(specPath))));
+    }
+
+    /**
+     * Validates one response
+     *
+     * @param path request path, may include a query string
+     * @param body response body, null when there is none
+     * @return issues found, empty when the response conforms
+     * @throws IllegalArgumentException when no operation of the specification matches the request
+     */
+    public List<ValidationIssue> validate(String method, String path, int status, String body) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        ValidationResult result = new ValidationResult();
+        result.setRetainIssues(false);
+        result.addListener(issues::add);
+
+        boolean matched = Engine.CONTEXT.getBean(ReplayValidatorService.class)
+                .validateExchange(router, new RecordedExchange(method, path, status, body), result);
+        if (!matched) {
+            throw new IllegalArgumentException("No operation in " + specPath + " matches " + method + " " + path);
+        }
+        return issues;
+    }
+
+    /**
+     * Same as {@link #validate}, failing the test on errors; warnings are tolerated
+     *
+     * @throws AssertionError listing every issue when there are errors or no operation matches
+     */
+    public void assertValid(String method, String path, int status, String body) {
+        List<ValidationIssue> issues;
+        try {
+            issues = validate(method, path, status, body);
+        } catch (IllegalArgumentException e) {
+            throw new AssertionError(e.getMessage());
+        }
+        if (issues.stream().anyMatch(issue -> issue.getSeverity() == ValidationIssue.Severity.ERROR)) {
+            throw new AssertionError("Response " + status + " of " + method + " " + path
+                    + " violates " + specPath + ":\n" + issues.stream()
+                    .map(issue -> "  " + issue)
+                    .collect(Collectors.joining("\n")));
+        }
+    }
+
+    /**
+     * Validation services wired once, outside of the application under test
+     */
+    private static final class Engine {
+
+        private static final AnnotationConfigApplicationContext CONTEXT = create();
+
+        private static AnnotationConfigApplicationContext create() {
+            AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+            context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+            context.register(ValidatorMetrics.class, OpenApiParserService.class, ObjectValidator.class,
+                    ArrayValidator.class, PrimitiveValidator.class, ResponseValidatorService.class,
+                    ReplayValidatorService.class);
+            context.refresh();
+            return context;
+        }
+    }
+}
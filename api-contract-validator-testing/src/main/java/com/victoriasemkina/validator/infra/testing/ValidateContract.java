@@ -0,0 +1,38 @@
+package com.victoriasemkina.validator.infra.testing;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Loads a specification for a JUnit 5 test class and injects its {@link ContractValidator}
+ * into test methods, constructors and lifecycle methods:
+ * <pre>{@code
+ * @WebMvcTest(UserController.class)
+ * @ValidateContract("src/main/resources/openapi.yaml")
+ * class UserControllerTest {
+ *
+ *     @Test
+ *     void getsUser(@Autowired MockMvc mockMvc, ContractValidator contract) throws Exception {
+ *         mockMvc.perform(get("/users/1")).andExpect(ContractResultMatchers.conformsTo(contract));
+ *     }
+ * }
+ * }</pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ExtendWith(ContractValidationExtension.class)
+public @interface ValidateContract {
+
+    /**
+     * Path to OpenAPI file (YAML or JSON)
+     */
+    String value();
+}
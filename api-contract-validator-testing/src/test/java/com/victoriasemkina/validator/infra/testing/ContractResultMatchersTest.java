@@ -0,0 +1,83 @@
+package com.victoriasemkina.validator.infra.testing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ContractResultMatchers unit tests")
+@ValidateContract("../spec/jsonplaceholder.yaml")
+class ContractResultMatchersTest {
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PostController()).build();
+
+    @Test
+    @DisplayName("should accept a response that conforms to the specification")
+    void shouldAcceptConformingResponse(ContractValidator contract) throws Exception {
+        // when / then
+        mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk())
+                .andExpect(ContractResultMatchers.conformsTo(contract));
+    }
+
+    @Test
+    @DisplayName("should fail the test listing the violations")
+    void shouldFailOnViolations(ContractValidator contract) {
+        // when / then
+        assertThatThrownBy(() -> mockMvc.perform(get("/posts?broken=true"))
+                .andExpect(ContractResultMatchers.conformsTo(contract)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("GET /posts?broken=true")
+                .hasMessageContaining("title");
+    }
+
+    @Test
+    @DisplayName("should fail for requests no operation documents")
+    void shouldFailOnUndocumentedOperation(ContractValidator contract) {
+        // when / then
+        assertThatThrownBy(() -> mockMvc.perform(get("/comments"))
+                .andExpect(ContractResultMatchers.conformsTo(contract)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("No operation");
+    }
+
+    @Test
+    @DisplayName("should share one loaded specification between tests")
+    void shouldCacheValidators(ContractValidator contract) {
+        // when / then
+        assertThat(ContractValidator.forSpec("../spec/jsonplaceholder.yaml")).isSameAs(contract);
+    }
+
+    @RestController
+    static class PostController {
+
+        @GetMapping("/posts")
+        List<Map<String, Object>> posts(@RequestParam(name = "broken", defaultValue = "false") boolean broken) {
+            Map<String, Object> post = new LinkedHashMap<>();
+            post.put("userId", 1);
+            post.put("id", 1);
+            if (!broken) {
+                post.put("title", "sunt aut facere");
+            }
+            post.put("body", "quia et suscipit");
+            return List.of(post);
+        }
+
+        @GetMapping("/comments")
+        List<Map<String, Object>> comments() {
+            return List.of(Map.of("id", 1));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.victoriasemkina.validator.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.service.ResponseValidatorService;
+import com.victoriasemkina.validator.infra.schema.ArrayValidator;
+import com.victoriasemkina.validator.infra.schema.ObjectValidator;
+import com.victoriasemkina.validator.infra.schema.PrimitiveValidator;
+import com.victoriasemkina.validator.infra.schema.ValidationContext;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short, fixed workloads for the performance gate ({@link PerfGate}): each benchmark validates
+ * a known number of JSON nodes, so its time and allocation per operation can be normalized
+ * per node and compared against the checked-in baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class NodeCostBenchmark {
+
+    /** Payload size of every workload */
+    static final long PAYLOAD_BYTES = 64 * 1024;
+
+    /** Share of invalid records, so the issue-reporting path is exercised too */
+    static final double ERROR_RATE = 0.01;
+
+    private AnnotationConfigApplicationContext beans;
+    private ArrayValidator arrayValidator;
+    private ObjectValidator objectValidator;
+    private PrimitiveValidator primitiveValidator;
+    private ResponseValidatorService responseValidator;
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        beans = ValidatorBeans.create();
+        arrayValidator = beans.getBean(ArrayValidator.class);
+        objectValidator = beans.getBean(ObjectValidator.class);
+        primitiveValidator = beans.getBean(PrimitiveValidator.class);
+        responseValidator = beans.getBean(ResponseValidatorService.class);
+        workload = Workload.create();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        beans.close();
+    }
+
+    /** Array of small records: array, object and primitive validators */
+    @Benchmark
+    public List<ValidationIssue> arrayValidator() {
+        return arrayValidator.validate(workload.array, workload.arraySchema, new ValidationContext("$", "/bench", "GET"));
+    }
+
+    /** Wide records one by one: object and primitive validators */
+    @Benchmark
+    public void objectValidator(Blackhole blackhole) {
+        ValidationContext context = new ValidationContext("$", "/bench", "GET");
+        Schema<?> itemSchema = workload.wideSchema.getItems();
+        for (JsonNode record : workload.wide) {
+            blackhole.consume(objectValidator.validate(record, itemSchema, context));
+        }
+    }
+
+    /** Leaf values of the wide records */
+    @Benchmark
+    public void primitiveValidator(Blackhole blackhole) {
+        ValidationContext context = new ValidationContext("$", "/bench", "GET");
+        List<JsonNode> nodes = workload.leafNodes;
+        List<Schema<?>> schemas = workload.leafSchemas;
+        for (int i = 0; i < nodes.size(); i++) {
+            blackhole.consume(primitiveValidator.validate(nodes.get(i), schemas.get(i), context));
+        }
+    }
+
+    /** Deeply nested records from the raw body, JSON parsing included */
+    @Benchmark
+    public List<ValidationIssue> responseValidatorService() {
+        return responseValidator.validateResponseBody(workload.deepJson, workload.deepSchema, "/bench");
+    }
+
+    /**
+     * Deterministic documents of the benchmarks and the number of nodes each operation validates
+     */
+    static final class Workload {
+
+        private ArraySchema arraySchema;
+        private JsonNode array;
+        private ArraySchema wideSchema;
+        private JsonNode wide;
+        private final List<JsonNode> leafNodes = new ArrayList<>();
+        private final List<Schema<?>> leafSchemas = new ArrayList<>();
+        private ArraySchema deepSchema;
+        private String deepJson;
+        private long deepNodes;
+
+        static Workload create() throws IOException {
+            ObjectMapper mapper = new ObjectMapper();
+            Workload workload = new Workload();
+
+            workload.arraySchema = SyntheticPayloads.schema(SyntheticPayloads.Shape.ARRAY);
+            workload.array = mapper.readTree(
+                    SyntheticPayloads.generate(SyntheticPayloads.Shape.ARRAY, PAYLOAD_BYTES, ERROR_RATE));
+
+            workload.wideSchema = SyntheticPayloads.schema(SyntheticPayloads.Shape.WIDE);
+            workload.wide = mapper.readTree(
+                    SyntheticPayloads.generate(SyntheticPayloads.Shape.WIDE, PAYLOAD_BYTES, ERROR_RATE));
+            for (JsonNode record : workload.wide) {
+                workload.collectLeaves(record, workload.wideSchema.getItems());
+            }
+
+            workload.deepSchema = SyntheticPayloads.schema(SyntheticPayloads.Shape.DEEP);
+            workload.deepJson = SyntheticPayloads.generate(SyntheticPayloads.Shape.DEEP, PAYLOAD_BYTES, ERROR_RATE);
+            workload.deepNodes = countNodes(mapper.readTree(workload.deepJson));
+            return workload;
+        }
+
+        /**
+         * JSON nodes validated by one operation of the benchmark method
+         */
+        long nodesPerOperation(String benchmark) {
+            return switch (benchmark) {
+                case "arrayValidator" -> countNodes(array);
+                case "objectValidator" -> countNodes(wide) - 1;
+                case "primitiveValidator" -> leafNodes.size();
+                case "responseValidatorService" -> deepNodes;
+                default -> throw new IllegalArgumentException("Unknown benchmark: " + benchmark);
+            };
+        }
+
+        private static long countNodes(JsonNode node) {
+            long count = 1;
+            for (JsonNode child : node) {
+                count += countNodes(child);
+            }
+            return count;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private void collectLeaves(JsonNode node, Schema<?> schema) {
+            Map<String, Schema> properties = schema.getProperties();
+            if (properties == null) {
+                leafNodes.add(node);
+                leafSchemas.add(schema);
+                return;
+            }
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                JsonNode child = node.get(property.getKey());
+                if (child != null) {
+                    collectLeaves(child, property.getValue());
+                }
+            }
+        }
+    }
+}
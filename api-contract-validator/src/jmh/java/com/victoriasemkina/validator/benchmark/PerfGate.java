@@ -0,0 +1,163 @@
+package com.victoriasemkina.validator.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+
+/**
+ * Performance gate of the build: runs {@link NodeCostBenchmark}, normalizes time and
+ * allocation per validated JSON node and fails when either grows beyond the tolerance
+ * over the checked-in baseline.
+ * <p>
+ * Allocation per node hardly depends on the machine, so its tolerance is tight; time per node
+ * does, so its tolerance is loose and the baseline should come from the machine that runs
+ * the gate. {@code --update} rewrites the baseline with the measured values.
+ */
+@Command(
+        name = "perf-gate",
+        description = "Compares ns and bytes per validated node against the baseline",
+        mixinStandardHelpOptions = true
+)
+public class PerfGate implements Callable<Integer> {
+
+    private static final String NS_PER_NODE = "ns-per-node";
+    private static final String BYTES_PER_NODE = "bytes-per-node";
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    @Option(names = "--baseline", required = true, description = "Baseline properties file")
+    private Path baselineFile;
+
+    @Option(names = "--time-tolerance", description = "Allowed growth of ns per node, e.g. 0.3 = 30% (default: 0.3)")
+    private double timeTolerance = 0.3;
+
+    @Option(names = "--alloc-tolerance", description = "Allowed growth of bytes per node (default: 0.1)")
+    private double allocTolerance = 0.1;
+
+    @Option(names = "--update", description = "Write the measured values to the baseline instead of comparing")
+    private boolean update;
+
+    public static void main(String[] args) {
+        System.exit(new CommandLine(new PerfGate()).execute(args));
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(NodeCostBenchmark.class.getName() + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        NodeCostBenchmark.Workload workload = NodeCostBenchmark.Workload.create();
+        Map<String, Double> measured = new TreeMap<>();
+        for (RunResult result : results) {
+            String label = result.getParams().getBenchmark();
+            String benchmark = label.substring(label.lastIndexOf('.') + 1);
+            long nodes = workload.nodesPerOperation(benchmark);
+
+            Result<?> alloc = result.getSecondaryResults().get(ALLOC_NORM);
+            measured.put(benchmark + "." + NS_PER_NODE, result.getPrimaryResult().getScore() / nodes);
+            measured.put(benchmark + "." + BYTES_PER_NODE, alloc != null ? alloc.getScore() / nodes : Double.NaN);
+        }
+
+        if (update) {
+            if (measured.values().stream().anyMatch(value -> !Double.isFinite(value))) {
+                System.out.println("Baseline not updated: the " + ALLOC_NORM + " result of the GC profiler is missing");
+                return 1;
+            }
+            writeBaseline(measured);
+            System.out.println("Baseline updated: " + baselineFile);
+            return 0;
+        }
+        return compare(readBaseline(), measured) ? 0 : 1;
+    }
+
+    /**
+     * Prints the comparison table. A metric of the baseline that was not measured fails the
+     * gate, as a missing measurement could hide any regression.
+     *
+     * @return true when every baseline metric was measured and none regressed beyond the tolerance
+     */
+    private boolean compare(Properties baseline, Map<String, Double> measured) {
+        boolean passed = true;
+        System.out.printf(Locale.ROOT, "%n%-42s %12s %12s %9s  %s%n", "metric", "baseline", "measured", "change", "status");
+        for (String metric : new TreeSet<>(baseline.stringPropertyNames())) {
+            if (!measured.containsKey(metric)) {
+                System.out.printf(Locale.ROOT, "%-42s %12s %12s %9s  %s%n",
+                        metric, baseline.getProperty(metric), "-", "-", "NOT MEASURED");
+                passed = false;
+            }
+        }
+        for (Map.Entry<String, Double> entry : measured.entrySet()) {
+            String metric = entry.getKey();
+            double value = entry.getValue();
+            String expected = baseline.getProperty(metric);
+            if (expected == null) {
+                System.out.printf(Locale.ROOT, "%-42s %12s %12.2f %9s  %s%n", metric, "-", value, "-", "NO BASELINE");
+                continue;
+            }
+            if (!Double.isFinite(value)) {
+                // The GC profiler reports no allocation on some JVMs; NaN would compare as no regression
+                System.out.printf(Locale.ROOT, "%-42s %12s %12s %9s  %s%n", metric, expected, "-", "-", "NOT MEASURED");
+                passed = false;
+                continue;
+            }
+
+            double reference = Double.parseDouble(expected);
+            double tolerance = metric.endsWith(BYTES_PER_NODE) ? allocTolerance : timeTolerance;
+            // Half a unit of slack keeps near-zero values from failing on noise
+            boolean regressed = value > reference * (1 + tolerance) + 0.5;
+            double change = reference > 0 ? (value - reference) / reference : 0;
+            System.out.printf(Locale.ROOT, "%-42s %12.2f %12.2f %+8.1f%%  %s%n",
+                    metric, reference, value, change * 100, regressed ? "REGRESSION" : "ok");
+            passed &= !regressed;
+        }
+
+        if (!passed) {
+            System.out.printf(Locale.ROOT, "%nPerformance gate failed: time tolerance %.0f%%, allocation tolerance %.0f%%.%n"
+                            + "If the change is intended, update the baseline with --update; "
+                            + "a metric NOT MEASURED needs the GC profiler and every benchmark of the baseline.%n",
+                    timeTolerance * 100, allocTolerance * 100);
+        }
+        return passed;
+    }
+
+    private Properties readBaseline() throws IOException {
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(baselineFile, StandardCharsets.UTF_8)) {
+            baseline.load(reader);
+        }
+        return baseline;
+    }
+
+    private void writeBaseline(Map<String, Double> measured) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(baselineFile, StandardCharsets.UTF_8)) {
+            writer.write("# Performance gate baseline: time (ns) and allocation (bytes) per validated JSON node\n");
+            writer.write("# of the NodeCostBenchmark workloads. Regenerate with:\n");
+            writer.write("#   mvn -Pperf-gate verify -Dperf.args=--update\n");
+            for (Map.Entry<String, Double> entry : measured.entrySet()) {
+                writer.write(String.format(Locale.ROOT, "%s=%.2f%n", entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+}
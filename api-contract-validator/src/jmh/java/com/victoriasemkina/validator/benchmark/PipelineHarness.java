@@ -0,0 +1,277 @@
+package com.victoriasemkina.validator.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.ValidatorApplication;
+import com.victoriasemkina.validator.domain.model.LatencyHistogram;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ReportGenerator;
+import com.victoriasemkina.validator.domain.service.ContractValidatorService;
+import com.victoriasemkina.validator.infra.generator.GenerationOptions;
+import com.victoriasemkina.validator.infra.generator.PayloadGenerator;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import com.victoriasemkina.validator.infra.report.ReportGeneratorFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end throughput of the whole pipeline — specification parsing, validation of every
+ * endpoint and an HTML report — against an in-process API stub, so results do not depend on
+ * the network or public test APIs.
+ *
+ * <p>The stub serves {@code /resources/r<N>} endpoints returning arrays of records of the
+ * requested size, a share of them with schema violations, after an artificial latency.
+ * For each concurrency level the harness reports endpoints per second, median and p99 run
+ * time and the peak heap usage.
+ */
+@Command(
+        name = "pipeline-harness",
+        description = "Runs the full validation pipeline against an embedded API stub",
+        mixinStandardHelpOptions = true
+)
+public class PipelineHarness implements Callable<Integer> {
+
+    private static final String PATH_PREFIX = "/resources/r";
+
+    @Option(names = "--endpoints", description = "Endpoints in the generated specification (default: 200)")
+    private int endpoints = 200;
+
+    @Option(names = "--size", description = "Response size per endpoint, e.g. 4KB, 1MB (default: 16KB)")
+    private String size = "16KB";
+
+    @Option(names = "--latency-ms", description = "Artificial server latency per response (default: 5)")
+    private int latencyMs = 5;
+
+    @Option(names = "--broken", description = "Share of endpoints serving invalid payloads, 0 to 1 (default: 0.2)")
+    private double brokenShare = 0.2;
+
+    @Option(names = "--concurrency", split = ",", description = "Concurrency levels to measure (default: 1,4,16)")
+    private List<Integer> concurrencyLevels = List.of(1, 4, 16);
+
+    @Option(names = "--warmup", description = "Unmeasured runs per concurrency level (default: 2)")
+    private int warmupRuns = 2;
+
+    @Option(names = "--runs", description = "Measured runs per concurrency level (default: 10)")
+    private int measuredRuns = 10;
+
+    public static void main(String[] args) {
+        // Without TCP_NODELAY the stub's header and body writes hit the 40 ms delayed-ACK stall
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        System.exit(new CommandLine(new PipelineHarness()).execute(args));
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        long brokenEvery = brokenShare > 0 ? Math.max(1, Math.round(1 / brokenShare)) : 0;
+
+        Path workDir = Files.createTempDirectory("pipeline-harness");
+        Path specFile = workDir.resolve("stub-api.yaml");
+        Files.writeString(specFile, specification(endpoints));
+        String reportPath = workDir.resolve("report.html").toString();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ValidatorApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                // Command-line properties take precedence over application.properties
+                .run("--logging.level.com.victoriasemkina.validator=WARN")) {
+            // Stub bodies follow the specification the validator checks against
+            OpenApiParserService parser = context.getBean(OpenApiParserService.class);
+            Schema<?> schema = parser.parse(specFile.toString()).getPaths().get(PATH_PREFIX + 0).getGet()
+                    .getResponses().get("200").getContent().get("application/json").getSchema();
+            long payloadBytes = SyntheticPayloads.parseSize(size);
+            PayloadGenerator generator = context.getBean(PayloadGenerator.class);
+            byte[] validBody = generate(generator, schema, payloadBytes, 0);
+            byte[] brokenBody = generate(generator, schema, payloadBytes, 0.01);
+
+            ExecutorService serverThreads = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "api-stub");
+                thread.setDaemon(true);
+                return thread;
+            });
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/resources", exchange -> {
+                int index = Integer.parseInt(exchange.getRequestURI().getPath().substring(PATH_PREFIX.length()));
+                boolean broken = brokenEvery > 0 && index % brokenEvery == 0;
+                respond(exchange, broken ? brokenBody : validBody);
+            });
+            server.setExecutor(serverThreads);
+            server.start();
+            try {
+                String baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+
+                Pipeline pipeline = new Pipeline(
+                        parser,
+                        context.getBean(ContractValidatorService.class),
+                        context.getBean(ReportGeneratorFactory.class).getGenerator(reportPath),
+                        specFile.toString(), baseUrl, reportPath);
+
+                System.out.printf(Locale.ROOT, "Pipeline: %d endpoints, %s responses, %d ms latency, %.0f%% broken%n",
+                        endpoints, size, latencyMs, brokenShare * 100);
+                System.out.printf(Locale.ROOT, "%12s %14s %12s %12s %14s%n",
+                        "concurrency", "endpoints/s", "p50 run", "p99 run", "peak heap MB");
+                for (int concurrency : concurrencyLevels) {
+                    measure(pipeline, concurrency);
+                }
+            } finally {
+                server.stop(0);
+                serverThreads.shutdownNow();
+            }
+        } finally {
+            Files.deleteIfExists(Path.of(reportPath));
+            Files.deleteIfExists(specFile);
+            Files.deleteIfExists(workDir);
+        }
+        return 0;
+    }
+
+    private void measure(Pipeline pipeline, int concurrency) throws IOException {
+        for (int i = 0; i < warmupRuns; i++) {
+            pipeline.run(concurrency);
+        }
+
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        LatencyHistogram runTimes = new LatencyHistogram();
+        long totalNanos = 0;
+        for (int i = 0; i < measuredRuns; i++) {
+            long started = System.nanoTime();
+            pipeline.run(concurrency);
+            long elapsed = System.nanoTime() - started;
+            runTimes.recordNanos(elapsed);
+            totalNanos += elapsed;
+        }
+
+        // Sum of per-pool peaks: an upper bound of the heap in use at any moment
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        double endpointsPerSecond = (double) endpoints * measuredRuns / (totalNanos / 1e9);
+
+        System.out.printf(Locale.ROOT, "%12d %14.1f %12s %12s %14.1f%n",
+                concurrency,
+                endpointsPerSecond,
+                LatencyHistogram.formatMicros(runTimes.getPercentileMicros(50)),
+                LatencyHistogram.formatMicros(runTimes.getPercentileMicros(99)),
+                peakHeap / (1024.0 * 1024.0));
+    }
+
+    private static byte[] generate(PayloadGenerator generator, Schema<?> schema, long bytes, double mutationRate)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) bytes + 1024);
+        generator.generate(schema, out, GenerationOptions.builder()
+                .targetBytes(bytes)
+                .mutationRate(mutationRate)
+                .build());
+        return out.toByteArray();
+    }
+
+    private void respond(HttpExchange exchange, byte[] body) throws IOException {
+        try {
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * OpenAPI document with {@code count} GET endpoints sharing one record schema
+     */
+    private static String specification(int count) {
+        StringBuilder yaml = new StringBuilder("""
+                openapi: 3.0.3
+                info:
+                  title: Pipeline harness stub
+                  version: 1.0.0
+                paths:
+                """);
+        for (int i = 0; i < count; i++) {
+            yaml.append("  ").append(PATH_PREFIX).append(i).append(":\n").append("""
+                        get:
+                          responses:
+                            '200':
+                              description: Records
+                              content:
+                                application/json:
+                                  schema:
+                                    type: array
+                                    items:
+                                      $ref: '#/components/schemas/Record'
+                    """);
+        }
+        yaml.append("""
+                components:
+                  schemas:
+                    Record:
+                      type: object
+                      required: [id, name, email]
+                      properties:
+                        id:
+                          type: integer
+                        name:
+                          type: string
+                        email:
+                          type: string
+                        active:
+                          type: boolean
+                        tags:
+                          type: array
+                          items:
+                            type: string
+                """);
+        return yaml.toString();
+    }
+
+    /**
+     * One pass of the pipeline as the {@code validate} command runs it
+     */
+    private record Pipeline(OpenApiParserService parser,
+                            ContractValidatorService validator,
+                            ReportGenerator reportGenerator,
+                            String specPath,
+                            String baseUrl,
+                            String reportPath) {
+
+        void run(int concurrency) throws IOException {
+            OpenAPI openAPI = parser.parse(specPath);
+
+            ValidationResult result = validator.validate(openAPI, baseUrl,
+                    ValidationOptions.builder().concurrency(concurrency).build(), new ValidationResult());
+
+            reportGenerator.generate(result, reportPath);
+        }
+    }
+}
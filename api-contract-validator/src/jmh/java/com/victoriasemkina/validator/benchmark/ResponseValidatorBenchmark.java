@@ -0,0 +1,71 @@
+package com.victoriasemkina.validator.benchmark;
+
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.service.ResponseValidatorService;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end body validation: JSON parsing plus schema validation of a whole response,
+ * as done for every checked endpoint.
+ * <p>
+ * Scores are whole payloads per second; {@code -prof gc} (on by default in the {@code jmh} profile)
+ * adds the allocation rate per second and per operation. Narrow the matrix with e.g.
+ * {@code -p size=100MB -p shape=ARRAY}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ResponseValidatorBenchmark {
+
+    @Param({"1KB", "1MB", "100MB"})
+    public String size;
+
+    @Param({"WIDE", "DEEP", "ARRAY"})
+    public SyntheticPayloads.Shape shape;
+
+    @Param({"0", "0.01", "0.5"})
+    public double errorRate;
+
+    private AnnotationConfigApplicationContext beans;
+    private ResponseValidatorService service;
+    private ArraySchema schema;
+    private String body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        beans = ValidatorBeans.create();
+        service = beans.getBean(ResponseValidatorService.class);
+        schema = SyntheticPayloads.schema(shape);
+        body = SyntheticPayloads.generate(shape, SyntheticPayloads.parseSize(size), errorRate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        beans.close();
+    }
+
+    @Benchmark
+    public List<ValidationIssue> validateResponseBody() {
+        return service.validateResponseBody(body, schema, "/bench");
+    }
+}
@@ -0,0 +1,134 @@
+package com.victoriasemkina.validator.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.infra.schema.ArrayValidator;
+import com.victoriasemkina.validator.infra.schema.ObjectValidator;
+import com.victoriasemkina.validator.infra.schema.PrimitiveValidator;
+import com.victoriasemkina.validator.infra.schema.ValidationContext;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The individual {@code SchemaValidator}s on an already parsed document, without JSON parsing:
+ * the array validator over the whole document, the object validator per record and the
+ * primitive validator over the leaf values of the records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SchemaValidatorBenchmark {
+
+    /** Leaf values checked per primitive-validator invocation */
+    private static final int MAX_LEAVES = 4096;
+
+    @Param({"1KB", "1MB", "100MB"})
+    public String size;
+
+    @Param({"WIDE", "DEEP", "ARRAY"})
+    public SyntheticPayloads.Shape shape;
+
+    @Param({"0", "0.01", "0.5"})
+    public double errorRate;
+
+    private AnnotationConfigApplicationContext beans;
+    private ArrayValidator arrayValidator;
+    private ObjectValidator objectValidator;
+    private PrimitiveValidator primitiveValidator;
+
+    private ArraySchema schema;
+    private JsonNode document;
+    private final List<JsonNode> leafNodes = new ArrayList<>();
+    private final List<Schema<?>> leafSchemas = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        beans = ValidatorBeans.create();
+        arrayValidator = beans.getBean(ArrayValidator.class);
+        objectValidator = beans.getBean(ObjectValidator.class);
+        primitiveValidator = beans.getBean(PrimitiveValidator.class);
+
+        schema = SyntheticPayloads.schema(shape);
+        String json = SyntheticPayloads.generate(shape, SyntheticPayloads.parseSize(size), errorRate);
+        document = new ObjectMapper().readTree(json);
+
+        for (JsonNode record : document) {
+            collectLeaves(record, schema.getItems());
+            if (leafNodes.size() >= MAX_LEAVES) {
+                break;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        beans.close();
+    }
+
+    @Benchmark
+    public List<ValidationIssue> arrayValidator() {
+        return arrayValidator.validate(document, schema, new ValidationContext("$", "/bench", "GET"));
+    }
+
+    @Benchmark
+    public void objectValidator(Blackhole blackhole) {
+        ValidationContext context = new ValidationContext("$", "/bench", "GET");
+        Schema<?> itemSchema = schema.getItems();
+        for (JsonNode record : document) {
+            blackhole.consume(objectValidator.validate(record, itemSchema, context));
+        }
+    }
+
+    @Benchmark
+    public void primitiveValidator(Blackhole blackhole) {
+        ValidationContext context = new ValidationContext("$", "/bench", "GET");
+        for (int i = 0; i < leafNodes.size(); i++) {
+            blackhole.consume(primitiveValidator.validate(leafNodes.get(i), leafSchemas.get(i), context));
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void collectLeaves(JsonNode node, Schema<?> nodeSchema) {
+        if (leafNodes.size() >= MAX_LEAVES || nodeSchema == null) {
+            return;
+        }
+        if (primitiveValidator.supports(nodeSchema)) {
+            leafNodes.add(node);
+            leafSchemas.add(nodeSchema);
+            return;
+        }
+        Map<String, Schema> properties = nodeSchema.getProperties();
+        if (properties != null && node.isObject()) {
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                JsonNode child = node.get(property.getKey());
+                if (child != null) {
+                    collectLeaves(child, property.getValue());
+                }
+            }
+        }
+    }
+}
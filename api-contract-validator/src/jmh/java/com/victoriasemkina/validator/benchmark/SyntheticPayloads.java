@@ -0,0 +1,180 @@
+package com.victoriasemkina.validator.benchmark;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic response payloads for the benchmarks: a top-level array of records of the given
+ * shape, grown until it reaches the requested size, with a share of records made invalid.
+ */
+public final class SyntheticPayloads {
+
+    /** Record shapes */
+    public enum Shape {
+        /** Flat records with {@value #WIDE_FIELDS} fields */
+        WIDE,
+        /** Records nested {@value #DEEP_LEVELS} objects deep */
+        DEEP,
+        /** Many small records */
+        ARRAY
+    }
+
+    static final int WIDE_FIELDS = 100;
+    static final int DEEP_LEVELS = 24;
+
+    private SyntheticPayloads() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Parses sizes like {@code 1KB}, {@code 10MB}
+     */
+    static long parseSize(String size) {
+        String value = size.trim().toUpperCase();
+        if (value.endsWith("MB")) {
+            return Long.parseLong(value.substring(0, value.length() - 2)) * 1024 * 1024;
+        }
+        if (value.endsWith("KB")) {
+            return Long.parseLong(value.substring(0, value.length() - 2)) * 1024;
+        }
+        return Long.parseLong(value);
+    }
+
+    /**
+     * Builds a JSON array of at least {@code targetBytes}
+     *
+     * @param errorRate share of invalid records, 0 to 1
+     */
+    static String generate(Shape shape, long targetBytes, double errorRate) {
+        long errorEvery = errorRate > 0 ? Math.max(1, Math.round(1 / errorRate)) : 0;
+        StringBuilder json = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 16, targetBytes + 4096));
+        json.append('[');
+
+        int index = 0;
+        do {
+            if (index > 0) {
+                json.append(',');
+            }
+            boolean invalid = errorEvery > 0 && index % errorEvery == 0;
+            switch (shape) {
+                case WIDE -> appendWide(json, index, invalid);
+                case DEEP -> appendDeep(json, index, invalid);
+                case ARRAY -> appendSmall(json, index, invalid);
+            }
+            index++;
+        } while (json.length() < targetBytes);
+
+        return json.append(']').toString();
+    }
+
+    static ArraySchema schema(Shape shape) {
+        ArraySchema schema = new ArraySchema();
+        schema.setItems(switch (shape) {
+            case WIDE -> wideSchema();
+            case DEEP -> deepSchema(DEEP_LEVELS);
+            case ARRAY -> smallSchema();
+        });
+        return schema;
+    }
+
+    // ---- records ----
+
+    private static void appendWide(StringBuilder json, int index, boolean invalid) {
+        json.append('{');
+        // Invalid records lack the required f0 and carry a string in integer field f1
+        int first = invalid ? 1 : 0;
+        for (int field = first; field < WIDE_FIELDS; field++) {
+            if (field > first) {
+                json.append(',');
+            }
+            json.append("\"f").append(field).append("\":");
+            if (field % 2 == 1) {
+                if (invalid && field == 1) {
+                    json.append("\"oops\"");
+                } else {
+                    json.append(index + field);
+                }
+            } else {
+                json.append("\"value-").append(index).append('-').append(field).append('"');
+            }
+        }
+        json.append('}');
+    }
+
+    private static void appendDeep(StringBuilder json, int index, boolean invalid) {
+        for (int level = 0; level < DEEP_LEVELS; level++) {
+            json.append("{\"level\":").append(level).append(",\"name\":");
+            // Invalid records break the innermost level
+            if (invalid && level == DEEP_LEVELS - 1) {
+                json.append(index);
+            } else {
+                json.append("\"node-").append(index).append('"');
+            }
+            if (level < DEEP_LEVELS - 1) {
+                json.append(",\"child\":");
+            }
+        }
+        json.append("}".repeat(DEEP_LEVELS));
+    }
+
+    private static void appendSmall(StringBuilder json, int index, boolean invalid) {
+        json.append("{\"id\":");
+        if (invalid) {
+            json.append('"').append(index).append('"');
+        } else {
+            json.append(index);
+        }
+        json.append(",\"name\":\"user-").append(index).append('"');
+        if (!invalid) {
+            json.append(",\"email\":\"user").append(index).append("@example.com\"");
+        }
+        json.append(",\"active\":").append(index % 2 == 0)
+                .append(",\"tags\":[\"a\",\"b\"]}");
+    }
+
+    // ---- schemas ----
+
+    private static ObjectSchema wideSchema() {
+        ObjectSchema schema = new ObjectSchema();
+        List<String> required = new ArrayList<>();
+        for (int field = 0; field < WIDE_FIELDS; field++) {
+            schema.addProperty("f" + field, field % 2 == 1 ? new IntegerSchema() : new StringSchema());
+            if (field < 10) {
+                required.add("f" + field);
+            }
+        }
+        schema.setRequired(required);
+        return schema;
+    }
+
+    private static ObjectSchema deepSchema(int levels) {
+        ObjectSchema schema = new ObjectSchema();
+        schema.addProperty("level", new IntegerSchema());
+        schema.addProperty("name", new StringSchema());
+        schema.setRequired(new ArrayList<>(List.of("level", "name")));
+        if (levels > 1) {
+            schema.addProperty("child", deepSchema(levels - 1));
+        }
+        return schema;
+    }
+
+    private static ObjectSchema smallSchema() {
+        ArraySchema tags = new ArraySchema();
+        tags.setItems(new StringSchema());
+
+        ObjectSchema schema = new ObjectSchema();
+        schema.addProperty("id", new IntegerSchema());
+        schema.addProperty("name", new StringSchema());
+        schema.addProperty("email", new StringSchema());
+        schema.addProperty("active", new BooleanSchema());
+        schema.addProperty("tags", tags);
+        schema.setRequired(new ArrayList<>(List.of("id", "name", "email")));
+        return schema;
+    }
+}
@@ -0,0 +1,26 @@
+package com.victoriasemkina.validator.benchmark;
+
+import com.victoriasemkina.validator.domain.service.ResponseValidatorService;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Validators wired the same way as in the application, without the CLI and HTTP beans
+ */
+final class ValidatorBeans {
+
+    private ValidatorBeans() {
+        // Prevent instantiation
+    }
+
+    static AnnotationConfigApplicationContext create() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(SimpleMeterRegistry.class);
+        context.registerBean(ValidatorMetrics.class);
+        context.scan("com.victoriasemkina.validator.infra.schema");
+        context.registerBean(ResponseValidatorService.class);
+        context.refresh();
+        return context;
+    }
+}
@@ -0,0 +1,54 @@
+package com.victoriasemkina.validator;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import picocli.CommandLine;
+import com.victoriasemkina.validator.cli.command.MonitorCommand;
+import com.victoriasemkina.validator.cli.command.ProxyCommand;
+import com.victoriasemkina.validator.cli.command.SpringCommandFactory;
+import com.victoriasemkina.validator.cli.command.SubmitCommand;
+import com.victoriasemkina.validator.cli.command.TailCommand;
+import com.victoriasemkina.validator.cli.command.ValidatorCommand;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Main application entry point.
+ * Starts Spring context and delegates to Picocli command.
+ */
+@SpringBootApplication  // ← Добавляем эту аннотацию для сканирования компонентов
+public class ValidatorApplication {
+
+    /** Resident modes that log their final report from their own shutdown hooks */
+    private static final Set<String> RESIDENT_COMMANDS =
+            Set.of(TailCommand.NAME, ProxyCommand.NAME, MonitorCommand.NAME);
+
+    public static void main(String[] args) {
+        // Thin client for a resident daemon: no Spring context needed
+        if (args.length > 0 && SubmitCommand.NAME.equals(args[0])) {
+            int exitCode = new CommandLine(new SubmitCommand())
+                    .execute(Arrays.copyOfRange(args, 1, args.length));
+            System.exit(exitCode);
+        }
+
+        // Start minimal Spring context (no web server)
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ValidatorApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false);
+        if (args.length > 0 && RESIDENT_COMMANDS.contains(args[0])) {
+            // Otherwise Logback may stop on Ctrl+C before the final report is logged
+            builder.properties("logging.register-shutdown-hook=false");
+        }
+        ConfigurableApplicationContext context = builder.run(args);
+
+        // Get command bean from Spring context (with injected dependencies)
+        ValidatorCommand command = context.getBean(ValidatorCommand.class);
+
+        // Execute CLI command (subcommands are resolved from the Spring context)
+        int exitCode = new CommandLine(command, context.getBean(SpringCommandFactory.class)).execute(args);
+        System.exit(exitCode);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.victoriasemkina.validator.cli.command;
+
+import com.victoriasemkina.validator.cli.input.ByteSizeConverter;
+import com.victoriasemkina.validator.config.ValidationConstants;
+import com.victoriasemkina.validator.infra.generator.GenerationOptions;
+import com.victoriasemkina.validator.infra.generator.GenerationStats;
+import com.victoriasemkina.validator.infra.generator.PayloadGenerator;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine.ArgGroup;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+@Command(
+        name = "generate",
+        description = "Generates a synthetic JSON payload from a schema of the specification",
+        mixinStandardHelpOptions = true
+)
+@Component
+@Slf4j
+public class GenerateCommand implements Callable<Integer> {
+
+    @Option(
+            names = {"-s", "--spec"},
+            required = true,
+            description = "Path to OpenAPI spec file (YAML/JSON)"
+    )
+    private String specPath;
+
+    @ArgGroup(multiplicity = "1")
+    private SchemaSource source;
+
+    static class SchemaSource {
+
+        @Option(
+                names = {"--endpoint"},
+                description = "Endpoint path whose GET 200 JSON response schema is used, e.g. /users"
+        )
+        String endpoint;
+
+        @Option(
+                names = {"--schema"},
+                description = "Name of a schema in components/schemas"
+        )
+        String schemaName;
+    }
+
+    @Option(
+            names = {"-o", "--output"},
+            required = true,
+            description = "Output file for the generated JSON"
+    )
+    private String outputPath;
+
+    @Option(
+            names = {"--size"},
+            converter = ByteSizeConverter.class,
+            description = "Approximate payload size, e.g. 64KB, 100MB; the outermost array is repeated (default: single instance)"
+    )
+    private long targetBytes = 0;
+
+    @Option(
+            names = {"--mutation-rate"},
+            description = "Share of objects made invalid on purpose, 0 to 1 (default: 0)"
+    )
+    private double mutationRate = 0;
+
+    @Option(
+            names = {"--seed"},
+            description = "Seed for reproducible output (default: 42)"
+    )
+    private long seed = 42;
+
+    @Autowired
+    private OpenApiParserService parserService;
+
+    @Autowired
+    private PayloadGenerator payloadGenerator;
+
+    @Override
+    public Integer call() {
+        try {
+            if (mutationRate < 0 || mutationRate > 1) {
+                throw new IllegalArgumentException("--mutation-rate must be between 0 and 1");
+            }
+
+            OpenAPI openAPI = parserService.parse(specPath);
+            Schema<?> schema = source.endpoint != null
+                    ? responseSchema(openAPI, source.endpoint)
+                    : componentSchema(openAPI, source.schemaName);
+
+            GenerationOptions options = GenerationOptions.builder()
+                    .targetBytes(targetBytes)
+                    .mutationRate(mutationRate)
+                    .seed(seed)
+                    .build();
+            GenerationStats stats;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(outputPath)))) {
+                stats = payloadGenerator.generate(schema, out, options);
+            }
+
+            log.info("🧪 Payload saved to: {} ({} bytes, {} objects, {} mutated)",
+                    outputPath, stats.bytes(), stats.objects(), stats.mutations());
+            return 0;
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid arguments: {}", e.getMessage());
+            return 1;
+        } catch (Exception e) {
+            log.error("❌ Generation failed: {}", e.getMessage(), e);
+            return 1;
+        }
+    }
+
+    private Schema<?> responseSchema(OpenAPI openAPI, String endpoint) {
+        PathItem pathItem = openAPI.getPaths() != null ? openAPI.getPaths().get(endpoint) : null;
+        Operation operation = pathItem != null ? pathItem.getGet() : null;
+        if (operation == null) {
+            throw new IllegalArgumentException("No GET operation for " + endpoint + " in " + specPath);
+        }
+        ApiResponse response = operation.getResponses() != null
+                ? operation.getResponses().get(ValidationConstants.STATUS_200) : null;
+        MediaType mediaType = response != null && response.getContent() != null
+                ? response.getContent().get(ValidationConstants.CONTENT_TYPE_JSON) : null;
+        if (mediaType == null || mediaType.getSchema() == null) {
+            throw new IllegalArgumentException("No JSON schema for the 200 response of GET " + endpoint);
+        }
+        return mediaType.getSchema();
+    }
+
+    private Schema<?> componentSchema(OpenAPI openAPI, String name) {
+        Schema<?> schema = openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null
+                ? openAPI.getComponents().getSchemas().get(name) : null;
+        if (schema == null) {
+            throw new IllegalArgumentException("Schema not found in components/schemas: " + name);
+        }
+        return schema;
+    }
+}
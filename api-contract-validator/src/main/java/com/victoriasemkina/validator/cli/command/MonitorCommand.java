@@ -0,0 +1,90 @@
+package com.victoriasemkina.validator.cli.command;
+
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.domain.model.MonitorTarget;
+import com.victoriasemkina.validator.domain.service.ContractMonitorService;
+import com.victoriasemkina.validator.infra.manifest.JobManifestReader;
+import com.victoriasemkina.validator.infra.metrics.MetricsExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@Command(
+        name = MonitorCommand.NAME,
+        description = "Continuously validates configured targets, each on its own interval",
+        mixinStandardHelpOptions = true
+)
+@Component
+@Slf4j
+public class MonitorCommand implements Callable<Integer> {
+
+    public static final String NAME = "monitor";
+
+    @Option(
+            names = {"-c", "--config"},
+            required = true,
+            description = "Targets file: JSON array of {name, spec, baseUrl, intervalSeconds, jitterPercent}"
+    )
+    private String configPath;
+
+    @Option(
+            names = {"--max-concurrency"},
+            description = "Maximum number of targets validated at the same time (default: 2)"
+    )
+    private int maxConcurrency = 2;
+
+    @Option(
+            names = {"--metrics-port"},
+            description = "Serve Prometheus metrics on http://localhost:<port>/metrics"
+    )
+    private Integer metricsPort;
+
+    @Autowired
+    private JobManifestReader manifestReader;
+
+    @Autowired
+    private MetricsExporter metricsExporter;
+
+    @Autowired
+    private ContractMonitorService monitorService;
+
+    @Override
+    public Integer call() {
+        HttpServer metricsServer = null;
+        try {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("--max-concurrency must be at least 1");
+            }
+
+            List<MonitorTarget> targets = manifestReader.read(configPath, MonitorTarget.class);
+            if (targets.isEmpty()) {
+                throw new IllegalArgumentException("No targets configured in " + configPath);
+            }
+
+            if (metricsPort != null) {
+                metricsServer = metricsExporter.startEndpoint(metricsPort);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(monitorService::stop, "monitor-shutdown"));
+            monitorService.run(targets, maxConcurrency);
+            return 0;
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid arguments: {}", e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (Exception e) {
+            log.error("❌ Monitor failed: {}", e.getMessage(), e);
+            return 1;
+        } finally {
+            if (metricsServer != null) {
+                metricsServer.stop(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.victoriasemkina.validator.cli.command;
+
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.cli.input.ByteSizeConverter;
+import com.victoriasemkina.validator.domain.service.ReplayValidatorService;
+import com.victoriasemkina.validator.infra.metrics.MetricsExporter;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import com.victoriasemkina.validator.infra.proxy.ValidatingProxy;
+import com.victoriasemkina.validator.infra.sampling.AsyncSampleValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+@Command(
+        name = ProxyCommand.NAME,
+        description = "Runs a reverse proxy in front of a service and validates a sample of its responses in the background",
+        mixinStandardHelpOptions = true
+)
+@Component
+@Slf4j
+public class ProxyCommand implements Callable<Integer> {
+
+    public static final String NAME = "proxy";
+
+    @Option(
+            names = {"-s", "--spec"},
+            required = true,
+            description = "Path to OpenAPI spec file (YAML/JSON)"
+    )
+    private String specPath;
+
+    @Option(
+            names = {"-u", "--upstream"},
+            required = true,
+            description = "Base URL of the proxied service, e.g. http://localhost:8081"
+    )
+    private URI upstream;
+
+    @Option(
+            names = {"--port"},
+            description = "Port to listen on (default: 8080)"
+    )
+    private int port = 8080;
+
+    @Option(
+            names = {"--bind"},
+            description = "Address to listen on (default: 0.0.0.0)"
+    )
+    private String bindAddress = "0.0.0.0";
+
+    @Option(
+            names = {"--sample-rate"},
+            description = "Share of responses validated, 0 to 1 (default: 0.1)"
+    )
+    private double sampleRate = 0.1;
+
+    @Option(
+            names = {"--workers"},
+            description = "Validation threads (default: 2)"
+    )
+    private int workers = 2;
+
+    @Option(
+            names = {"--queue"},
+            description = "Samples waiting for validation before new ones are dropped (default: 1000)"
+    )
+    private int queueCapacity = 1000;
+
+    @Option(
+            names = {"--max-sample-bytes"},
+            converter = ByteSizeConverter.class,
+            description = "Larger responses, compressed or decoded, are forwarded but not validated, "
+                    + "e.g. 512KB (default: 1MB)"
+    )
+    private long maxSampleBytes = 1024 * 1024;
+
+    @Option(
+            names = {"--connect-timeout"},
+            description = "Upstream connect timeout in seconds (default: 5)"
+    )
+    private int connectTimeoutSeconds = 5;
+
+    @Option(
+            names = {"--metrics-port"},
+            description = "Serve Prometheus metrics on http://localhost:<port>/metrics"
+    )
+    private Integer metricsPort;
+
+    @Autowired
+    private OpenApiParserService parserService;
+
+    @Autowired
+    private ReplayValidatorService replayService;
+
+    @Autowired
+    private ValidatorMetrics metrics;
+
+    @Autowired
+    private MetricsExporter metricsExporter;
+
+    @Override
+    public Integer call() {
+        HttpServer metricsServer = null;
+        try {
+            validateArguments();
+
+            OperationRouter router = OperationRouter.compile(parserService.parse(specPath));
+            log.info("📋 {} operations routed, sampling {}% of responses", router.size(), sampleRate * 100);
+
+            if (metricsPort != null) {
+                metricsServer = metricsExporter.startEndpoint(metricsPort);
+            }
+            try (AsyncSampleValidator sampler = new AsyncSampleValidator(replayService, metrics, router,
+                    sampleRate, workers, queueCapacity, (int) maxSampleBytes);
+                 ValidatingProxy ignored = ValidatingProxy.start(new InetSocketAddress(bindAddress, port), upstream,
+                         sampler, (int) maxSampleBytes, Duration.ofSeconds(connectTimeoutSeconds))) {
+                CountDownLatch stopped = new CountDownLatch(1);
+                Runtime.getRuntime().addShutdownHook(new Thread(stopped::countDown, "validator-proxy-shutdown"));
+                stopped.await();
+            }
+            return 0;
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid arguments: {}", e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        } catch (Exception e) {
+            log.error("❌ Proxy failed: {}", e.getMessage(), e);
+            return 1;
+        } finally {
+            if (metricsServer != null) {
+                metricsServer.stop(0);
+            }
+        }
+    }
+
+    private void validateArguments() {
+        if (upstream.getScheme() == null || upstream.getHost() == null) {
+            throw new IllegalArgumentException("--upstream must be an absolute http(s) URL: " + upstream);
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("--sample-rate must be between 0 and 1");
+        }
+        if (workers < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("--workers and --queue must be at least 1");
+        }
+        if (maxSampleBytes < 0 || maxSampleBytes > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("--max-sample-bytes must be below 2GB");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.victoriasemkina.validator.cli.command;
+
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ExchangeSource;
+import com.victoriasemkina.validator.domain.port.ReportGenerator;
+import com.victoriasemkina.validator.domain.port.ReportStream;
+import com.victoriasemkina.validator.domain.port.StreamingReportGenerator;
+import com.victoriasemkina.validator.domain.service.ReplayValidatorService;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import com.victoriasemkina.validator.infra.replay.CaptureReader;
+import com.victoriasemkina.validator.infra.report.ReportGeneratorFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@Command(
+        name = "replay",
+        description = "Validates recorded traffic (HAR or NDJSON captures) against the specification, offline",
+        mixinStandardHelpOptions = true
+)
+@Component
+@Slf4j
+public class ReplayCommand implements Callable<Integer> {
+
+    @Option(
+            names = {"-s", "--spec"},
+            required = true,
+            description = "Path to OpenAPI spec file (YAML/JSON)"
+    )
+    private String specPath;
+
+    @Option(
+            names = {"-i", "--input"},
+            required = true,
+            arity = "1..*",
+            description = "Capture files: .har, or NDJSON lines of {method, path|url, status, body}"
+    )
+    private List<Path> inputs;
+
+    @Option(
+            names = {"-o", "--output"},
+            description = "Output file for report (console if not specified)"
+    )
+    private String outputPath;
+
+    @Option(
+            names = {"--concurrency"},
+            description = "Validation threads (default: number of CPUs)"
+    )
+    private int concurrency = Runtime.getRuntime().availableProcessors();
+
+    @Option(
+            names = {"--max-examples"},
+            description = "Keep at most N examples of identical issues, counting the rest (default: 100)"
+    )
+    private int maxExamples = 100;
+
+    @Autowired
+    private OpenApiParserService parserService;
+
+    @Autowired
+    private ReplayValidatorService replayService;
+
+    @Autowired
+    private ReportGeneratorFactory reportGeneratorFactory;
+
+    @Override
+    public Integer call() {
+        try {
+            for (Path input : inputs) {
+                if (!Files.isRegularFile(input)) {
+                    throw new IllegalArgumentException("Capture file not found: " + input);
+                }
+            }
+
+            OperationRouter router = OperationRouter.compile(parserService.parse(specPath));
+            ReportGenerator generator = reportGeneratorFactory.getGenerator(outputPath);
+
+            ValidationResult result = new ValidationResult();
+            result.setBaseUrl(String.join(", ", inputs.stream().map(Path::toString).toList()));
+            result.setMaxExamplesPerGroup(Math.max(0, maxExamples));
+            try (ReportStream reportStream = generator instanceof StreamingReportGenerator streamingGenerator
+                    ? streamingGenerator.open(outputPath) : null) {
+                if (reportStream != null) {
+                    result.addListener(reportStream);
+                    result.setRetainIssues(false);
+                }
+
+                replay(router, result);
+
+                if (!(generator instanceof StreamingReportGenerator)) {
+                    generator.generate(result, outputPath);
+                }
+                if (outputPath != null && !outputPath.trim().isEmpty()) {
+                    log.info("📄 Report saved to: {}", outputPath);
+                }
+                return result.hasErrors() ? 1 : 0;
+            }
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid arguments: {}", e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        } catch (Exception e) {
+            log.error("❌ Replay failed: {}", e.getMessage(), e);
+            return 1;
+        }
+    }
+
+    private void replay(OperationRouter router, ValidationResult result) throws Exception {
+        log.info("🎞️ Replaying {} capture(s) against {} operations", inputs.size(), router.size());
+        try (ExchangeSource source = CaptureReader.openAll(inputs)) {
+            replayService.replay(router, source,
+                    ValidationOptions.builder().concurrency(Math.max(1, concurrency)).build(), result);
+        }
+    }
+}
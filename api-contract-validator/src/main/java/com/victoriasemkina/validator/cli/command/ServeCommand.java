@@ -0,0 +1,81 @@
+package com.victoriasemkina.validator.cli.command;
+
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.infra.daemon.JobProtocol;
+import com.victoriasemkina.validator.infra.daemon.JobServer;
+import com.victoriasemkina.validator.infra.metrics.MetricsExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.net.SocketAddress;
+import java.util.concurrent.Callable;
+
+@Command(
+        name = "serve",
+        description = "Keeps the validator resident and accepts validation jobs over a local socket",
+        mixinStandardHelpOptions = true
+)
+@Component
+@Slf4j
+public class ServeCommand implements Callable<Integer> {
+
+    @Option(
+            names = {"--socket"},
+            description = "Unix domain socket path (default: ${java.io.tmpdir}/api-contract-validator.sock)"
+    )
+    private String socketPath;
+
+    @Option(
+            names = {"--port"},
+            description = "Listen on localhost TCP port instead of a Unix domain socket"
+    )
+    private Integer port;
+
+    @Option(
+            names = {"--workers"},
+            description = "Number of jobs processed concurrently (default: number of CPUs)"
+    )
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    @Option(
+            names = {"--metrics-port"},
+            description = "Serve Prometheus metrics on http://localhost:<port>/metrics"
+    )
+    private Integer metricsPort;
+
+    @Autowired
+    private JobServer jobServer;
+
+    @Autowired
+    private MetricsExporter metricsExporter;
+
+    @Override
+    public Integer call() {
+        if (workers < 1) {
+            log.error("❌ Invalid arguments: --workers must be at least 1");
+            return 1;
+        }
+
+        SocketAddress address = JobProtocol.resolveAddress(socketPath, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(jobServer::stop, "validator-daemon-shutdown"));
+
+        HttpServer metricsServer = null;
+        try {
+            if (metricsPort != null) {
+                metricsServer = metricsExporter.startEndpoint(metricsPort);
+            }
+            jobServer.serve(address, workers);
+            return 0;
+        } catch (Exception e) {
+            log.error("❌ Daemon failed: {}", e.getMessage(), e);
+            return 1;
+        } finally {
+            if (metricsServer != null) {
+                metricsServer.stop(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.victoriasemkina.validator.cli.command;
+
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine;
+
+/**
+ * Lets Picocli take subcommands from the Spring context, so they get their dependencies injected.
+ * Classes that are not beans (converters, plain commands) are created by the default factory.
+ */
+@Component
+public class SpringCommandFactory implements CommandLine.IFactory {
+
+    private final ApplicationContext context;
+
+    public SpringCommandFactory(ApplicationContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public <K> K create(Class<K> cls) throws Exception {
+        try {
+            return context.getBean(cls);
+        } catch (NoSuchBeanDefinitionException e) {
+            return CommandLine.defaultFactory().create(cls);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.victoriasemkina.validator.cli.command;
+
+import com.victoriasemkina.validator.infra.daemon.JobClient;
+import com.victoriasemkina.validator.infra.daemon.JobProtocol;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.File;
+import java.util.concurrent.Callable;
+
+/**
+ * Client for a running {@code serve} daemon.
+ * Not a Spring bean: {@link com.victoriasemkina.validator.ValidatorApplication} runs it
+ * without starting the application context.
+ */
+@Command(
+        name = SubmitCommand.NAME,
+        description = "Submits a validation job to a running validator daemon and streams results",
+        mixinStandardHelpOptions = true
+)
+@Slf4j
+public class SubmitCommand implements Callable<Integer> {
+
+    public static final String NAME = "submit";
+
+    @Option(
+            names = {"--socket"},
+            description = "Unix domain socket path of the daemon"
+    )
+    private String socketPath;
+
+    @Option(
+            names = {"--port"},
+            description = "Localhost TCP port of the daemon"
+    )
+    private Integer port;
+
+    @Option(
+            names = {"-s", "--spec"},
+            description = "Path to OpenAPI spec file (YAML/JSON)"
+    )
+    private String specPath;
+
+    @Option(
+            names = {"-u", "--base-url"},
+            description = "Base URL of the API to validate"
+    )
+    private String baseUrl;
+
+    @Option(
+            names = {"-m", "--manifest"},
+            description = "Batch manifest with several jobs (JSON array of {name, spec, baseUrl})"
+    )
+    private String manifestPath;
+
+    @Option(
+            names = {"--raw"},
+            description = "Print protocol JSON lines instead of human-readable output"
+    )
+    private boolean raw;
+
+    @Override
+    public Integer call() {
+        JobProtocol.JobRequest request = new JobProtocol.JobRequest();
+
+        if (StringUtils.hasText(manifestPath)) {
+            request.setManifest(absolutePath(manifestPath));
+        } else if (StringUtils.hasText(specPath) && StringUtils.hasText(baseUrl)) {
+            // The daemon has its own working directory, so paths are sent absolute
+            request.setSpec(absolutePath(specPath));
+            request.setBaseUrl(baseUrl);
+        } else {
+            log.error("❌ Invalid arguments: either --manifest or both --spec and --base-url are required");
+            return 1;
+        }
+
+        try {
+            JobClient client = new JobClient(JobProtocol.resolveAddress(socketPath, port), System.out);
+            return client.submit(request, raw);
+        } catch (Exception e) {
+            log.error("❌ Failed to reach validator daemon: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    private String absolutePath(String path) {
+        return new File(path).getAbsolutePath();
+    }
+}
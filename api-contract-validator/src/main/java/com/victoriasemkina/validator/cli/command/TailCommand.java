@@ -0,0 +1,192 @@
+package com.victoriasemkina.validator.cli.command;
+
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ReportGenerator;
+import com.victoriasemkina.validator.domain.port.ReportStream;
+import com.victoriasemkina.validator.domain.port.StreamingReportGenerator;
+import com.victoriasemkina.validator.domain.service.ReplayValidatorService;
+import com.victoriasemkina.validator.infra.metrics.MetricsExporter;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import com.victoriasemkina.validator.infra.replay.LogFollower;
+import com.victoriasemkina.validator.infra.report.ReportGeneratorFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Command(
+        name = TailCommand.NAME,
+        description = "Follows an NDJSON response log and validates each exchange as it is written",
+        mixinStandardHelpOptions = true
+)
+@Component
+@Slf4j
+public class TailCommand implements Callable<Integer> {
+
+    public static final String NAME = "tail";
+
+    @Option(
+            names = {"-s", "--spec"},
+            required = true,
+            description = "Path to OpenAPI spec file (YAML/JSON)"
+    )
+    private String specPath;
+
+    @Option(
+            names = {"-f", "--file"},
+            required = true,
+            description = "NDJSON log of {method, path|url, status, body}, followed across rotations"
+    )
+    private Path file;
+
+    @Option(
+            names = {"--checkpoint"},
+            description = "File keeping the read position between runs; lines not validated when the process "
+                    + "stopped are read again (default: <file>.checkpoint)"
+    )
+    private Path checkpoint;
+
+    @Option(
+            names = {"--from-end"},
+            description = "Without a checkpoint, skip the existing content and validate new lines only"
+    )
+    private boolean fromEnd;
+
+    @Option(
+            names = {"--poll-interval"},
+            description = "Milliseconds between checks for new lines at the end of the file (default: 200)"
+    )
+    private long pollIntervalMillis = 200;
+
+    @Option(
+            names = {"--checkpoint-interval"},
+            description = "Seconds between checkpoint writes (default: 5)"
+    )
+    private long checkpointIntervalSeconds = 5;
+
+    @Option(
+            names = {"-o", "--output"},
+            description = "Report written when following stops (console if not specified)"
+    )
+    private String outputPath;
+
+    @Option(
+            names = {"--concurrency"},
+            description = "Validation threads (default: number of CPUs)"
+    )
+    private int concurrency = Runtime.getRuntime().availableProcessors();
+
+    @Option(
+            names = {"--max-examples"},
+            description = "Keep at most N examples of identical issues, counting the rest (default: 100)"
+    )
+    private int maxExamples = 100;
+
+    @Option(
+            names = {"--metrics-port"},
+            description = "Serve Prometheus metrics on http://localhost:<port>/metrics"
+    )
+    private Integer metricsPort;
+
+    @Autowired
+    private OpenApiParserService parserService;
+
+    @Autowired
+    private ReplayValidatorService replayService;
+
+    @Autowired
+    private ReportGeneratorFactory reportGeneratorFactory;
+
+    @Autowired
+    private MetricsExporter metricsExporter;
+
+    @Override
+    public Integer call() {
+        HttpServer metricsServer = null;
+        CountDownLatch finished = new CountDownLatch(1);
+        try {
+            if (pollIntervalMillis < 1 || checkpointIntervalSeconds < 1) {
+                throw new IllegalArgumentException("--poll-interval and --checkpoint-interval must be positive");
+            }
+
+            OperationRouter router = OperationRouter.compile(parserService.parse(specPath));
+            ReportGenerator generator = reportGeneratorFactory.getGenerator(outputPath);
+
+            ValidationResult result = new ValidationResult();
+            result.setBaseUrl(file.toString());
+            // Runs indefinitely: only bounded examples are kept
+            result.setMaxExamplesPerGroup(Math.max(1, maxExamples));
+            try (ReportStream reportStream = generator instanceof StreamingReportGenerator streamingGenerator
+                    ? streamingGenerator.open(outputPath) : null) {
+                if (reportStream != null) {
+                    result.addListener(reportStream);
+                    result.setRetainIssues(false);
+                }
+
+                if (metricsPort != null) {
+                    metricsServer = metricsExporter.startEndpoint(metricsPort);
+                }
+                follow(router, result, finished);
+
+                if (!(generator instanceof StreamingReportGenerator)) {
+                    generator.generate(result, outputPath);
+                }
+                if (outputPath != null && !outputPath.trim().isEmpty()) {
+                    log.info("📄 Report saved to: {}", outputPath);
+                }
+                return result.hasErrors() ? 1 : 0;
+            }
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid arguments: {}", e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        } catch (Exception e) {
+            log.error("❌ Tail failed: {}", e.getMessage(), e);
+            return 1;
+        } finally {
+            finished.countDown();
+            if (metricsServer != null) {
+                metricsServer.stop(0);
+            }
+        }
+    }
+
+    /**
+     * @param finished released once the report is written; the shutdown hook waits for it
+     */
+    private void follow(OperationRouter router, ValidationResult result, CountDownLatch finished) throws Exception {
+        Path checkpointFile = checkpoint != null ? checkpoint : file.resolveSibling(file.getFileName() + ".checkpoint");
+
+        try (LogFollower follower = new LogFollower(file, checkpointFile, fromEnd,
+                Duration.ofMillis(pollIntervalMillis), Duration.ofSeconds(checkpointIntervalSeconds))) {
+            // On Ctrl+C: stop reading, let queued lines finish and the report be written
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                follower.stop();
+                try {
+                    finished.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "validator-tail-shutdown"));
+
+            log.info("👀 Following {} against {} operations", file, router.size());
+            replayService.replay(router, follower,
+                    ValidationOptions.builder().concurrency(Math.max(1, concurrency)).build(), result);
+            if (follower.getSkippedLines() > 0) {
+                log.warn("⚠️ {} lines were not exchange objects and were skipped", follower.getSkippedLines());
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.victoriasemkina.validator.cli.command;
+
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ReportGenerator;
+import com.victoriasemkina.validator.domain.port.ReportStream;
+import com.victoriasemkina.validator.domain.port.StreamingReportGenerator;
+import com.victoriasemkina.validator.domain.service.FileValidatorService;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import com.victoriasemkina.validator.infra.report.ReportGeneratorFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine.ArgGroup;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+@Command(
+        name = "validate-file",
+        description = "Validates a local JSON file of any size against a schema of the specification",
+        mixinStandardHelpOptions = true
+)
+@Component
+@Slf4j
+public class ValidateFileCommand implements Callable<Integer> {
+
+    private static final String COMPONENT_PREFIX = "#/components/schemas/";
+
+    @Option(
+            names = {"-s", "--spec"},
+            required = true,
+            description = "Path to OpenAPI spec file (YAML/JSON)"
+    )
+    private String specPath;
+
+    @ArgGroup(multiplicity = "1")
+    private SchemaSource source;
+
+    static class SchemaSource {
+
+        @Option(
+                names = {"--operation"},
+                description = "Operation whose JSON response schema is used, e.g. \"GET /users\" or \"/users/{id}\" (GET)"
+        )
+        String operation;
+
+        @Option(
+                names = {"--schema"},
+                description = "Schema in components/schemas, by name or as #/components/schemas/<name>"
+        )
+        String schemaName;
+    }
+
+    @Option(
+            names = {"--status"},
+            description = "Response status of the operation (default: 200)"
+    )
+    private int status = 200;
+
+    @Option(
+            names = {"-f", "--file"},
+            required = true,
+            description = "JSON file to validate; a top-level array is streamed element by element"
+    )
+    private Path file;
+
+    @Option(
+            names = {"-o", "--output"},
+            description = "Output file for report (console if not specified)"
+    )
+    private String outputPath;
+
+    @Option(
+            names = {"--concurrency"},
+            description = "Threads validating array elements (default: number of CPUs)"
+    )
+    private int concurrency = Runtime.getRuntime().availableProcessors();
+
+    @Option(
+            names = {"--batch-size"},
+            description = "Array elements per validation task (default: 512)"
+    )
+    private int batchSize = 512;
+
+    @Option(
+            names = {"--max-examples"},
+            description = "Keep at most N examples of identical issues, counting the rest (default: 100)"
+    )
+    private int maxExamples = 100;
+
+    @Autowired
+    private OpenApiParserService parserService;
+
+    @Autowired
+    private FileValidatorService fileValidatorService;
+
+    @Autowired
+    private ReportGeneratorFactory reportGeneratorFactory;
+
+    @Override
+    public Integer call() {
+        try {
+            if (!Files.isRegularFile(file)) {
+                throw new IllegalArgumentException("File not found: " + file);
+            }
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("--batch-size must be at least 1");
+            }
+
+            OpenAPI openAPI = parserService.parse(specPath);
+            ReportGenerator generator = reportGeneratorFactory.getGenerator(outputPath);
+
+            ValidationResult result = new ValidationResult();
+            result.setBaseUrl(file.toString());
+            ValidationOptions options = ValidationOptions.builder().concurrency(Math.max(1, concurrency)).build();
+            result.setMaxExamplesPerGroup(Math.max(0, maxExamples));
+            try (ReportStream reportStream = generator instanceof StreamingReportGenerator streamingGenerator
+                    ? streamingGenerator.open(outputPath) : null) {
+                if (reportStream != null) {
+                    result.addListener(reportStream);
+                    result.setRetainIssues(false);
+                }
+
+                log.info("📂 Validating {} ({} MB)", file, Files.size(file) / (1024 * 1024));
+                if (source.operation != null) {
+                    OperationRouter.Route route = route(openAPI, source.operation);
+                    Schema<?> schema = route.responseSchema(status);
+                    if (schema == null) {
+                        throw new IllegalArgumentException("No JSON schema for the " + status + " response of "
+                                + route.method() + " " + route.template());
+                    }
+                    fileValidatorService.validate(file, schema, route.method(), route.template(), batchSize,
+                            options, result);
+                } else {
+                    String name = source.schemaName.startsWith(COMPONENT_PREFIX)
+                            ? source.schemaName.substring(COMPONENT_PREFIX.length())
+                            : source.schemaName;
+                    fileValidatorService.validate(file, componentSchema(openAPI, name), "SCHEMA",
+                            COMPONENT_PREFIX + name, batchSize, options, result);
+                }
+
+                if (!(generator instanceof StreamingReportGenerator)) {
+                    generator.generate(result, outputPath);
+                }
+                if (outputPath != null && !outputPath.trim().isEmpty()) {
+                    log.info("📄 Report saved to: {}", outputPath);
+                }
+                return result.hasErrors() ? 1 : 0;
+            }
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid arguments: {}", e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        } catch (Exception e) {
+            log.error("❌ File validation failed: {}", e.getMessage(), e);
+            return 1;
+        }
+    }
+
+    private OperationRouter.Route route(OpenAPI openAPI, String operation) {
+        String[] parts = operation.trim().split("\\s+", 2);
+        String method = parts.length == 2 ? parts[0].toUpperCase(Locale.ROOT) : "GET";
+        String path = parts.length == 2 ? parts[1] : parts[0];
+
+        OperationRouter.Route route = OperationRouter.compile(openAPI).match(method, path);
+        if (route == null) {
+            throw new IllegalArgumentException("No operation " + method + " " + path + " in " + specPath);
+        }
+        return route;
+    }
+
+    private Schema<?> componentSchema(OpenAPI openAPI, String name) {
+        Schema<?> schema = openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null
+                ? openAPI.getComponents().getSchemas().get(name) : null;
+        if (schema == null) {
+            throw new IllegalArgumentException("Schema not found in components/schemas: " + name);
+        }
+        return schema;
+    }
+}
@@ -0,0 +1,276 @@
+package com.victoriasemkina.validator.cli.command;
+
+import com.victoriasemkina.validator.cli.progress.ProgressDashboard;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ReportGenerator;
+import com.victoriasemkina.validator.domain.port.IssueStore;
+import com.victoriasemkina.validator.domain.port.ReportStream;
+import com.victoriasemkina.validator.domain.port.StreamingReportGenerator;
+import com.victoriasemkina.validator.infra.report.ReportGeneratorFactory;
+import com.victoriasemkina.validator.domain.service.ContractValidatorService;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import com.victoriasemkina.validator.infra.jfr.FlightRecording;
+import com.victoriasemkina.validator.infra.jfr.ReportGenerationEvent;
+import com.victoriasemkina.validator.infra.metrics.MetricsExporter;
+import com.victoriasemkina.validator.infra.store.IssueStoreFactory;
+import com.victoriasemkina.validator.cli.input.CommandLineValidator;
+import io.swagger.v3.oas.models.OpenAPI;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+@Command(
+        name = "api-contract-validator",
+        description = "Validates API implementation against OpenAPI specification",
+        mixinStandardHelpOptions = true,
+        version = "1.0.0",
+        subcommands = {ServeCommand.class, SubmitCommand.class, MonitorCommand.class, GenerateCommand.class,
+                ReplayCommand.class, ProxyCommand.class, TailCommand.class, ValidateFileCommand.class}
+)
+@Component
+@Slf4j
+public class ValidatorCommand implements Callable<Integer> {
+
+    @Option(
+            names = {"-s", "--spec"},
+            description = "Path to OpenAPI spec file (YAML/JSON)"
+    )
+    private String specPath;
+
+    @Option(
+            names = {"-u", "--base-url"},
+            description = "Base URL of the API to validate (e.g. https://api.example.com)"
+    )
+    private String baseUrl;
+
+    @Option(
+            names = {"-o", "--output"},
+            description = "Output report file (default: console)"
+    )
+    private String outputPath;
+
+    @Option(
+            names = {"--max-examples"},
+            description = "Keep at most N examples of identical issues, counting the rest (default: 0, keep all)"
+    )
+    private int maxExamples = 0;
+
+    @Option(
+            names = {"--spill-issues"},
+            description = "Keep retained issues in a memory-mapped temp file instead of the heap (very large runs)"
+    )
+    private boolean spillIssues;
+
+    @Option(
+            names = {"--samples"},
+            description = "Requests per endpoint for latency histograms; only the first response is validated (default: 1)"
+    )
+    private int latencySamples = 1;
+
+    @Option(
+            names = {"--stream-records"},
+            description = "Records validated per NDJSON / Server-Sent Events response before it is closed (default: 1000)"
+    )
+    private int streamMaxRecords = 1000;
+
+    @Option(
+            names = {"--stream-seconds"},
+            description = "Seconds an NDJSON / Server-Sent Events response is read before it is closed (default: 30)"
+    )
+    private int streamMaxSeconds = 30;
+
+    @Option(
+            names = {"--concurrency"},
+            description = "Number of endpoints validated at the same time (default: 1)"
+    )
+    private int concurrency = 1;
+
+    @Option(
+            names = {"--retries"},
+            description = "Retries of a request after a connection error, timeout, 429 or 502-504 (default: 0)"
+    )
+    private int retries = 0;
+
+    @Option(
+            names = {"--retry-backoff"},
+            description = "Milliseconds before the first retry, doubled for each further one, with jitter (default: 200)"
+    )
+    private long retryBackoffMillis = 200;
+
+    @Option(
+            names = {"--hedge"},
+            description = "Send a second request when one takes longer than the p95 latency so far; "
+                    + "the first response wins and the other is cancelled"
+    )
+    private boolean hedgeRequests;
+
+    @Option(
+            names = {"--operation-timeout"},
+            description = "Milliseconds an operation may take, requests and validation included, before it is "
+                    + "cancelled; x-validator-timeout-ms on the operation overrides it (default: none)"
+    )
+    private long operationTimeoutMillis = 0;
+
+    @Option(
+            names = {"--deadline"},
+            description = "Seconds the whole run may take; operations still running are cancelled "
+                    + "and the rest reported as not started (default: none)"
+    )
+    private long deadlineSeconds = 0;
+
+    @Option(
+            names = {"--max-rps"},
+            description = "Cap on requests per second sent to the validated host (default: no cap)"
+    )
+    private double maxRequestsPerSecond = 0;
+
+    @Option(
+            names = {"--adaptive-concurrency"},
+            description = "Adapt requests in flight between 1 and --concurrency: grow while latency stays flat, "
+                    + "back off on 429/503 or rising latency and honour Retry-After"
+    )
+    private boolean adaptiveConcurrency;
+
+    @Option(
+            names = {"--metrics-file"},
+            description = "Write validator metrics in Prometheus text format to this file after the run"
+    )
+    private String metricsFile;
+
+    @Option(
+            names = {"--jfr"},
+            description = "Record a JDK Flight Recorder file of the run (open it in JDK Mission Control)"
+    )
+    private String jfrFile;
+
+    @Option(
+            names = {"--no-progress"},
+            negatable = true,
+            description = "Show live progress (throughput, latency, ETA) while validating (default: true)"
+    )
+    private boolean showProgress = true;
+
+    @Autowired
+    private OpenApiParserService parserService;
+
+    @Autowired
+    private ContractValidatorService validatorService;
+
+    @Autowired
+    private ReportGeneratorFactory reportGeneratorFactory;
+
+    @Autowired
+    private CommandLineValidator commandLineValidator;
+
+    @Autowired
+    private IssueStoreFactory issueStoreFactory;
+
+    @Autowired
+    private MetricsExporter metricsExporter;
+
+    @Override
+    public Integer call() {
+        try {
+            log.info("🚀 Starting API contract validation");
+            log.info("Spec file: {}", specPath);
+            log.info("Base URL:  {}", baseUrl);
+
+            // Validate command line arguments
+            validateArguments();
+
+            try (FlightRecording ignored = jfrFile != null ? FlightRecording.start(Path.of(jfrFile)) : null) {
+                return run();
+            }
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid arguments: {}", e.getMessage());
+            return 1;
+        } catch (Exception e) {
+            log.error("❌ Validation failed: {}", e.getMessage(), e);
+            return 1;
+        }
+    }
+
+    private int run() throws Exception {
+        // Parse specification
+        OpenAPI openAPI = parserService.parse(specPath);
+
+        // Validate endpoints (streaming reports are written while validation runs)
+        ReportGenerator generator = reportGeneratorFactory.getGenerator(outputPath);
+        boolean streaming = generator instanceof StreamingReportGenerator;
+
+        try (IssueStore issues = issueStoreFactory.create(spillIssues && !streaming);
+             ReportStream reportStream = generator instanceof StreamingReportGenerator streamingGenerator
+                     ? streamingGenerator.open(outputPath) : null) {
+            ValidationResult result = new ValidationResult();
+            result.setIssues(issues);
+            result.setMaxExamplesPerGroup(Math.max(0, maxExamples));
+            if (reportStream != null) {
+                result.addListener(reportStream);
+                result.setRetainIssues(false);
+            }
+
+            try (ProgressDashboard ignored = showProgress ? ProgressDashboard.start(result.getProgress()) : null) {
+                result = validatorService.validate(openAPI, baseUrl, options(), result);
+            }
+
+            // Generate report
+            if (!streaming) {
+                generateReport(generator, result);
+            } else {
+                log.info("📄 Report saved to: {}", outputPath);
+            }
+
+            if (metricsFile != null) {
+                metricsExporter.writeTo(Path.of(metricsFile));
+            }
+
+            return result.hasErrors() ? 1 : 0;
+        }
+    }
+
+    private ValidationOptions options() {
+        return ValidationOptions.builder()
+                .concurrency(Math.max(1, concurrency))
+                .latencySamples(Math.max(1, latencySamples))
+                .streamMaxRecords(Math.max(1, streamMaxRecords))
+                .streamMaxSeconds(Math.max(1, streamMaxSeconds))
+                .retries(Math.max(0, retries))
+                .retryBackoffMillis(Math.max(0, retryBackoffMillis))
+                .hedgeRequests(hedgeRequests)
+                .operationTimeoutMillis(Math.max(0, operationTimeoutMillis))
+                .runDeadlineMillis(TimeUnit.SECONDS.toMillis(Math.max(0, deadlineSeconds)))
+                .maxRequestsPerSecond(Math.max(0, maxRequestsPerSecond))
+                .adaptiveConcurrency(adaptiveConcurrency)
+                .build();
+    }
+
+    private void validateArguments() {
+        commandLineValidator.validateSpecFile(specPath);
+        commandLineValidator.validateBaseUrl(baseUrl);
+        log.info("✅ Arguments validated successfully");
+    }
+
+    private void generateReport(ReportGenerator generator, ValidationResult result) throws Exception {
+        ReportGenerationEvent event = new ReportGenerationEvent();
+        event.begin();
+        generator.generate(result, outputPath);
+        event.end();
+        if (event.shouldCommit()) {
+            event.generator = generator.getClass().getSimpleName();
+            event.output = outputPath;
+            event.issues = result.getTotalIssues();
+            event.commit();
+        }
+
+        if (outputPath != null && !outputPath.trim().isEmpty()) {
+            log.info("📄 Report saved to: {}", outputPath);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.victoriasemkina.validator.cli.input;
+
+import picocli.CommandLine;
+
+import java.util.Locale;
+
+/**
+ * Parses sizes such as {@code 512}, {@code 64KB}, {@code 10MB} or {@code 1GB} into bytes
+ */
+public class ByteSizeConverter implements CommandLine.ITypeConverter<Long> {
+
+    @Override
+    public Long convert(String value) {
+        String size = value.trim().toUpperCase(Locale.ROOT);
+        long multiplier = 1;
+        if (size.endsWith("GB")) {
+            multiplier = 1024L * 1024 * 1024;
+        } else if (size.endsWith("MB")) {
+            multiplier = 1024L * 1024;
+        } else if (size.endsWith("KB")) {
+            multiplier = 1024L;
+        }
+        String digits = multiplier > 1 ? size.substring(0, size.length() - 2).trim() : size.replaceFirst("B$", "");
+        try {
+            return Long.parseLong(digits) * multiplier;
+        } catch (NumberFormatException e) {
+            throw new CommandLine.TypeConversionException("Invalid size '" + value + "', expected e.g. 64KB or 10MB");
+        }
+    }
+}
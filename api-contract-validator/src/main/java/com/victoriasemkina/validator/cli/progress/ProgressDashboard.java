@@ -0,0 +1,121 @@
+package com.victoriasemkina.validator.cli.progress;
+
+import com.victoriasemkina.validator.domain.model.LatencyHistogram;
+import com.victoriasemkina.validator.domain.model.RunProgress;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live progress view of a validation run: completed/total endpoints, requests and bytes
+ * per second, p50/p99 latency so far and an ETA.
+ * <p>
+ * Counters are sampled at a fixed rate, independent of how fast events arrive.
+ * On a terminal a single status line is redrawn in place; otherwise
+ * (CI logs, redirected output) a plain progress line is logged periodically.
+ */
+@Slf4j
+public class ProgressDashboard implements AutoCloseable {
+
+    static final long TTY_REFRESH_MILLIS = 250;
+    static final long PLAIN_REFRESH_MILLIS = 5_000;
+
+    private static final String CLEAR_LINE = "\r\u001B[2K";
+
+    private final RunProgress progress;
+    private final boolean tty;
+    private final PrintStream out;
+    private final ScheduledExecutorService scheduler;
+
+    private ProgressDashboard(RunProgress progress, boolean tty, PrintStream out) {
+        this.progress = progress;
+        this.tty = tty;
+        this.out = out;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-dashboard");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts rendering; the view is redrawn until {@link #close()} is called
+     */
+    public static ProgressDashboard start(RunProgress progress) {
+        ProgressDashboard dashboard = new ProgressDashboard(progress, System.console() != null, System.out);
+        long period = dashboard.tty ? TTY_REFRESH_MILLIS : PLAIN_REFRESH_MILLIS;
+        dashboard.scheduler.scheduleAtFixedRate(dashboard::render, period, period, TimeUnit.MILLISECONDS);
+        return dashboard;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        if (tty) {
+            // Leave the final state on screen
+            out.print(CLEAR_LINE + format(progress));
+            out.println();
+            out.flush();
+        }
+    }
+
+    private void render() {
+        String line = format(progress);
+        if (tty) {
+            out.print(CLEAR_LINE + line);
+            out.flush();
+        } else {
+            log.info("Progress: {}", line);
+        }
+    }
+
+    static String format(RunProgress progress) {
+        return format(progress, progress.getElapsedNanos());
+    }
+
+    /**
+     * @param elapsedNanos time since the run started; rates and the ETA are relative to it
+     */
+    static String format(RunProgress progress, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos / 1e9, 1e-3);
+        long completed = progress.getCompletedEndpoints();
+        int total = progress.getTotalEndpoints();
+        LatencyHistogram latency = progress.getLatency();
+
+        // The total is unknown until the specification has been read
+        return String.format(Locale.ROOT, "%d/%s endpoints | %.1f req/s | %s/s | p50 %s | p99 %s | ETA %s",
+                completed, total > 0 ? String.valueOf(total) : "?",
+                progress.getRequests() / seconds,
+                formatBytes((long) (progress.getBytes() / seconds)),
+                formatPercentile(latency, 50),
+                formatPercentile(latency, 99),
+                formatEta(completed, total, seconds));
+    }
+
+    private static String formatPercentile(LatencyHistogram latency, double percentile) {
+        return latency.getCount() == 0 ? "-" : LatencyHistogram.formatMicros(latency.getPercentileMicros(percentile));
+    }
+
+    static String formatEta(long completed, int total, double elapsedSeconds) {
+        if (completed == 0 || total <= 0) {
+            return "--:--";
+        }
+        long remaining = Math.max(0, total - completed);
+        long eta = Math.round(remaining * elapsedSeconds / completed);
+        return String.format(Locale.ROOT, "%02d:%02d", eta / 60, eta % 60);
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024));
+    }
+}
@@ -0,0 +1,60 @@
+package com.victoriasemkina.validator.config;
+
+import com.victoriasemkina.validator.domain.service.ReplayValidatorService;
+import com.victoriasemkina.validator.domain.service.ResponseValidatorService;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import com.victoriasemkina.validator.infra.sampling.AsyncSampleValidator;
+import com.victoriasemkina.validator.infra.schema.ArrayValidator;
+import com.victoriasemkina.validator.infra.schema.ObjectValidator;
+import com.victoriasemkina.validator.infra.schema.PrimitiveValidator;
+import com.victoriasemkina.validator.infra.servlet.ContractSamplingFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+
+/**
+ * Response contract sampling inside a Spring Boot servlet application.
+ * <p>
+ * A service opts in with {@code @Import(ContractSamplingConfig.class)} and
+ * {@code validator.sampling.spec=<path to the specification file>}; it must provide a Micrometer
+ * {@code MeterRegistry} (Spring Boot Actuator does). Inactive in the CLI, which runs without
+ * a web server.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "validator.sampling", name = "spec")
+@Import({ValidatorMetrics.class, OpenApiParserService.class, ObjectValidator.class, ArrayValidator.class,
+        PrimitiveValidator.class, ResponseValidatorService.class, ReplayValidatorService.class})
+public class ContractSamplingConfig {
+
+    /**
+     * Outermost filter, so it sees the response as sent
+     */
+    @Bean
+    public FilterRegistrationBean<ContractSamplingFilter> contractSamplingFilter(
+            OpenApiParserService parserService,
+            ReplayValidatorService replayService,
+            ValidatorMetrics metrics,
+            @Value("${validator.sampling.spec}") String specPath,
+            @Value("${validator.sampling.rate:0.01}") double sampleRate,
+            @Value("${validator.sampling.workers:1}") int workers,
+            @Value("${validator.sampling.queue-capacity:1000}") int queueCapacity,
+            @Value("${validator.sampling.max-sample-bytes:1048576}") int maxSampleBytes) {
+        OperationRouter router = OperationRouter.compile(parserService.parse(specPath));
+        AsyncSampleValidator sampler = new AsyncSampleValidator(replayService, metrics, router,
+                sampleRate, workers, queueCapacity, maxSampleBytes);
+
+        FilterRegistrationBean<ContractSamplingFilter> registration =
+                new FilterRegistrationBean<>(new ContractSamplingFilter(sampler, maxSampleBytes));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -3,7 +3,7 @@ package com.victoriasemkina.validator.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import com.victoriasemkina.validator.infra.http.TimedClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,10 +20,8 @@ public class RestTemplateConfig {
 
     @Bean
     public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-
-        factory.setConnectTimeout(connectTimeout);
-        factory.setReadTimeout(readTimeout);
+        // Times connect / first byte / download of every exchange
+        TimedClientHttpRequestFactory factory = new TimedClientHttpRequestFactory(connectTimeout, readTimeout);
 
         RestTemplate restTemplate = new RestTemplate(factory);
         log.info("RestTemplate configured: connect={}ms, read={}ms", connectTimeout, readTimeout);
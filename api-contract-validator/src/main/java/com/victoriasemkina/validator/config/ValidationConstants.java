@@ -8,6 +8,8 @@ public final class ValidationConstants {
     // HTTP
     public static final String HTTP_METHOD_GET = "GET";
     public static final String CONTENT_TYPE_JSON = "application/json";
+    public static final String CONTENT_TYPE_NDJSON = "application/x-ndjson";
+    public static final String CONTENT_TYPE_EVENT_STREAM = "text/event-stream";
     public static final String STATUS_200 = "200";
 
     // Paths
@@ -17,6 +19,10 @@ public final class ValidationConstants {
     public static final int DEFAULT_CONNECT_TIMEOUT = 10_000;
     public static final int DEFAULT_READ_TIMEOUT = 30_000;
 
+    // OpenAPI extensions
+    /** Time budget of an operation in milliseconds, overriding --operation-timeout */
+    public static final String EXTENSION_TIMEOUT_MS = "x-validator-timeout-ms";
+
     // JSON paths
     public static final String JSON_PATH_ROOT = "$";
 
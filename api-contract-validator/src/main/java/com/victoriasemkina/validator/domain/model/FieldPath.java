@@ -0,0 +1,102 @@
+package com.victoriasemkina.validator.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Compact, immutable reference to a location in a JSON document.
+ * Segments are linked to their parent, so the path text is only built when rendered.
+ */
+public final class FieldPath {
+
+    /** Document root ({@code $}) */
+    public static final FieldPath ROOT = new FieldPath(null, "$", -1);
+
+    private final FieldPath parent;
+
+    /** Property name, or root text for a root segment; null for array items */
+    private final String name;
+
+    /** Array index, or -1 for properties and roots; a long, as streamed arrays may exceed int range */
+    private final long index;
+
+    private FieldPath(FieldPath parent, String name, long index) {
+        this.parent = parent;
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * Creates a root segment with the given text (e.g. "$")
+     */
+    public static FieldPath root(String text) {
+        return text == null || "$".equals(text) ? ROOT : new FieldPath(null, text, -1);
+    }
+
+    public FieldPath property(String propertyName) {
+        return new FieldPath(this, propertyName, -1);
+    }
+
+    public FieldPath item(long itemIndex) {
+        return new FieldPath(this, null, itemIndex);
+    }
+
+    /** Parent segment, or null for a root */
+    public FieldPath getParent() {
+        return parent;
+    }
+
+    /** Property name of the last segment (root text for roots), or null for array items */
+    public String getName() {
+        return name;
+    }
+
+    /** Array index of the last segment, or -1 for properties and roots */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Renders the path with array indices replaced by {@code *}, e.g. {@code $.users[*].email}
+     */
+    public String toNormalizedString() {
+        StringBuilder sb = new StringBuilder(32);
+        appendTo(sb, true);
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(32);
+        appendTo(sb, false);
+        return sb.toString();
+    }
+
+    private void appendTo(StringBuilder sb, boolean normalized) {
+        if (parent == null) {
+            sb.append(name);
+            return;
+        }
+        parent.appendTo(sb, normalized);
+        if (name != null) {
+            sb.append('.').append(name);
+        } else if (normalized) {
+            sb.append("[*]");
+        } else {
+            sb.append('[').append(index).append(']');
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FieldPath other)) return false;
+        return index == other.index
+                && Objects.equals(name, other.name)
+                && Objects.equals(parent, other.parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parent, name, index);
+    }
+}
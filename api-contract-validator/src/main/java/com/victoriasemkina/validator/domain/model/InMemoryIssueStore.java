@@ -0,0 +1,36 @@
+package com.victoriasemkina.validator.domain.model;
+
+import com.victoriasemkina.validator.domain.port.IssueStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Default issue store backed by an in-heap list
+ */
+public class InMemoryIssueStore implements IssueStore {
+
+    private final List<ValidationIssue> issues = new ArrayList<>();
+
+    @Override
+    public void add(ValidationIssue issue) {
+        issues.add(issue);
+    }
+
+    @Override
+    public int size() {
+        return issues.size();
+    }
+
+    @Override
+    public Iterator<ValidationIssue> iterator() {
+        return Collections.unmodifiableList(issues).iterator();
+    }
+
+    @Override
+    public String toString() {
+        return issues.toString();
+    }
+}
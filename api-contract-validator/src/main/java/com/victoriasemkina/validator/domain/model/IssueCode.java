@@ -0,0 +1,108 @@
+package com.victoriasemkina.validator.domain.model;
+
+/**
+ * Structured issue codes. Validators report a code with typed arguments;
+ * the human-readable text is rendered from the templates only when a reporter asks for it.
+ * <p>
+ * Templates use {@code {0}}, {@code {1}}... for arguments, {@code {path}} for the issue location
+ * and {@code {parent}} for the location of the enclosing value.
+ */
+public enum IssueCode {
+
+    HTTP_STATUS("http-status", ValidationIssue.Severity.ERROR,
+            "Unexpected HTTP status", "200 OK", "{0}"),
+    UNREACHABLE("unreachable", ValidationIssue.Severity.ERROR,
+            "Endpoint unreachable or request failed", "Successful response (200 OK)", "Connection error: {0}"),
+    EMPTY_BODY("empty-body", ValidationIssue.Severity.ERROR,
+            "Response body is empty", "Valid JSON object/array", "Empty response"),
+    INVALID_JSON("invalid-json", ValidationIssue.Severity.ERROR,
+            "Failed to parse response body as JSON", "Valid JSON", "Parse error: {0}"),
+    EXPECTED_OBJECT("type", ValidationIssue.Severity.ERROR,
+            "Expected object at {path}", "JSON object", "Type: {0}"),
+    EXPECTED_ARRAY("type", ValidationIssue.Severity.ERROR,
+            "Expected array at {path}", "JSON array", "Type: {0}"),
+    TYPE_MISMATCH("type", ValidationIssue.Severity.ERROR,
+            "Type mismatch at {path}", "Expected type: {0}", "Actual type: {1}"),
+    NOT_NULLABLE("null", ValidationIssue.Severity.ERROR,
+            "Field is null but not marked as nullable at {path}", "Non-null value", "null"),
+    MISSING_REQUIRED("required", ValidationIssue.Severity.ERROR,
+            "Missing required field: {0} at {parent}", "Field '{0}' must be present", "Field is missing"),
+    UNEXPECTED_FIELD("unexpected-field", ValidationIssue.Severity.WARNING,
+            "Unexpected field in response: {path}", "Only documented fields", "Field not in specification"),
+    UNDOCUMENTED_STATUS("undocumented-status", ValidationIssue.Severity.ERROR,
+            "Response status is not documented for the operation", "A documented status", "{0}"),
+    TIMEOUT("timeout", ValidationIssue.Severity.ERROR,
+            "Operation did not complete within its time budget", "Completed within {0} ms", "Cancelled after {1} ms"),
+    CANCELLED("cancelled", ValidationIssue.Severity.ERROR,
+            "Operation cancelled: run deadline reached", "Completed before the run deadline", "{0}");
+
+    /** Short rule key used for grouping and machine-readable output */
+    private final String rule;
+    private final ValidationIssue.Severity severity;
+    private final String descriptionTemplate;
+    private final String expectedTemplate;
+    private final String actualTemplate;
+
+    IssueCode(String rule, ValidationIssue.Severity severity,
+              String descriptionTemplate, String expectedTemplate, String actualTemplate) {
+        this.rule = rule;
+        this.severity = severity;
+        this.descriptionTemplate = descriptionTemplate;
+        this.expectedTemplate = expectedTemplate;
+        this.actualTemplate = actualTemplate;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+
+    public ValidationIssue.Severity getSeverity() {
+        return severity;
+    }
+
+    String renderDescription(FieldPath location, Object[] args) {
+        return render(descriptionTemplate, location, args);
+    }
+
+    String renderExpected(FieldPath location, Object[] args) {
+        return render(expectedTemplate, location, args);
+    }
+
+    String renderActual(FieldPath location, Object[] args) {
+        return render(actualTemplate, location, args);
+    }
+
+    private static String render(String template, FieldPath location, Object[] args) {
+        int open = template.indexOf('{');
+        if (open < 0) {
+            return template;
+        }
+
+        StringBuilder sb = new StringBuilder(template.length() + 32);
+        int start = 0;
+        while (open >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            sb.append(template, start, open);
+            sb.append(placeholder(template.substring(open + 1, close), location, args));
+            start = close + 1;
+            open = template.indexOf('{', start);
+        }
+        sb.append(template, start, template.length());
+        return sb.toString();
+    }
+
+    private static String placeholder(String key, FieldPath location, Object[] args) {
+        switch (key) {
+            case "path":
+                return location != null ? location.toString() : "$";
+            case "parent":
+                return location != null && location.getParent() != null ? location.getParent().toString() : "$";
+            default:
+                int index = Integer.parseInt(key);
+                return args != null && index < args.length ? String.valueOf(args[index]) : "";
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.victoriasemkina.validator.domain.model;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Identical issues counted together: same method, endpoint, rule and field path
+ * with array indices normalized ({@code $.users[3].email} → {@code $.users[*].email}).
+ * Keeps only a bounded number of example issues.
+ */
+@Getter
+public class IssueGroup {
+
+    private final String method;
+    private final String path;
+    private final String rule;
+    private final String fieldPath;
+    private final ValidationIssue.Severity severity;
+
+    /** Number of issues in the group */
+    private long count;
+
+    private final List<ValidationIssue> examples = new ArrayList<>();
+
+    IssueGroup(Key key, ValidationIssue.Severity severity) {
+        this.method = key.method();
+        this.path = key.path();
+        this.rule = key.rule();
+        this.fieldPath = key.fieldPath();
+        this.severity = severity;
+    }
+
+    public List<ValidationIssue> getExamples() {
+        return Collections.unmodifiableList(examples);
+    }
+
+    /**
+     * Counts the issue and keeps it as an example if there is room
+     *
+     * @return true if the issue was kept as an example
+     */
+    boolean add(ValidationIssue issue, int maxExamples) {
+        count++;
+        if (examples.size() < maxExamples) {
+            examples.add(issue);
+            return true;
+        }
+        return false;
+    }
+
+    static Key keyOf(ValidationIssue issue) {
+        FieldPath location = issue.getLocation();
+        // Free-text issues have no rule code, so their text is what makes them identical
+        String rule = issue.getCode() != null ? issue.getRule() : issue.getDescription();
+        return new Key(issue.getMethod(), issue.getPath(), rule,
+                location != null ? location.toNormalizedString() : null);
+    }
+
+    record Key(String method, String path, String rule, String fieldPath) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.victoriasemkina.validator.domain.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Validation job repeated on its own interval by the contract monitor.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class MonitorTarget extends ValidationJob {
+
+    /** Pause between the end of one cycle and the start of the next */
+    private long intervalSeconds = 300;
+
+    /** Random spread applied to each interval, in percent (10 = ±10%) */
+    private int jitterPercent = 10;
+}
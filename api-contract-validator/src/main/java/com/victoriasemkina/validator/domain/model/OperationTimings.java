@@ -0,0 +1,60 @@
+package com.victoriasemkina.validator.domain.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latency distributions of one operation (method + endpoint), split by phase,
+ * so slow backends can be told apart from slow validation.
+ */
+@Getter
+public class OperationTimings {
+
+    /**
+     * Phases of a checked request. {@link #TOTAL} covers the whole HTTP exchange;
+     * {@link #PARSE} and {@link #VALIDATE} are local work done on the response.
+     */
+    public enum Phase {
+        CONNECT("connect"),
+        TTFB("ttfb"),
+        DOWNLOAD("download"),
+        TOTAL("total"),
+        PARSE("parse"),
+        VALIDATE("validate");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final String method;
+    private final String path;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+
+    public OperationTimings(String method, String path) {
+        this.method = method;
+        this.path = path;
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    public void record(Phase phase, long nanos) {
+        histograms.get(phase).recordNanos(nanos);
+    }
+
+    public LatencyHistogram get(Phase phase) {
+        return histograms.get(phase);
+    }
+}
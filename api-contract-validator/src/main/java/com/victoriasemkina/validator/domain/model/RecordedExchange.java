@@ -0,0 +1,27 @@
+package com.victoriasemkina.validator.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An HTTP exchange observed outside the validator: recorded traffic, a gateway log line
+ * or a response passing through a proxy.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecordedExchange {
+
+    /** HTTP method (GET, POST, etc.) */
+    private String method;
+
+    /** Request path or absolute URL, possibly with a query string */
+    private String path;
+
+    /** Response status code */
+    private int status;
+
+    /** Response body as text, null when not captured */
+    private String body;
+}
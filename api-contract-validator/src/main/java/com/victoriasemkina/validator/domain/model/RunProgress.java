@@ -0,0 +1,63 @@
+package com.victoriasemkina.validator.domain.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of a validation run, updated without locks by validation threads
+ * and sampled at a fixed rate by progress renderers.
+ */
+public class RunProgress {
+
+    private final long startNanos = System.nanoTime();
+
+    private volatile int totalEndpoints;
+
+    private final LongAdder completedEndpoints = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public void setTotalEndpoints(int totalEndpoints) {
+        this.totalEndpoints = totalEndpoints;
+    }
+
+    public int getTotalEndpoints() {
+        return totalEndpoints;
+    }
+
+    public void endpointCompleted() {
+        completedEndpoints.increment();
+    }
+
+    /**
+     * Records a finished HTTP exchange
+     *
+     * @param responseBytes size of the response body
+     * @param nanos         request duration
+     */
+    public void requestCompleted(long responseBytes, long nanos) {
+        requests.increment();
+        bytes.add(responseBytes);
+        latency.recordNanos(nanos);
+    }
+
+    public long getCompletedEndpoints() {
+        return completedEndpoints.sum();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,102 @@
+package com.victoriasemkina.validator.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a single validation issue found during contract validation.
+ * <p>
+ * Issues reported by validators carry an {@link IssueCode}, a {@link FieldPath} and typed
+ * arguments; description, expected and actual texts are rendered from the code on demand.
+ * Explicitly set texts take precedence over rendering.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ValidationIssue {
+
+    /** HTTP method (GET, POST, etc.) */
+    private String method;
+
+    /** Endpoint path (e.g., "/api/users/{id}") */
+    private String path;
+
+    /** Issue severity */
+    private Severity severity;
+
+    /** Human-readable description (optional when {@link #code} is set) */
+    private String description;
+
+    /** Expected value (optional) */
+    private String expected;
+
+    /** Actual value received (optional) */
+    private String actual;
+
+    /** Structured rule code, null for free-text issues */
+    private IssueCode code;
+
+    /** Location of the offending value, null for HTTP-level issues */
+    private FieldPath location;
+
+    /** Typed arguments for the code's message templates */
+    private Object[] args;
+
+    public ValidationIssue(String method, String path, Severity severity,
+                           String description, String expected, String actual) {
+        this(method, path, severity, description, expected, actual, null, null, null);
+    }
+
+    /**
+     * Creates a structured issue; texts are rendered lazily from the code
+     */
+    public static ValidationIssue of(IssueCode code, String method, String path,
+                                     FieldPath location, Object... args) {
+        return new ValidationIssue(method, path, code.getSeverity(), null, null, null, code, location, args);
+    }
+
+    public enum Severity {
+        ERROR,    // Contract violation (required field missing, wrong type)
+        WARNING   // Potential issue (optional field missing, unexpected field)
+    }
+
+    public String getDescription() {
+        return description != null || code == null ? description : code.renderDescription(location, args);
+    }
+
+    public String getExpected() {
+        return expected != null || code == null ? expected : code.renderExpected(location, args);
+    }
+
+    public String getActual() {
+        return actual != null || code == null ? actual : code.renderActual(location, args);
+    }
+
+    /** Rule key of the code (e.g. "required"), null for free-text issues */
+    public String getRule() {
+        return code != null ? code.getRule() : null;
+    }
+
+    /** Rendered location (e.g. "$.users[0].email"), null for HTTP-level issues */
+    public String getFieldPath() {
+        return location != null ? location.toString() : null;
+    }
+
+    @Override
+    public String toString() {
+        String expectedText = getExpected();
+        String actualText = getActual();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[").append(severity).append("] ");
+        sb.append(method).append(" ").append(path).append(": ");
+        sb.append(getDescription());
+        if (expectedText != null && actualText != null) {
+            sb.append(" (expected: '").append(expectedText).append("', actual: '").append(actualText).append("')");
+        }
+        return sb.toString();
+    }
+}
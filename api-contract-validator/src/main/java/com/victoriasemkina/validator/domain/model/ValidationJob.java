@@ -0,0 +1,27 @@
+package com.victoriasemkina.validator.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A single unit of validation work: one specification checked against one base URL.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ValidationJob {
+
+    /** Job name used in streamed results (defaults to the spec path) */
+    private String name;
+
+    /** Path to OpenAPI spec file (YAML/JSON) */
+    private String spec;
+
+    /** Base URL of the API to validate */
+    private String baseUrl;
+
+    public String getDisplayName() {
+        return name != null && !name.isBlank() ? name : spec;
+    }
+}
@@ -0,0 +1,66 @@
+package com.victoriasemkina.validator.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Settings of a validation run. Immutable, so one instance can be shared by all workers of a run;
+ * what the run produces goes to the {@link ValidationResult}.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ValidationOptions {
+
+    private static final ValidationOptions DEFAULTS = ValidationOptions.builder().build();
+
+    /** Endpoints, exchanges or array batches validated at the same time */
+    @Builder.Default
+    int concurrency = 1;
+
+    /** HTTP requests sent per endpoint; extra samples only feed the latency histograms */
+    @Builder.Default
+    int latencySamples = 1;
+
+    /** Records validated per streaming response (NDJSON, Server-Sent Events) before it is closed */
+    @Builder.Default
+    int streamMaxRecords = 1000;
+
+    /** Seconds a streaming response is read before it is closed */
+    @Builder.Default
+    int streamMaxSeconds = 30;
+
+    /** Extra attempts of a request after a transient failure (connection error, 429, 502-504) */
+    @Builder.Default
+    int retries = 0;
+
+    /** Backoff before the first retry, doubled for each further one and jittered */
+    @Builder.Default
+    long retryBackoffMillis = 200;
+
+    /** Whether a request slower than the p95 of the run is sent a second time, the first response winning */
+    @Builder.Default
+    boolean hedgeRequests = false;
+
+    /** Time budget of an operation without an {@code x-validator-timeout-ms} extension; 0 means none */
+    @Builder.Default
+    long operationTimeoutMillis = 0;
+
+    /** Time budget of the whole run, after which operations in flight are cancelled; 0 means none */
+    @Builder.Default
+    long runDeadlineMillis = 0;
+
+    /** Requests per second sent to the validated host; 0 means no cap */
+    @Builder.Default
+    double maxRequestsPerSecond = 0;
+
+    /**
+     * Whether requests in flight adapt between 1 and {@link #concurrency} to latency and
+     * throttling (429 / 503, Retry-After) of the validated host
+     */
+    @Builder.Default
+    boolean adaptiveConcurrency = false;
+
+    public static ValidationOptions defaults() {
+        return DEFAULTS;
+    }
+}
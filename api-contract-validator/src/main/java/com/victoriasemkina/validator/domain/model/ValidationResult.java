@@ -0,0 +1,158 @@
+package com.victoriasemkina.validator.domain.model;
+
+import com.victoriasemkina.validator.domain.port.IssueStore;
+import com.victoriasemkina.validator.domain.port.ValidationListener;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Final result of contract validation.
+ */
+@Data
+public class ValidationResult {
+
+    /** Timestamp of validation start */
+    private LocalDateTime startedAt = LocalDateTime.now();
+
+    /** Timestamp of validation end */
+    private LocalDateTime finishedAt;
+
+    /** Base URL of validated API */
+    private String baseUrl;
+
+    /** Total endpoints checked */
+    private int totalEndpoints = 0;
+
+    /** Total issues found */
+    private int totalIssues = 0;
+
+    /** Issues with ERROR severity */
+    @Setter(AccessLevel.NONE)
+    private int errorCount = 0;
+
+    /** Issues with WARNING severity */
+    @Setter(AccessLevel.NONE)
+    private int warningCount = 0;
+
+    /**
+     * Maximum example issues kept per {@link IssueGroup}; further repeats are only counted.
+     * 0 keeps every issue.
+     */
+    private int maxExamplesPerGroup = 0;
+
+    /** Whether issues are kept in {@link #issues}; streaming reports turn this off */
+    private boolean retainIssues = true;
+
+    /** Retained validation issues (all of them, or examples when grouping is bounded) */
+    private IssueStore issues = new InMemoryIssueStore();
+
+    /** Identical issues grouped and counted, in order of first occurrence */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<IssueGroup.Key, IssueGroup> issueGroups = new LinkedHashMap<>();
+
+    /** Live counters for progress reporting */
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final RunProgress progress = new RunProgress();
+
+    /** Per-operation latency distributions, in order of first request */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<String, OperationTimings> timings = new LinkedHashMap<>();
+
+    /** Listeners notified while the run is in progress */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final List<ValidationListener> listeners = new ArrayList<>();
+
+    public void setTotalEndpoints(int totalEndpoints) {
+        this.totalEndpoints = totalEndpoints;
+        progress.setTotalEndpoints(totalEndpoints);
+    }
+
+    public void addListener(ValidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Records an issue; safe to call from several endpoint workers at once
+     */
+    public synchronized void addIssue(ValidationIssue issue) {
+        IssueGroup group = issueGroups.computeIfAbsent(IssueGroup.keyOf(issue),
+                key -> new IssueGroup(key, issue.getSeverity()));
+
+        boolean keep;
+        if (maxExamplesPerGroup > 0) {
+            keep = group.add(issue, maxExamplesPerGroup);
+        } else {
+            group.add(issue, 0);
+            keep = true;
+        }
+        if (keep && retainIssues) {
+            issues.add(issue);
+        }
+
+        totalIssues++;
+        if (issue.getSeverity() == ValidationIssue.Severity.ERROR) {
+            errorCount++;
+        } else {
+            warningCount++;
+        }
+
+        for (ValidationListener listener : listeners) {
+            listener.onIssue(issue);
+        }
+    }
+
+    /**
+     * Latency histograms of an operation, created on first use
+     */
+    public synchronized OperationTimings timingsFor(String method, String path) {
+        return timings.computeIfAbsent(method + " " + path, key -> new OperationTimings(method, path));
+    }
+
+    public synchronized Collection<OperationTimings> getTimings() {
+        return List.copyOf(timings.values());
+    }
+
+    public synchronized Collection<IssueGroup> getIssueGroups() {
+        return Collections.unmodifiableCollection(issueGroups.values());
+    }
+
+    public synchronized boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    public void finish() {
+        this.finishedAt = LocalDateTime.now();
+
+        for (ValidationListener listener : listeners) {
+            listener.onFinish(this);
+        }
+    }
+
+    public long getDurationMillis() {
+        if (finishedAt == null) return 0;
+        return java.time.Duration.between(startedAt, finishedAt).toMillis();
+    }
+}
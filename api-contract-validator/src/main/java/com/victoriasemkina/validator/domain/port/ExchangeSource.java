@@ -0,0 +1,26 @@
+package com.victoriasemkina.validator.domain.port;
+
+import com.victoriasemkina.validator.domain.model.RecordedExchange;
+
+import java.io.IOException;
+
+/**
+ * Sequential supply of recorded exchanges, e.g. a capture file being read
+ */
+public interface ExchangeSource extends AutoCloseable {
+
+    /**
+     * @return next exchange, or null when the source is exhausted
+     */
+    RecordedExchange next() throws IOException;
+
+    /**
+     * Called once an exchange returned by {@link #next()} has been validated, possibly from
+     * another thread; sources that keep a read position advance it from here
+     */
+    default void completed(RecordedExchange exchange) {
+    }
+
+    @Override
+    void close() throws IOException;
+}
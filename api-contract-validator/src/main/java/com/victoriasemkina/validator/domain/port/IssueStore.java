@@ -0,0 +1,28 @@
+package com.victoriasemkina.validator.domain.port;
+
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+
+/**
+ * Storage for issues retained by a validation run.
+ * Reporters only iterate it sequentially, so implementations may keep issues off-heap.
+ */
+public interface IssueStore extends Iterable<ValidationIssue>, AutoCloseable {
+
+    void add(ValidationIssue issue);
+
+    /**
+     * Number of stored issues
+     */
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Releases resources held by the store (files, mappings)
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,13 @@
+package com.victoriasemkina.validator.domain.port;
+
+import java.io.Closeable;
+
+/**
+ * Report being written while validation runs: issues arrive as listener events and
+ * {@link #onFinish} completes the report.
+ * <p>
+ * Must be closed even when the run fails; a stream closed before {@code onFinish} keeps
+ * the issues written so far but has no summary. Closing after {@code onFinish} does nothing.
+ */
+public interface ReportStream extends ValidationListener, Closeable {
+}
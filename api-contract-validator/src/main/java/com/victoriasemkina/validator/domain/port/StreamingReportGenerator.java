@@ -0,0 +1,18 @@
+package com.victoriasemkina.validator.domain.port;
+
+import java.io.IOException;
+
+/**
+ * Report generator that can write issues while validation is still running
+ */
+public interface StreamingReportGenerator extends ReportGenerator {
+
+    /**
+     * Opens the report output
+     *
+     * @param outputPath Output file path
+     * @return stream that writes each issue as it is produced and completes the report on finish
+     * @throws IOException if the output cannot be opened
+     */
+    ReportStream open(String outputPath) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.victoriasemkina.validator.domain.port;
+
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+
+/**
+ * Receives validation events while a run is in progress
+ */
+public interface ValidationListener {
+
+    /**
+     * Called for every issue as soon as it is added to the result
+     */
+    void onIssue(ValidationIssue issue);
+
+    /**
+     * Called once when the run is finished
+     */
+    default void onFinish(ValidationResult result) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.victoriasemkina.validator.domain.model.MonitorTarget;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Continuous contract monitor.
+ * <p>
+ * Each target is re-scheduled only after its previous cycle has finished, so cycles of
+ * one target never overlap. Cycles run on a fixed worker pool, which bounds concurrency
+ * across targets. Results are emitted and dropped; only the last status per target is kept,
+ * keyed by the display name, which must therefore be unique.
+ */
+@Slf4j
+@Service
+public class ContractMonitorService {
+
+    private static final long INITIAL_STAGGER_MILLIS = 5_000;
+
+    /** Repeated issues are only counted, so a broken endpoint can't flood the log every cycle */
+    private static final int MAX_EXAMPLES_PER_GROUP = 3;
+
+    private final ValidationJobService jobService;
+    private final ValidatorMetrics metrics;
+
+    private final Map<String, Status> lastStatus = new ConcurrentHashMap<>();
+    private final AtomicLong cycleCounter = new AtomicLong();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /** Set once by {@link #stop()}; no cycle is scheduled after it */
+    private volatile boolean stopping;
+
+    private volatile ScheduledExecutorService scheduler;
+    private volatile ExecutorService workers;
+
+    @Autowired
+    public ContractMonitorService(ValidationJobService jobService, ValidatorMetrics metrics) {
+        this.jobService = jobService;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts monitoring and blocks until {@link #stop()} is called
+     *
+     * @param targets targets to monitor
+     * @param maxConcurrency maximum number of cycles running at the same time
+     */
+    public void run(List<MonitorTarget> targets, int maxConcurrency) throws InterruptedException {
+        Set<String> names = new HashSet<>();
+        for (MonitorTarget target : targets) {
+            if (target.getIntervalSeconds() <= 0) {
+                throw new IllegalArgumentException("Interval must be positive for target: " + target.getDisplayName());
+            }
+            if (!names.add(target.getDisplayName())) {
+                throw new IllegalArgumentException("Duplicate target name: " + target.getDisplayName()
+                        + " (give each target a unique name)");
+            }
+        }
+
+        synchronized (this) {
+            if (stopping) {
+                return;
+            }
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> new Thread(runnable, "monitor-scheduler"));
+            workers = metrics.monitor(Executors.newFixedThreadPool(maxConcurrency), "monitor-workers");
+        }
+
+        log.info("📡 Monitoring {} target(s), up to {} concurrently", targets.size(), maxConcurrency);
+
+        // Stagger the first cycles instead of firing every target at once
+        for (MonitorTarget target : targets) {
+            long stagger = Math.min(INITIAL_STAGGER_MILLIS, TimeUnit.SECONDS.toMillis(target.getIntervalSeconds()));
+            schedule(target, ThreadLocalRandom.current().nextLong(stagger));
+        }
+
+        stopped.await();
+    }
+
+    /**
+     * Stops monitoring; may be called before {@link #run}, e.g. from a shutdown hook
+     */
+    public synchronized void stop() {
+        stopping = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+        stopped.countDown();
+    }
+
+    private void schedule(MonitorTarget target, long delayMillis) {
+        if (stopping) {
+            return;
+        }
+        try {
+            scheduler.schedule(() -> {
+                if (!stopping) {
+                    workers.execute(() -> runCycle(target));
+                }
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Stopped between the check and the call
+            log.debug("[monitor] {} not rescheduled: monitor stopped", target.getDisplayName());
+        }
+    }
+
+    private void runCycle(MonitorTarget target) {
+        long cycle = cycleCounter.incrementAndGet();
+        try {
+            ValidationResult result = new ValidationResult();
+            result.setMaxExamplesPerGroup(MAX_EXAMPLES_PER_GROUP);
+            jobService.run(target, result);
+            emit(target, cycle, result);
+        } catch (RuntimeException e) {
+            log.error("[monitor] {} cycle #{} failed: {}", target.getDisplayName(), cycle, e.getMessage());
+            updateStatus(target, Status.FAILED);
+        } finally {
+            schedule(target, jitteredDelayMillis(target));
+        }
+    }
+
+    private void emit(MonitorTarget target, long cycle, ValidationResult result) {
+        Status status = result.hasErrors() ? Status.FAILED
+                : result.getTotalIssues() > 0 ? Status.WARNINGS : Status.PASSED;
+
+        log.info("[monitor] {} cycle #{}: {} — {} endpoints, {} issues in {} ms",
+                target.getDisplayName(), cycle, status,
+                result.getTotalEndpoints(), result.getTotalIssues(), result.getDurationMillis());
+
+        for (ValidationIssue issue : result.getIssues()) {
+            if (issue.getSeverity() == ValidationIssue.Severity.ERROR) {
+                log.warn("[monitor] {} {}", target.getDisplayName(), issue);
+            }
+        }
+
+        updateStatus(target, status);
+    }
+
+    private void updateStatus(MonitorTarget target, Status status) {
+        Status previous = lastStatus.put(target.getDisplayName(), status);
+        if (previous != null && previous != status) {
+            log.warn("[monitor] {} changed status: {} → {}", target.getDisplayName(), previous, status);
+        }
+    }
+
+    private long jitteredDelayMillis(MonitorTarget target) {
+        long intervalMillis = TimeUnit.SECONDS.toMillis(target.getIntervalSeconds());
+        double spread = Math.min(100, Math.max(0, target.getJitterPercent())) / 100.0;
+        if (spread == 0) {
+            return intervalMillis;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-spread, spread);
+        return Math.round(intervalMillis * factor);
+    }
+
+    private enum Status {
+        PASSED, WARNINGS, FAILED
+    }
+}
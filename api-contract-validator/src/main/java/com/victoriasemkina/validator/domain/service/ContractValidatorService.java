@@ -0,0 +1,514 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.victoriasemkina.validator.config.ValidationConstants;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.infra.http.DeadlineScheduler;
+import com.victoriasemkina.validator.infra.http.ExchangeTiming;
+import com.victoriasemkina.validator.infra.http.HostLimiter;
+import com.victoriasemkina.validator.infra.http.HttpFetcher;
+import com.victoriasemkina.validator.infra.http.OperationDeadline;
+import com.victoriasemkina.validator.infra.http.StreamRecordReader;
+import com.victoriasemkina.validator.infra.http.TimedClientHttpRequestFactory;
+import com.victoriasemkina.validator.infra.http.UrlUtils;
+import com.victoriasemkina.validator.infra.jfr.HttpFetchEvent;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class ContractValidatorService {
+
+    private final RestTemplate restTemplate;
+    private final ResponseValidatorService responseValidatorService;
+    private final StreamValidatorService streamValidatorService;
+    private final ValidatorMetrics metrics;
+
+    @Autowired
+    public ContractValidatorService(RestTemplate restTemplate,
+                                    ResponseValidatorService responseValidatorService,
+                                    StreamValidatorService streamValidatorService,
+                                    ValidatorMetrics metrics) {
+        this.restTemplate = restTemplate;
+        this.responseValidatorService = responseValidatorService;
+        this.streamValidatorService = streamValidatorService;
+        this.metrics = metrics;
+    }
+
+    public ValidationResult validate(OpenAPI openAPI, String baseUrl) {
+        return validate(openAPI, baseUrl, ValidationOptions.defaults(), new ValidationResult());
+    }
+
+    /**
+     * Validates with default options into a caller-prepared result, e.g. one with listeners attached
+     */
+    public ValidationResult validate(OpenAPI openAPI, String baseUrl, ValidationResult result) {
+        return validate(openAPI, baseUrl, ValidationOptions.defaults(), result);
+    }
+
+    /**
+     * Validates with the given options into a caller-prepared result
+     */
+    public ValidationResult validate(OpenAPI openAPI, String baseUrl, ValidationOptions options,
+                                     ValidationResult result) {
+        result.setBaseUrl(baseUrl);
+        result.setTotalEndpoints(openAPI.getPaths().size());
+        result.addListener(metrics.issueListener());
+
+        log.info("Starting validation of {} endpoints against {} (concurrency: {})",
+                openAPI.getPaths().size(), baseUrl, options.getConcurrency());
+
+        HostLimiter limiter = new HostLimiter(UrlUtils.hostOf(baseUrl), options.getMaxRequestsPerSecond(),
+                options.isAdaptiveConcurrency(), options.getConcurrency());
+        try (DeadlineScheduler deadlines = new DeadlineScheduler(options.getRunDeadlineMillis());
+             HttpFetcher fetcher = new HttpFetcher(restTemplate, limiter, options.getRetries(),
+                     Duration.ofMillis(options.getRetryBackoffMillis()), options.isHedgeRequests(), metrics)) {
+            validateAllEndpoints(openAPI, baseUrl, result, options, fetcher, deadlines);
+        }
+
+        result.finish();
+        logSummary(result, limiter);
+
+        return result;
+    }
+
+    private void validateAllEndpoints(OpenAPI openAPI, String baseUrl, ValidationResult result,
+                                      ValidationOptions options, HttpFetcher fetcher, DeadlineScheduler deadlines) {
+        int workers = Math.min(options.getConcurrency(), openAPI.getPaths().size());
+        if (workers <= 1) {
+            for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+                validateEndpoint(result, options, fetcher, deadlines, baseUrl, entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = metrics.monitor(Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "validator-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }), "validator-workers");
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+                futures.add(executor.submit(() -> validateEndpoint(result, options, fetcher, deadlines, baseUrl,
+                        entry.getKey(), entry.getValue())));
+            }
+            for (Future<?> future : futures) {
+                awaitEndpoint(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void validateEndpoint(ValidationResult result, ValidationOptions options, HttpFetcher fetcher,
+                                  DeadlineScheduler deadlines, String baseUrl, String path, PathItem pathItem) {
+        // Per-endpoint progress is shown by the progress dashboard, not logged
+        log.debug("Validating endpoint {}", path);
+
+        validatePath(result, options, fetcher, deadlines, baseUrl, path, pathItem);
+        result.getProgress().endpointCompleted();
+    }
+
+    private void awaitEndpoint(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Validation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void validatePath(ValidationResult result, ValidationOptions options, HttpFetcher fetcher,
+                              DeadlineScheduler deadlines, String baseUrl, String path, PathItem pathItem) {
+        if (pathItem.getGet() != null) {
+            validateWithinDeadline(result, options, fetcher, deadlines, baseUrl, path, pathItem.getGet());
+        }
+        // TODO: Add support for other HTTP methods
+    }
+
+    /**
+     * Validates the operation within its time budget and the deadline of the run; an operation
+     * that runs out of time is cancelled and reported as such instead of as unreachable
+     */
+    private void validateWithinDeadline(ValidationResult result, ValidationOptions options, HttpFetcher fetcher,
+                                        DeadlineScheduler deadlines, String baseUrl, String path,
+                                        Operation operation) {
+        if (deadlines.isRunExpired()) {
+            result.addIssue(ValidationIssue.of(IssueCode.CANCELLED,
+                    ValidationConstants.HTTP_METHOD_GET, path, null, "Not started"));
+            return;
+        }
+
+        OperationDeadline deadline = deadlines.start(operationTimeoutMillis(options, path, operation));
+        try {
+            validateGetEndpoint(result, options, fetcher, deadline, baseUrl, path, operation);
+        } catch (CancellationException e) {
+            log.debug("GET {} cancelled: {}", path, e.getMessage());
+        } finally {
+            deadline.close();
+        }
+
+        // Checked once closed, when the deadline can no longer expire
+        if (deadline.isExpired()) {
+            addDeadlineIssue(result, path, deadline);
+        }
+    }
+
+    private void validateGetEndpoint(ValidationResult result, ValidationOptions options, HttpFetcher fetcher,
+                                     OperationDeadline deadline, String baseUrl, String path, Operation operation) {
+        String fullUrl = UrlUtils.buildFullUrl(baseUrl, path);
+        OperationTimings timings = result.timingsFor(ValidationConstants.HTTP_METHOD_GET, path);
+        Consumer<ValidationIssue> issues = guarded(result, deadline);
+        log.debug("Sending GET request to {}", fullUrl);
+
+        StreamRecordReader.Format streamFormat = extractJsonSchema(operation) == null
+                ? extractStreamFormat(operation) : null;
+        if (streamFormat != null) {
+            validateStreamEndpoint(result, options, fetcher.getLimiter(), deadline, fullUrl, path, operation,
+                    streamFormat, timings);
+            return;
+        }
+
+        try {
+            ResponseEntity<String> response = sendRequest(result, fetcher, deadline, timings, fullUrl);
+            validateResponseStatus(issues, path, response);
+
+            if (response.getStatusCode() == HttpStatus.OK) {
+                validateResponseBody(issues, path, operation, response.getBody(), timings);
+            }
+        } catch (RestClientException e) {
+            if (!deadline.isExpired()) {
+                handleConnectionError(issues, path, e);
+            }
+            return;
+        }
+
+        sampleLatency(result, options, fetcher, deadline, timings, fullUrl);
+    }
+
+    /**
+     * Validates a streaming response record by record while it is being received;
+     * the connection is closed once the stream ends or a limit of the result is reached
+     */
+    private void validateStreamEndpoint(ValidationResult result, ValidationOptions options, HostLimiter limiter,
+                                        OperationDeadline deadline, String fullUrl, String path, Operation operation,
+                                        StreamRecordReader.Format format, OperationTimings timings) {
+        Schema<?> schema = content200(operation).get(format.getMediaType()).getSchema();
+        if (schema == null) {
+            log.warn("No schema found for {} 200 response at {}", format.getMediaType(), path);
+            return;
+        }
+
+        Consumer<ValidationIssue> issues = guarded(result, deadline);
+        acquire(limiter, deadline);
+        HttpFetchEvent event = new HttpFetchEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        StreamValidatorService.Stats stats;
+        // The deadline closes the connection, which ends a stream that would otherwise run to its limits
+        TimedClientHttpRequestFactory.bind(deadline.newHandle());
+        try {
+            stats = restTemplate.execute(fullUrl, HttpMethod.GET,
+                    request -> request.getHeaders().set(HttpHeaders.ACCEPT, format.getMediaType()),
+                    response -> {
+                        if (response.getStatusCode() != HttpStatus.OK) {
+                            addStatusIssue(issues, path, response.getStatusCode());
+                            return null;
+                        }
+                        return streamValidatorService.validate(response.getBody(), format, schema,
+                                ValidationConstants.HTTP_METHOD_GET, path, options, issues, timings);
+                    });
+        } catch (RestClientException e) {
+            // The duration of a stream says nothing about load
+            limiter.release(HttpFetcher.statusOf(e), -1, HttpFetcher.retryAfterOf(e));
+            TimedClientHttpRequestFactory.takeLastExchange();
+            recordFailure(result, timings, event, e, System.nanoTime() - startTime);
+            if (!deadline.isExpired()) {
+                handleConnectionError(issues, path, e);
+            }
+            return;
+        } catch (CancellationException e) {
+            limiter.release(0, -1, null);
+            TimedClientHttpRequestFactory.takeLastExchange();
+            throw e;
+        } finally {
+            TimedClientHttpRequestFactory.unbind();
+        }
+        limiter.release(stats != null ? HttpStatus.OK.value() : 0, -1, null);
+        // Status is only 200 when the stream was read
+        recordExchange(result, timings, event, TimedClientHttpRequestFactory.takeLastExchange(),
+                stats != null ? HttpStatus.OK.value() : 0, System.nanoTime() - startTime, 0);
+    }
+
+    /**
+     * Sends extra requests to the endpoint when several latency samples are requested;
+     * their responses are not validated again
+     */
+    private void sampleLatency(ValidationResult result, ValidationOptions options, HttpFetcher fetcher,
+                               OperationDeadline deadline, OperationTimings timings, String fullUrl) {
+        for (int i = 1; i < options.getLatencySamples() && !deadline.isExpired(); i++) {
+            try {
+                sendRequest(result, fetcher, deadline, timings, fullUrl);
+            } catch (RestClientException e) {
+                log.debug("Latency sample for GET {} failed: {}", extractPathFromUrl(fullUrl), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sends the request, with the retries and hedging of the run, and records the exchange that answered
+     */
+    private ResponseEntity<String> sendRequest(ValidationResult result, HttpFetcher fetcher,
+                                               OperationDeadline deadline, OperationTimings timings, String fullUrl) {
+        HttpFetchEvent event = new HttpFetchEvent();
+        event.begin();
+        HttpFetcher.Fetch fetch;
+        try {
+            fetch = fetcher.get(fullUrl, deadline);
+        } catch (InterruptedException e) {
+            throw interrupted(deadline, e);
+        }
+        long duration = fetch.nanos();
+        if (!fetch.isSuccess()) {
+            recordFailure(result, timings, event, fetch.error(), duration);
+            throw fetch.error();
+        }
+        ResponseEntity<String> response = fetch.response();
+
+        // Request factory without phase timing: estimate the size from the body
+        String body = response.getBody();
+        recordExchange(result, timings, event, fetch.exchange(), response.getStatusCode().value(), duration,
+                body != null ? body.length() : 0);
+
+        log.debug("Response from GET {}: status={}, duration={}ms",
+                extractPathFromUrl(fullUrl), response.getStatusCode(), duration / 1_000_000);
+
+        return response;
+    }
+
+    /**
+     * @param estimatedBytes body size used when the request factory does not time phases
+     */
+    private void recordExchange(ValidationResult result, OperationTimings timings, HttpFetchEvent event,
+                                ExchangeTiming exchange, int status, long duration, long estimatedBytes) {
+        long bodyBytes = estimatedBytes;
+        if (exchange != null) {
+            timings.record(OperationTimings.Phase.CONNECT, exchange.getConnectNanos());
+            timings.record(OperationTimings.Phase.TTFB, exchange.getTtfbNanos());
+            timings.record(OperationTimings.Phase.DOWNLOAD, exchange.getDownloadNanos());
+            bodyBytes = exchange.getBodyBytes();
+        }
+        timings.record(OperationTimings.Phase.TOTAL, duration);
+        result.getProgress().requestCompleted(bodyBytes, duration);
+        metrics.recordRequest(ValidationConstants.HTTP_METHOD_GET, timings.getPath(),
+                String.valueOf(status), bodyBytes, duration);
+        commitFetchEvent(event, timings.getPath(), status, bodyBytes);
+    }
+
+    private void acquire(HostLimiter limiter, OperationDeadline deadline) {
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            throw interrupted(deadline, e);
+        }
+    }
+
+    /**
+     * An interrupt is the deadline cancelling the operation, or the run itself being interrupted
+     */
+    private RuntimeException interrupted(OperationDeadline deadline, InterruptedException e) {
+        Thread.currentThread().interrupt();
+        if (deadline.isExpired()) {
+            return new CancellationException("Operation deadline expired");
+        }
+        return new IllegalStateException("Validation interrupted", e);
+    }
+
+    /**
+     * @return budget from the x-validator-timeout-ms extension of the operation, else the one of the run
+     */
+    private long operationTimeoutMillis(ValidationOptions options, String path, Operation operation) {
+        Object value = operation.getExtensions() != null
+                ? operation.getExtensions().get(ValidationConstants.EXTENSION_TIMEOUT_MS)
+                : null;
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring {} of GET {}: not a number of milliseconds: {}",
+                        ValidationConstants.EXTENSION_TIMEOUT_MS, path, text);
+            }
+        }
+        return options.getOperationTimeoutMillis();
+    }
+
+    private void addDeadlineIssue(ValidationResult result, String path, OperationDeadline deadline) {
+        log.warn("GET {} cancelled after {} ms", path, deadline.getElapsedMillis());
+        if (deadline.getCause() == OperationDeadline.Cause.OPERATION_TIMEOUT) {
+            result.addIssue(ValidationIssue.of(IssueCode.TIMEOUT, ValidationConstants.HTTP_METHOD_GET, path, null,
+                    deadline.getTimeoutMillis(), deadline.getElapsedMillis()));
+        } else {
+            result.addIssue(ValidationIssue.of(IssueCode.CANCELLED, ValidationConstants.HTTP_METHOD_GET, path, null,
+                    "Cancelled after " + deadline.getElapsedMillis() + " ms"));
+        }
+    }
+
+    private void recordFailure(ValidationResult result, OperationTimings timings, HttpFetchEvent event,
+                               RestClientException e, long duration) {
+        int status = HttpFetcher.statusOf(e);
+        result.getProgress().requestCompleted(0, duration);
+        metrics.recordRequest(ValidationConstants.HTTP_METHOD_GET, timings.getPath(),
+                status != 0 ? String.valueOf(status) : "error", 0, duration);
+        commitFetchEvent(event, timings.getPath(), status, 0);
+    }
+
+    private void commitFetchEvent(HttpFetchEvent event, String path, int status, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = ValidationConstants.HTTP_METHOD_GET;
+            event.endpoint = path;
+            event.status = status;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    /**
+     * Issues of an operation are recorded through its deadline: a deadline that expires while they
+     * are written would interrupt the file channels of issue stores and reports, and the issues an
+     * operation found before it expired are dropped, as it is reported cancelled instead
+     */
+    private static Consumer<ValidationIssue> guarded(ValidationResult result, OperationDeadline deadline) {
+        return issue -> deadline.guard(() -> result.addIssue(issue));
+    }
+
+    private void validateResponseStatus(Consumer<ValidationIssue> issues, String path,
+                                        ResponseEntity<String> response) {
+        if (response.getStatusCode() != HttpStatus.OK) {
+            addStatusIssue(issues, path, response.getStatusCode());
+        }
+    }
+
+    private void addStatusIssue(Consumer<ValidationIssue> issues, String path, HttpStatusCode status) {
+        issues.accept(ValidationIssue.of(IssueCode.HTTP_STATUS,
+                ValidationConstants.HTTP_METHOD_GET, path, null, status));
+    }
+
+    private void validateResponseBody(Consumer<ValidationIssue> issues, String path, Operation operation,
+                                      String responseBody, OperationTimings timings) {
+        Schema<?> schema = extractJsonSchema(operation);
+        if (schema == null) {
+            log.warn("No JSON schema found for 200 response at {}", path);
+            return;
+        }
+
+        List<ValidationIssue> bodyIssues = responseValidatorService.validateResponseBody(
+                responseBody,
+                schema,
+                path,
+                timings
+        );
+
+        bodyIssues.forEach(issues);
+    }
+
+    private Schema<?> extractJsonSchema(Operation operation) {
+        Content content = content200(operation);
+        if (content == null) {
+            return null;
+        }
+
+        MediaType mediaType = content.get(ValidationConstants.CONTENT_TYPE_JSON);
+
+        return mediaType != null ? mediaType.getSchema() : null;
+    }
+
+    /**
+     * @return format of the first streaming media type (NDJSON, Server-Sent Events) of the 200 response, or null
+     */
+    private StreamRecordReader.Format extractStreamFormat(Operation operation) {
+        Content content = content200(operation);
+        if (content == null) {
+            return null;
+        }
+
+        for (String mediaType : content.keySet()) {
+            StreamRecordReader.Format format = StreamRecordReader.Format.forMediaType(mediaType);
+            if (format != null) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private Content content200(Operation operation) {
+        ApiResponse response200 = operation.getResponses() != null
+                ? operation.getResponses().get(ValidationConstants.STATUS_200)
+                : null;
+
+        return response200 != null ? response200.getContent() : null;
+    }
+
+    private void handleConnectionError(Consumer<ValidationIssue> issues, String path, RestClientException e) {
+        log.error("Request to GET {} failed: {}", path, e.getMessage());
+
+        issues.accept(ValidationIssue.of(IssueCode.UNREACHABLE,
+                ValidationConstants.HTTP_METHOD_GET, path, null, e.getMessage()));
+    }
+
+    private void logSummary(ValidationResult result, HostLimiter limiter) {
+        log.info("Validation finished in {} ms. Issues found: {} (errors: {})",
+                result.getDurationMillis(),
+                result.getTotalIssues(),
+                result.getErrorCount());
+        if (limiter.isEnabled()) {
+            log.info("Requests to {}: concurrency limit {}, throttled responses: {}",
+                    limiter.getHost(), String.format("%.1f", limiter.getLimit()), limiter.getThrottledResponses());
+        }
+    }
+
+    private String extractPathFromUrl(String fullUrl) {
+        return fullUrl.replaceFirst("^https?://[^/]+", "");
+    }
+}
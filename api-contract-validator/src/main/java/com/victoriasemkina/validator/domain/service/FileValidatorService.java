@@ -0,0 +1,177 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.replay.MappedFileInputStream;
+import com.victoriasemkina.validator.infra.schema.ValidationContext;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates JSON files of any size against a schema of the specification.
+ * <p>
+ * The file is read through memory-mapped windows. When the document is a top-level array
+ * and the schema is an array schema, elements are materialized one at a time and validated
+ * in batches on {@code options.getConcurrency()} workers, so memory stays bounded by the
+ * batches in flight rather than the file. The rules applied to each element are those
+ * {@code ArrayValidator} applies to items. Any other document is parsed and validated whole.
+ */
+@Slf4j
+@Service
+public class FileValidatorService {
+
+    /** Batches queued per worker; the reader validates a batch itself when the queue is full */
+    private static final int QUEUE_PER_WORKER = 2;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ResponseValidatorService responseValidatorService;
+    private final ValidatorMetrics metrics;
+
+    @Autowired
+    public FileValidatorService(ResponseValidatorService responseValidatorService, ValidatorMetrics metrics) {
+        this.responseValidatorService = responseValidatorService;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Validates the file into the result; the result is finished afterwards
+     *
+     * @param method    method the issues are reported under
+     * @param path      path the issues are reported under, e.g. the operation template
+     * @param batchSize array elements validated per task
+     * @param options   concurrency of the validation
+     */
+    public Stats validate(Path file, Schema<?> schema, String method, String path, int batchSize,
+                          ValidationOptions options, ValidationResult result) throws IOException, InterruptedException {
+        result.addListener(metrics.issueListener());
+        result.setTotalEndpoints(1);
+        OperationTimings timings = result.timingsFor(method, path);
+        long started = System.nanoTime();
+        long size = Files.size(file);
+        long elements;
+
+        try (MappedFileInputStream input = new MappedFileInputStream(file);
+             JsonParser parser = MAPPER.getFactory().createParser(input)) {
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                result.addIssue(ValidationIssue.of(IssueCode.EMPTY_BODY, method, path, null));
+                elements = 0;
+            } else if (first == JsonToken.START_ARRAY && schema instanceof ArraySchema arraySchema
+                    && arraySchema.getItems() != null) {
+                elements = validateElements(parser, arraySchema.getItems(), method, path, batchSize,
+                        options.getConcurrency(), result);
+            } else {
+                JsonNode root = parser.readValueAsTree();
+                responseValidatorService.validateNode(root, schema, new ValidationContext("$", path, method))
+                        .forEach(result::addIssue);
+                elements = 1;
+            }
+        } catch (JsonProcessingException e) {
+            result.addIssue(ValidationIssue.of(IssueCode.INVALID_JSON, method, path, null, e.getOriginalMessage()));
+            elements = 0;
+        }
+
+        long elapsed = System.nanoTime() - started;
+        timings.record(OperationTimings.Phase.TOTAL, elapsed);
+        result.getProgress().endpointCompleted();
+        result.finish();
+
+        Stats stats = new Stats(elements, size, elapsed);
+        log.info("File validated: {} elements, {} MB in {} ms ({} MB/s). Issues found: {} (errors: {})",
+                stats.elements(), stats.bytes() / (1024 * 1024), elapsed / 1_000_000,
+                String.format("%.1f", stats.bytesPerSecond() / (1024 * 1024)),
+                result.getTotalIssues(), result.getErrorCount());
+        return stats;
+    }
+
+    private long validateElements(JsonParser parser, Schema<?> itemsSchema, String method, String path,
+                                  int batchSize, int concurrency, ValidationResult result)
+            throws IOException, InterruptedException {
+        int workers = Math.max(1, concurrency);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Bounded queue + caller-runs: parsing never gets more than a few batches ahead
+        ExecutorService executor = metrics.monitor(new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * QUEUE_PER_WORKER), runnable -> {
+            Thread thread = new Thread(runnable, "file-validator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy()), "file-validators");
+
+        TaskFailure failure = new TaskFailure();
+        long index = 0;
+        try {
+            List<JsonNode> batch = new ArrayList<>(batchSize);
+            long batchStart = 0;
+            JsonToken token;
+            while (!failure.isSet() && (token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                batch.add(parser.readValueAsTree());
+                index++;
+                if (batch.size() == batchSize) {
+                    submit(executor, failure, batch, batchStart, itemsSchema, method, path, result);
+                    batch = new ArrayList<>(batchSize);
+                    batchStart = index;
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(executor, failure, batch, batchStart, itemsSchema, method, path, result);
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        failure.rethrow();
+        return index;
+    }
+
+    private void submit(ExecutorService executor, TaskFailure failure, List<JsonNode> batch, long firstIndex,
+                        Schema<?> itemsSchema, String method, String path, ValidationResult result) {
+        executor.execute(failure.guard(() -> {
+            ValidationContext context = new ValidationContext("$", path, method);
+            for (int i = 0; i < batch.size(); i++) {
+                context.enterItem(firstIndex + i);
+                try {
+                    responseValidatorService.validateNode(batch.get(i), itemsSchema, context)
+                            .forEach(result::addIssue);
+                } finally {
+                    context.leave();
+                }
+            }
+        }));
+    }
+
+    /**
+     * @param elements     top-level array elements validated, 1 for other documents
+     * @param bytes        file size
+     * @param elapsedNanos duration of the validation
+     */
+    public record Stats(long elements, long bytes, long elapsedNanos) {
+
+        public double bytesPerSecond() {
+            return elapsedNanos > 0 ? bytes * 1e9 / elapsedNanos : 0;
+        }
+    }
+}
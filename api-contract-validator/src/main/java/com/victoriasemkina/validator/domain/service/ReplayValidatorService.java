@@ -0,0 +1,141 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.RecordedExchange;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ExchangeSource;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates exchanges that already happened — recorded traffic, logged responses, responses
+ * seen by a proxy — against the operations of a specification, without sending requests.
+ */
+@Slf4j
+@Service
+public class ReplayValidatorService {
+
+    /** Exchanges queued per worker; the reader runs validation itself when the queue is full */
+    private static final int QUEUE_PER_WORKER = 64;
+
+    private final ResponseValidatorService responseValidatorService;
+    private final ValidatorMetrics metrics;
+
+    @Autowired
+    public ReplayValidatorService(ResponseValidatorService responseValidatorService, ValidatorMetrics metrics) {
+        this.responseValidatorService = responseValidatorService;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Reads the source to the end, validating exchanges on {@code options.getConcurrency()} workers
+     *
+     * @return counts of the replay; the result is finished afterwards
+     */
+    public Stats replay(OperationRouter router, ExchangeSource source, ValidationOptions options,
+                        ValidationResult result) throws IOException, InterruptedException {
+        result.addListener(metrics.issueListener());
+        LongAdder unmatched = new LongAdder();
+        LongAdder bytes = new LongAdder();
+        long exchanges = 0;
+        long started = System.nanoTime();
+
+        int workers = Math.max(1, options.getConcurrency());
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Bounded queue + caller-runs: the reader never gets more than a queue ahead of validation
+        ExecutorService executor = metrics.monitor(new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * QUEUE_PER_WORKER), runnable -> {
+            Thread thread = new Thread(runnable, "replay-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy()), "replay-workers");
+
+        TaskFailure failure = new TaskFailure();
+        try {
+            RecordedExchange exchange;
+            while (!failure.isSet() && (exchange = source.next()) != null) {
+                exchanges++;
+                RecordedExchange current = exchange;
+                executor.execute(failure.guard(() -> {
+                    if (current.getBody() != null) {
+                        bytes.add(current.getBody().length());
+                    }
+                    if (!validateExchange(router, current, result)) {
+                        unmatched.increment();
+                    }
+                    source.completed(current);
+                }));
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        failure.rethrow();
+
+        result.setTotalEndpoints(result.getTimings().size());
+        result.finish();
+
+        Stats stats = new Stats(exchanges, unmatched.sum(), bytes.sum(), System.nanoTime() - started);
+        log.info("Replay finished: {} exchanges ({} unmatched), {} operations, {} MB in {} ms. Issues found: {} (errors: {})",
+                stats.exchanges(), stats.unmatched(), result.getTotalEndpoints(),
+                stats.bytes() / (1024 * 1024), stats.elapsedNanos() / 1_000_000,
+                result.getTotalIssues(), result.getErrorCount());
+        return stats;
+    }
+
+    /**
+     * Validates one exchange into the result; safe to call from several threads
+     *
+     * @return false when no operation of the specification matches the exchange
+     */
+    public boolean validateExchange(OperationRouter router, RecordedExchange exchange, ValidationResult result) {
+        OperationRouter.Route route = router.match(exchange.getMethod(), exchange.getPath());
+        if (route == null) {
+            log.debug("No operation for {} {}", exchange.getMethod(), exchange.getPath());
+            return false;
+        }
+
+        long started = System.nanoTime();
+        OperationTimings timings = result.timingsFor(route.method(), route.template());
+        if (!route.documents(exchange.getStatus())) {
+            result.addIssue(ValidationIssue.of(IssueCode.UNDOCUMENTED_STATUS,
+                    route.method(), route.template(), null, exchange.getStatus()));
+        } else {
+            Schema<?> schema = route.responseSchema(exchange.getStatus());
+            if (schema != null) {
+                List<ValidationIssue> issues = responseValidatorService.validateResponseBody(
+                        exchange.getBody(), schema, route.method(), route.template(), timings);
+                issues.forEach(result::addIssue);
+            }
+        }
+        // No request was sent: the total is the time spent on the exchange here
+        timings.record(OperationTimings.Phase.TOTAL, System.nanoTime() - started);
+        result.getProgress().endpointCompleted();
+        return true;
+    }
+
+    /**
+     * @param exchanges    exchanges read from the source
+     * @param unmatched    exchanges no operation matched
+     * @param bytes        response body characters validated
+     * @param elapsedNanos duration of the replay
+     */
+    public record Stats(long exchanges, long unmatched, long bytes, long elapsedNanos) {
+    }
+}
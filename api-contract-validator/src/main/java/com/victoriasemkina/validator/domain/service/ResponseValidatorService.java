@@ -0,0 +1,160 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victoriasemkina.validator.config.ValidationConstants;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.infra.schema.SchemaValidator;
+import com.victoriasemkina.validator.infra.jfr.JsonParseEvent;
+import com.victoriasemkina.validator.infra.jfr.SchemaValidationEvent;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.schema.ValidationContext;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Main response validation service
+ * Coordinates validation across specialized validators
+ */
+@Slf4j
+@Service
+public class ResponseValidatorService {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<SchemaValidator> validators;
+    private final ValidatorMetrics metrics;
+
+    @Autowired
+    public ResponseValidatorService(List<SchemaValidator> validators, ValidatorMetrics metrics) {
+        this.validators = validators;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Validates response body against OpenAPI schema
+     */
+    public List<ValidationIssue> validateResponseBody(String responseBody,
+                                                      Schema<?> schema,
+                                                      String endpointPath) {
+        return validateResponseBody(responseBody, schema, endpointPath, null);
+    }
+
+    /**
+     * Validates response body against OpenAPI schema, recording parse and validation time
+     *
+     * @param timings operation timings to record into, or null
+     */
+    public List<ValidationIssue> validateResponseBody(String responseBody,
+                                                      Schema<?> schema,
+                                                      String endpointPath,
+                                                      OperationTimings timings) {
+        return validateResponseBody(responseBody, schema, ValidationConstants.HTTP_METHOD_GET, endpointPath, timings);
+    }
+
+    /**
+     * Validates the response body of any operation, e.g. one taken from recorded traffic
+     *
+     * @param method  HTTP method of the operation the issues are reported for
+     * @param timings operation timings to record into, or null
+     */
+    public List<ValidationIssue> validateResponseBody(String responseBody,
+                                                      Schema<?> schema,
+                                                      String method,
+                                                      String endpointPath,
+                                                      OperationTimings timings) {
+        List<ValidationIssue> issues = new ArrayList<>();
+
+        if (responseBody == null || responseBody.trim().isEmpty()) {
+            issues.add(ValidationIssue.of(IssueCode.EMPTY_BODY, method, endpointPath, null));
+            return issues;
+        }
+
+        try {
+            JsonParseEvent parseEvent = new JsonParseEvent();
+            parseEvent.begin();
+            long parseStart = System.nanoTime();
+            JsonNode rootNode = objectMapper.readTree(responseBody);
+            long validateStart = System.nanoTime();
+            parseEvent.end();
+            if (parseEvent.shouldCommit()) {
+                parseEvent.endpoint = endpointPath;
+                parseEvent.length = responseBody.length();
+                parseEvent.commit();
+            }
+
+            ValidationContext context = new ValidationContext(
+                    "$",
+                    endpointPath,
+                    method
+            );
+
+            SchemaValidationEvent validationEvent = new SchemaValidationEvent();
+            validationEvent.begin();
+            issues.addAll(validateRoot(rootNode, schema, context));
+            long validateNanos = System.nanoTime() - validateStart;
+            validationEvent.end();
+            if (validationEvent.shouldCommit()) {
+                validationEvent.endpoint = endpointPath;
+                validationEvent.schema = ValidatorMetrics.schemaName(schema);
+                // Only counted while a recording is running
+                validationEvent.nodeCount = countNodes(rootNode);
+                validationEvent.issues = issues.size();
+                validationEvent.commit();
+            }
+
+            // Measured once per response rather than inside the recursive validators
+            metrics.recordSchemaValidation(schema, validateNanos);
+            if (timings != null) {
+                timings.record(OperationTimings.Phase.PARSE, validateStart - parseStart);
+                timings.record(OperationTimings.Phase.VALIDATE, validateNanos);
+            }
+        } catch (CancellationException e) {
+            // The operation ran out of time: not a problem of the body
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to parse response body as JSON for endpoint: {}", endpointPath, e);
+            issues.add(ValidationIssue.of(IssueCode.INVALID_JSON, method, endpointPath, null, e.getMessage()));
+        }
+
+        return issues;
+    }
+
+    /**
+     * Validates an already parsed value, e.g. one element of a streamed array
+     *
+     * @param context positioned at the value; issues are reported relative to it
+     */
+    public List<ValidationIssue> validateNode(JsonNode node, Schema<?> schema, ValidationContext context) {
+        return validateRoot(node, schema, context);
+    }
+
+    private static int countNodes(JsonNode node) {
+        int count = 1;
+        for (JsonNode child : node) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    private List<ValidationIssue> validateRoot(JsonNode node, Schema<?> schema,
+                                               ValidationContext context) {
+        for (SchemaValidator validator : validators) {
+            if (validator.supports(schema)) {
+                return validator.validate(node, schema, context);
+            }
+        }
+
+        log.warn("No validator found for schema type: {}",
+                schema != null ? schema.getType() : "null");
+        return new ArrayList<>();
+    }
+}
\ No newline at end of file
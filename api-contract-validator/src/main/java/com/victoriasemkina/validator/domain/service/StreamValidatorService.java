@@ -0,0 +1,159 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victoriasemkina.validator.domain.model.FieldPath;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.infra.http.StreamRecordReader;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.schema.ValidationContext;
+import io.micrometer.core.instrument.Counter;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Validates streaming responses (NDJSON, Server-Sent Events) record by record as they arrive,
+ * so feeds that stay open for minutes are checked without buffering the body.
+ * <p>
+ * Each record is validated against the item schema: the items of the media type schema when it
+ * is an array, the schema itself otherwise. Issues are reported at {@code $[n]}, the index of the
+ * record in the stream. Reading stops at the end of the stream or at the record or time limit
+ * of the options, whichever comes first; the time limit is checked as lines arrive, keep-alives
+ * included, so only a silent stream is bounded by the HTTP read timeout instead.
+ */
+@Slf4j
+@Service
+public class StreamValidatorService {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ResponseValidatorService responseValidatorService;
+    private final ValidatorMetrics metrics;
+
+    @Autowired
+    public StreamValidatorService(ResponseValidatorService responseValidatorService, ValidatorMetrics metrics) {
+        this.responseValidatorService = responseValidatorService;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Reads and validates records until the stream ends or a limit is reached; the caller closes the stream
+     *
+     * @param schema  schema of the streaming media type
+     * @param options record and time limits of the stream
+     * @param issues  receives the issues of each record, e.g. {@code result::addIssue}
+     * @param timings operation timings to record per-record parse and validation time into
+     */
+    public Stats validate(InputStream body, StreamRecordReader.Format format, Schema<?> schema,
+                          String method, String path, ValidationOptions options, Consumer<ValidationIssue> issues,
+                          OperationTimings timings) throws IOException {
+        Schema<?> itemSchema = itemSchema(schema);
+        int maxRecords = Math.max(1, options.getStreamMaxRecords());
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(Math.max(1, options.getStreamMaxSeconds()));
+
+        StreamRecordReader reader = new StreamRecordReader(body, format, deadline);
+        ValidationContext context = new ValidationContext("$", path, method);
+        Counter counter = metrics.streamRecords(method, path);
+        int records = 0;
+        StopReason stopReason = StopReason.END_OF_STREAM;
+        try {
+            String record;
+            while (true) {
+                if (records >= maxRecords) {
+                    stopReason = StopReason.RECORD_LIMIT;
+                    break;
+                }
+                if ((record = reader.next()) == null) {
+                    if (reader.isExpired()) {
+                        stopReason = StopReason.TIME_LIMIT;
+                    }
+                    break;
+                }
+                validateRecord(record, records++, itemSchema, context, issues, timings);
+                counter.increment();
+            }
+        } catch (SocketTimeoutException e) {
+            // No record within the read timeout: an idle feed, not a failed request
+            stopReason = StopReason.IDLE;
+        }
+
+        Stats stats = new Stats(records, System.nanoTime() - started, stopReason);
+        log.info("Stream {} {}: {} records in {} ms ({} records/s), stopped: {}",
+                method, path, stats.records(), stats.elapsedNanos() / 1_000_000,
+                String.format("%.1f", stats.recordsPerSecond()), stopReason.getLabel());
+        return stats;
+    }
+
+    private void validateRecord(String record, int index, Schema<?> itemSchema, ValidationContext context,
+                                Consumer<ValidationIssue> issues, OperationTimings timings) {
+        long parseStart = System.nanoTime();
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(record);
+        } catch (JsonProcessingException e) {
+            issues.accept(ValidationIssue.of(IssueCode.INVALID_JSON, context.getHttpMethod(),
+                    context.getEndpointPath(), FieldPath.ROOT.item(index), e.getOriginalMessage()));
+            return;
+        }
+        long validateStart = System.nanoTime();
+
+        context.enterItem(index);
+        try {
+            responseValidatorService.validateNode(node, itemSchema, context).forEach(issues);
+        } finally {
+            context.leave();
+        }
+        long validateNanos = System.nanoTime() - validateStart;
+
+        metrics.recordSchemaValidation(itemSchema, validateNanos);
+        timings.record(OperationTimings.Phase.PARSE, validateStart - parseStart);
+        timings.record(OperationTimings.Phase.VALIDATE, validateNanos);
+    }
+
+    private static Schema<?> itemSchema(Schema<?> schema) {
+        return schema instanceof ArraySchema arraySchema && arraySchema.getItems() != null
+                ? arraySchema.getItems() : schema;
+    }
+
+    public enum StopReason {
+        END_OF_STREAM("end of stream"),
+        RECORD_LIMIT("record limit"),
+        TIME_LIMIT("time limit"),
+        IDLE("read timeout");
+
+        private final String label;
+
+        StopReason(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * @param records      records validated
+     * @param elapsedNanos time from the first read to the end of reading
+     */
+    public record Stats(int records, long elapsedNanos, StopReason stopReason) {
+
+        public double recordsPerSecond() {
+            return elapsedNanos > 0 ? records * 1e9 / elapsedNanos : 0;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.victoriasemkina.validator.domain.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * First exception thrown by the tasks of a worker pool.
+ * <p>
+ * A task passed to {@code execute} loses its exception to the uncaught-exception handler of
+ * the worker, and the run would end as if it had succeeded. Guarded tasks keep the first one
+ * instead; the caller stops feeding the pool and rethrows it once the pool has terminated.
+ */
+final class TaskFailure {
+
+    private final AtomicReference<Throwable> first = new AtomicReference<>();
+
+    /**
+     * Wraps a task so its exception is kept; once a task has failed, the remaining ones are skipped
+     */
+    Runnable guard(Runnable task) {
+        return () -> {
+            if (first.get() != null) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                first.compareAndSet(null, e);
+            }
+        };
+    }
+
+    boolean isSet() {
+        return first.get() != null;
+    }
+
+    /**
+     * Rethrows the first exception of the tasks, if any
+     */
+    void rethrow() {
+        Throwable e = first.get();
+        if (e instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        if (e != null) {
+            throw new IllegalStateException("Validation task failed", e);
+        }
+    }
+}
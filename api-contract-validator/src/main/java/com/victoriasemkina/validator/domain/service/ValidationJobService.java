@@ -0,0 +1,57 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.victoriasemkina.validator.domain.model.ValidationJob;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.infra.openapi.OpenApiParserService;
+import io.swagger.v3.oas.models.OpenAPI;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Runs validation jobs for long-lived modes.
+ * Specifications are taken from the parser cache, so repeated jobs skip parsing.
+ */
+@Slf4j
+@Service
+public class ValidationJobService {
+
+    private final OpenApiParserService parserService;
+    private final ContractValidatorService validatorService;
+
+    @Autowired
+    public ValidationJobService(OpenApiParserService parserService,
+                                ContractValidatorService validatorService) {
+        this.parserService = parserService;
+        this.validatorService = validatorService;
+    }
+
+    /**
+     * Runs a single job
+     *
+     * @throws IllegalArgumentException if the job is incomplete
+     */
+    public ValidationResult run(ValidationJob job) {
+        return run(job, new ValidationResult());
+    }
+
+    /**
+     * Runs a single job into a caller-prepared result, e.g. one with listeners attached
+     *
+     * @throws IllegalArgumentException if the job is incomplete
+     */
+    public ValidationResult run(ValidationJob job, ValidationResult result) {
+        if (!StringUtils.hasText(job.getSpec())) {
+            throw new IllegalArgumentException("Job spec path cannot be empty");
+        }
+        if (!StringUtils.hasText(job.getBaseUrl())) {
+            throw new IllegalArgumentException("Job base URL cannot be empty");
+        }
+
+        log.info("Running job '{}' against {}", job.getDisplayName(), job.getBaseUrl());
+
+        OpenAPI openAPI = parserService.parseCached(job.getSpec());
+        return validatorService.validate(openAPI, job.getBaseUrl(), result);
+    }
+}
@@ -0,0 +1,87 @@
+package com.victoriasemkina.validator.infra.daemon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.SocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Thin client for {@link JobServer}. Has no Spring dependencies so it can run
+ * without starting the application context.
+ */
+public class JobClient {
+
+    private final SocketAddress address;
+    private final PrintStream out;
+
+    public JobClient(SocketAddress address, PrintStream out) {
+        this.address = address;
+        this.out = out;
+    }
+
+    /**
+     * Submits a job request and prints results as they arrive
+     *
+     * @param request job request
+     * @param raw print protocol lines as-is instead of human-readable text
+     * @return exit code reported by the server (1 if the connection ended early)
+     */
+    public int submit(JobProtocol.JobRequest request, boolean raw) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(address);
+             BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+             BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8))) {
+
+            writer.write(JobProtocol.MAPPER.writeValueAsString(request));
+            writer.newLine();
+            writer.flush();
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonNode message = JobProtocol.MAPPER.readTree(line);
+
+                if (raw) {
+                    out.println(line);
+                } else {
+                    printMessage(message);
+                }
+
+                if (JobProtocol.TYPE_DONE.equals(message.path("type").asText())) {
+                    return message.path("exitCode").asInt(1);
+                }
+            }
+        }
+
+        out.println("Connection closed before the job finished");
+        return 1;
+    }
+
+    private void printMessage(JsonNode message) {
+        String job = message.path("job").asText("");
+
+        switch (message.path("type").asText()) {
+            case JobProtocol.TYPE_ISSUE -> out.printf("[%s] %s %s: %s (expected: '%s', actual: '%s')%n",
+                    message.path("severity").asText(),
+                    message.path("method").asText(),
+                    message.path("path").asText(),
+                    message.path("description").asText(),
+                    message.path("expected").asText("-"),
+                    message.path("actual").asText("-"));
+            case JobProtocol.TYPE_SUMMARY -> out.printf("%s %s: %d endpoints, %d issues in %d ms%n",
+                    message.path("hasErrors").asBoolean() ? "❌" : "✅",
+                    job,
+                    message.path("totalEndpoints").asInt(),
+                    message.path("totalIssues").asInt(),
+                    message.path("durationMillis").asLong());
+            case JobProtocol.TYPE_ERROR -> out.printf("❌ %s: %s%n", job, message.path("message").asText());
+            default -> {
+                // done and unknown messages are not printed
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.victoriasemkina.validator.infra.daemon;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Path;
+
+/**
+ * Wire protocol shared by {@link JobServer} and {@link JobClient}.
+ * <p>
+ * One job request per connection. The client sends a single JSON line
+ * ({@link JobRequest}); the server answers with JSON lines, each carrying a {@code type}:
+ * {@code issue}, {@code summary} (one per finished job), {@code error} and a final {@code done}.
+ */
+public final class JobProtocol {
+
+    public static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public static final String TYPE_ISSUE = "issue";
+    public static final String TYPE_SUMMARY = "summary";
+    public static final String TYPE_ERROR = "error";
+    public static final String TYPE_DONE = "done";
+
+    public static final String DEFAULT_SOCKET_PATH =
+            Path.of(System.getProperty("java.io.tmpdir"), "api-contract-validator.sock").toString();
+
+    private JobProtocol() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Resolves the daemon address: localhost TCP when a port is given, Unix domain socket otherwise
+     */
+    public static SocketAddress resolveAddress(String socketPath, Integer port) {
+        if (port != null) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        }
+        return UnixDomainSocketAddress.of(socketPath != null ? socketPath : DEFAULT_SOCKET_PATH);
+    }
+
+    public static String issueMessage(String job, ValidationIssue issue) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("type", TYPE_ISSUE);
+        node.put("job", job);
+        node.put("severity", issue.getSeverity().name());
+        node.put("method", issue.getMethod());
+        node.put("path", issue.getPath());
+        node.put("description", issue.getDescription());
+        node.put("expected", issue.getExpected());
+        node.put("actual", issue.getActual());
+        node.put("rule", issue.getRule());
+        node.put("fieldPath", issue.getFieldPath());
+        return node.toString();
+    }
+
+    public static String summaryMessage(String job, ValidationResult result) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("type", TYPE_SUMMARY);
+        node.put("job", job);
+        node.put("baseUrl", result.getBaseUrl());
+        node.put("totalEndpoints", result.getTotalEndpoints());
+        node.put("totalIssues", result.getTotalIssues());
+        node.put("hasErrors", result.hasErrors());
+        node.put("durationMillis", result.getDurationMillis());
+        return node.toString();
+    }
+
+    public static String errorMessage(String job, String message) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("type", TYPE_ERROR);
+        node.put("job", job);
+        node.put("message", message);
+        return node.toString();
+    }
+
+    public static String doneMessage(int exitCode) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("type", TYPE_DONE);
+        node.put("exitCode", exitCode);
+        return node.toString();
+    }
+
+    /**
+     * Job request sent by the client: either a single spec/base URL pair or a batch manifest
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobRequest {
+
+        private String name;
+
+        private String spec;
+
+        private String baseUrl;
+
+        /** Path to a batch manifest, resolved on the server side */
+        private String manifest;
+    }
+}
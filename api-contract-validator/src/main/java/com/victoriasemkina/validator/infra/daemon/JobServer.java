@@ -0,0 +1,196 @@
+package com.victoriasemkina.validator.infra.daemon;
+
+import com.victoriasemkina.validator.domain.model.ValidationJob;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.service.ValidationJobService;
+import com.victoriasemkina.validator.infra.manifest.JobManifestReader;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resident job server: accepts validation jobs over a Unix domain socket or localhost TCP
+ * and streams results back using {@link JobProtocol}.
+ */
+@Slf4j
+@Component
+public class JobServer {
+
+    private final ValidationJobService jobService;
+    private final JobManifestReader manifestReader;
+    private final ValidatorMetrics metrics;
+
+    private volatile ServerSocketChannel serverChannel;
+
+    @Autowired
+    public JobServer(ValidationJobService jobService, JobManifestReader manifestReader,
+                     ValidatorMetrics metrics) {
+        this.jobService = jobService;
+        this.manifestReader = manifestReader;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Accepts connections until {@link #stop()} is called. Blocks the calling thread.
+     *
+     * @param address Unix domain socket or loopback TCP address
+     * @param workers number of jobs processed concurrently
+     */
+    public void serve(SocketAddress address, int workers) throws IOException {
+        ExecutorService executor = metrics.monitor(Executors.newFixedThreadPool(workers), "daemon-workers");
+
+        try (ServerSocketChannel server = open(address)) {
+            serverChannel = server;
+            log.info("🟢 Validator daemon listening on {} ({} workers)", address, workers);
+
+            while (server.isOpen()) {
+                SocketChannel client;
+                try {
+                    client = server.accept();
+                } catch (AsynchronousCloseException e) {
+                    break;
+                }
+                executor.execute(() -> handle(client));
+            }
+        } finally {
+            executor.shutdown();
+            awaitTermination(executor);
+            deleteSocketFile(address);
+            log.info("Validator daemon stopped");
+        }
+    }
+
+    public void stop() {
+        ServerSocketChannel server = serverChannel;
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                log.warn("Failed to close daemon socket: {}", e.getMessage());
+            }
+        }
+    }
+
+    private ServerSocketChannel open(SocketAddress address) throws IOException {
+        if (address instanceof UnixDomainSocketAddress unixAddress) {
+            // A stale socket file from a previous run would make bind fail
+            Files.deleteIfExists(unixAddress.getPath());
+            return ServerSocketChannel.open(StandardProtocolFamily.UNIX).bind(address);
+        }
+        return ServerSocketChannel.open().bind(address);
+    }
+
+    private void handle(SocketChannel client) {
+        try (client;
+             BufferedReader reader = new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+             BufferedWriter writer = new BufferedWriter(Channels.newWriter(client, StandardCharsets.UTF_8))) {
+
+            String line = reader.readLine();
+            if (line == null) {
+                return;
+            }
+
+            try (JobStreamWriter stream = new JobStreamWriter(writer)) {
+                int exitCode;
+                try {
+                    JobProtocol.JobRequest request = JobProtocol.MAPPER.readValue(line, JobProtocol.JobRequest.class);
+                    exitCode = runJobs(resolveJobs(request), stream);
+                } catch (Exception e) {
+                    log.error("Rejected job request: {}", e.getMessage());
+                    stream.send(JobProtocol.errorMessage(null, e.getMessage()));
+                    exitCode = 1;
+                }
+
+                stream.send(JobProtocol.doneMessage(exitCode));
+            }
+        } catch (IOException e) {
+            log.warn("Client connection failed: {}", e.getMessage());
+        }
+    }
+
+    private List<ValidationJob> resolveJobs(JobProtocol.JobRequest request) throws IOException {
+        if (StringUtils.hasText(request.getManifest())) {
+            return manifestReader.read(request.getManifest());
+        }
+        return List.of(new ValidationJob(request.getName(), request.getSpec(), request.getBaseUrl()));
+    }
+
+    private int runJobs(List<ValidationJob> jobs, JobStreamWriter stream) {
+        int exitCode = 0;
+
+        for (ValidationJob job : jobs) {
+            if (stream.isFailed()) {
+                // The client went away: the remaining jobs have nobody to report to
+                break;
+            }
+            String name = job.getDisplayName();
+            try {
+                // Issues go to the client as they are produced instead of being kept in the result;
+                // they are only queued here, as listeners run under the result lock. Once the client
+                // is failed as too slow, the job runs on without streaming
+                ValidationResult result = new ValidationResult();
+                result.setRetainIssues(false);
+                result.addListener(issue -> {
+                    if (!stream.isFailed()) {
+                        stream.send(JobProtocol.issueMessage(name, issue));
+                    }
+                });
+
+                jobService.run(job, result);
+                stream.send(JobProtocol.summaryMessage(name, result));
+
+                if (result.hasErrors()) {
+                    exitCode = 1;
+                }
+            } catch (RuntimeException e) {
+                log.error("Job '{}' failed: {}", name, e.getMessage());
+                stream.send(JobProtocol.errorMessage(name, e.getMessage()));
+                exitCode = 1;
+            }
+            // Push each finished job to the client right away
+            stream.flush();
+        }
+
+        return exitCode;
+    }
+
+    private void awaitTermination(ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deleteSocketFile(SocketAddress address) {
+        if (address instanceof UnixDomainSocketAddress unixAddress) {
+            try {
+                Files.deleteIfExists(unixAddress.getPath());
+            } catch (IOException e) {
+                log.warn("Failed to delete socket file {}: {}", unixAddress.getPath(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.victoriasemkina.validator.infra.daemon;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes protocol lines to a client on its own thread.
+ * <p>
+ * Issues are streamed from {@code ValidationResult.addIssue}, which runs under the result lock;
+ * writing to the socket there would let a slow client stall every worker of the job. Lines are
+ * queued instead and written in order. Once a write fails the client is gone: later lines are
+ * dropped and the failure is reported by {@link #isFailed()} and {@link #close()}.
+ * <p>
+ * At most {@value #QUEUE_CAPACITY} lines wait in the queue. A client that falls further behind,
+ * or stops reading while keeping its socket open, is failed as too slow rather than letting the
+ * daemon hold every line of the run on the heap.
+ */
+class JobStreamWriter implements AutoCloseable {
+
+    static final int QUEUE_CAPACITY = 10_000;
+
+    /** Queued to push the lines written so far to the client */
+    private static final String FLUSH = new String("flush");
+
+    /** Queued last: the writer thread exits once it is taken */
+    private static final String END = new String("end");
+
+    private final Writer writer;
+    private final BlockingQueue<String> lines = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread thread;
+    private volatile IOException failure;
+
+    JobStreamWriter(Writer writer) {
+        this.writer = writer;
+        this.thread = new Thread(this::drain, "validator-daemon-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues a line; never blocks. A full queue fails the client as too slow.
+     */
+    void send(String line) {
+        if (failure == null && !lines.offer(line)) {
+            tooSlow();
+        }
+    }
+
+    private void tooSlow() {
+        failure = new IOException("Client too slow: more than " + QUEUE_CAPACITY + " lines pending");
+        lines.clear();
+    }
+
+    /**
+     * Queues a flush of the lines sent so far
+     */
+    void flush() {
+        send(FLUSH);
+    }
+
+    boolean isFailed() {
+        return failure != null;
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                String line = lines.take();
+                if (line == END) {
+                    writer.flush();
+                    return;
+                }
+                if (line == FLUSH) {
+                    writer.flush();
+                } else {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+            lines.clear();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the remaining lines and waits for the writer thread
+     *
+     * @throws IOException if a line could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (failure == null && !lines.offer(END)) {
+            tooSlow();
+        }
+        if (failure != null) {
+            // A stalled client blocks the writer thread in a write: the interrupt closes the channel
+            thread.interrupt();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            thread.interrupt();
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.victoriasemkina.validator.infra.generator;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Settings of a {@link PayloadGenerator} run
+ */
+@Data
+@Builder
+public class GenerationOptions {
+
+    /**
+     * Approximate size of the document in bytes, reached by repeating the items of the
+     * outermost array. 0 writes a single instance with short arrays.
+     */
+    @Builder.Default
+    private long targetBytes = 0;
+
+    /** Share of objects made invalid, 0 to 1 */
+    @Builder.Default
+    private double mutationRate = 0;
+
+    /** Seed of the pseudo-random choices, so the same options give the same document */
+    @Builder.Default
+    private long seed = 42;
+
+    /** Nesting depth after which only required properties and empty arrays are written */
+    @Builder.Default
+    private int maxDepth = 8;
+}
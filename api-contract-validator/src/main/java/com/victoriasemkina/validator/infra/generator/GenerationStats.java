@@ -0,0 +1,11 @@
+package com.victoriasemkina.validator.infra.generator;
+
+/**
+ * Outcome of a {@link PayloadGenerator} run
+ *
+ * @param bytes     bytes written
+ * @param objects   objects written, at any depth
+ * @param mutations objects made invalid on purpose
+ */
+public record GenerationStats(long bytes, long objects, long mutations) {
+}
@@ -0,0 +1,374 @@
+package com.victoriasemkina.validator.infra.generator;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Writes synthetic JSON documents that follow an OpenAPI schema, as loaded by
+ * {@code OpenApiParserService}: objects, arrays, primitives with their formats, enums and bounds.
+ * <p>
+ * The document is streamed straight to the output, so memory use does not depend on its size.
+ * The target size is reached by repeating the items of the outermost array. A share of objects
+ * can be broken on purpose — a missing required property, a wrong type, an unexpected
+ * {@code null} or an unknown property — to exercise the validator.
+ */
+@Slf4j
+@Component
+public class PayloadGenerator {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** Items of arrays that do not drive the document size */
+    private static final int SHORT_ARRAY_ITEMS = 2;
+
+    /**
+     * Levels of required properties written past the maximum depth; deeper than that the schema
+     * requires itself, and no finite document can satisfy it
+     */
+    static final int MAX_REQUIRED_DEPTH = 64;
+
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private enum Mutation { DROP_REQUIRED, WRONG_TYPE, NULL_VALUE, UNKNOWN_PROPERTY }
+
+    /**
+     * Writes one document; the output stream is flushed but not closed
+     */
+    public GenerationStats generate(Schema<?> schema, OutputStream out, GenerationOptions options) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(out);
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(counting, JsonEncoding.UTF8)) {
+            json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            Run run = new Run(json, counting, options, findSizingArray(schema));
+            if (options.getTargetBytes() > 0 && run.sizingArray == null) {
+                log.warn("Schema has no array to repeat; target size of {} bytes is ignored", options.getTargetBytes());
+            }
+            run.write(schema, 0);
+            json.flush();
+            return new GenerationStats(counting.count, run.objects, run.mutations);
+        }
+    }
+
+    /**
+     * Outermost array reachable through object properties, searched breadth-first
+     */
+    private Schema<?> findSizingArray(Schema<?> root) {
+        Deque<Schema<?>> queue = new ArrayDeque<>();
+        queue.add(root);
+        int visited = 0;
+        while (!queue.isEmpty() && visited++ < 1_000) {
+            Schema<?> schema = effective(queue.poll());
+            if (isArray(schema)) {
+                return schema;
+            }
+            Map<String, Schema> properties = propertiesOf(schema);
+            if (properties != null) {
+                for (Schema<?> property : properties.values()) {
+                    queue.add(property);
+                }
+            }
+        }
+        return null;
+    }
+
+    // ---- schema helpers ----
+
+    /**
+     * For oneOf / anyOf the first alternative; allOf parts are merged into one object schema
+     */
+    private static Schema<?> effective(Schema<?> schema) {
+        if (!(schema instanceof ComposedSchema composed)) {
+            return schema;
+        }
+        if (composed.getAllOf() != null && !composed.getAllOf().isEmpty()) {
+            Schema<Object> merged = new Schema<>();
+            merged.setType("object");
+            Map<String, Schema> properties = new LinkedHashMap<>();
+            for (Schema<?> part : composed.getAllOf()) {
+                Schema<?> effectivePart = effective(part);
+                if (effectivePart.getProperties() != null) {
+                    properties.putAll(effectivePart.getProperties());
+                }
+                if (effectivePart.getRequired() != null) {
+                    effectivePart.getRequired().forEach(merged::addRequiredItem);
+                }
+            }
+            merged.setProperties(properties);
+            return merged;
+        }
+        List<Schema> alternatives = composed.getOneOf() != null ? composed.getOneOf() : composed.getAnyOf();
+        return alternatives != null && !alternatives.isEmpty() ? effective(alternatives.get(0)) : schema;
+    }
+
+    private static String typeOf(Schema<?> schema) {
+        if (schema.getType() != null) {
+            return schema.getType();
+        }
+        if (schema.getProperties() != null) {
+            return "object";
+        }
+        return schema.getItems() != null ? "array" : "object";
+    }
+
+    private static boolean isArray(Schema<?> schema) {
+        return "array".equals(typeOf(schema));
+    }
+
+    private static Map<String, Schema> propertiesOf(Schema<?> schema) {
+        return "object".equals(typeOf(schema)) ? schema.getProperties() : null;
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * State of one document
+     */
+    private static final class Run {
+
+        private final JsonGenerator json;
+        private final CountingOutputStream counting;
+        private final GenerationOptions options;
+        private final SplittableRandom random;
+
+        /** Array repeated until the target size is reached; only its first occurrence grows */
+        private Schema<?> sizingArray;
+
+        private long sequence;
+        private long objects;
+        private long mutations;
+
+        Run(JsonGenerator json, CountingOutputStream counting, GenerationOptions options, Schema<?> sizingArray) {
+            this.json = json;
+            this.counting = counting;
+            this.options = options;
+            this.random = new SplittableRandom(options.getSeed());
+            this.sizingArray = options.getTargetBytes() > 0 ? sizingArray : null;
+        }
+
+        void write(Schema<?> schema, int depth) throws IOException {
+            if (schema == null) {
+                json.writeNull();
+                return;
+            }
+            Schema<?> effective = effective(schema);
+            switch (typeOf(effective)) {
+                case "object" -> writeObject(effective, depth);
+                case "array" -> writeArray(effective, depth);
+                case "string" -> writeString(effective);
+                case "integer" -> writeInteger(effective);
+                case "number" -> writeNumber(effective);
+                case "boolean" -> json.writeBoolean(random.nextBoolean());
+                default -> json.writeNull();
+            }
+        }
+
+        private void writeObject(Schema<?> schema, int depth) throws IOException {
+            objects++;
+            Map<String, Schema> properties = schema.getProperties() != null ? schema.getProperties() : Map.of();
+            List<String> required = schema.getRequired() != null ? schema.getRequired() : List.of();
+
+            boolean pastMaxDepth = depth >= options.getMaxDepth();
+            if (pastMaxDepth && !required.isEmpty() && depth >= options.getMaxDepth() + MAX_REQUIRED_DEPTH) {
+                throw new IllegalArgumentException("Schema requires itself through its required properties "
+                        + "(more than " + MAX_REQUIRED_DEPTH + " levels past the maximum depth); "
+                        + "no finite document matches it");
+            }
+
+            Mutation mutation = null;
+            String target = null;
+            if (options.getMutationRate() > 0 && random.nextDouble() < options.getMutationRate()) {
+                mutation = Mutation.values()[random.nextInt(Mutation.values().length)];
+                target = mutationTarget(mutation, properties, required, pastMaxDepth);
+                if (target == null && mutation != Mutation.UNKNOWN_PROPERTY) {
+                    mutation = Mutation.UNKNOWN_PROPERTY;
+                }
+                mutations++;
+            }
+
+            json.writeStartObject();
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                String name = property.getKey();
+                if (pastMaxDepth && !required.contains(name)) {
+                    continue;
+                }
+                if (name.equals(target)) {
+                    if (mutation == Mutation.DROP_REQUIRED) {
+                        continue;
+                    }
+                    json.writeFieldName(name);
+                    if (mutation == Mutation.NULL_VALUE) {
+                        json.writeNull();
+                    } else {
+                        writeWrongType(effective(property.getValue()));
+                    }
+                    continue;
+                }
+                json.writeFieldName(name);
+                write(property.getValue(), depth + 1);
+            }
+            if (mutation == Mutation.UNKNOWN_PROPERTY) {
+                json.writeStringField("unexpected_" + sequence++, "surprise");
+            }
+            json.writeEndObject();
+        }
+
+        /**
+         * Property the mutation applies to, or null when the object has none suitable. Only
+         * properties that are written count: past the maximum depth, the required ones.
+         */
+        private String mutationTarget(Mutation mutation, Map<String, Schema> properties, List<String> required,
+                                      boolean pastMaxDepth) {
+            return switch (mutation) {
+                case DROP_REQUIRED -> {
+                    List<String> present = required.stream().filter(properties::containsKey).toList();
+                    yield present.isEmpty() ? null : present.get(random.nextInt(present.size()));
+                }
+                case WRONG_TYPE, NULL_VALUE -> properties.entrySet().stream()
+                        .filter(entry -> !pastMaxDepth || required.contains(entry.getKey()))
+                        .filter(entry -> mutation == Mutation.WRONG_TYPE
+                                || !Boolean.TRUE.equals(entry.getValue().getNullable()))
+                        .map(Map.Entry::getKey)
+                        .findFirst()
+                        .orElse(null);
+                case UNKNOWN_PROPERTY -> null;
+            };
+        }
+
+        private void writeWrongType(Schema<?> schema) throws IOException {
+            switch (typeOf(schema)) {
+                case "string" -> json.writeNumber(sequence++);
+                case "object", "array" -> json.writeString("not-a-" + typeOf(schema));
+                default -> json.writeString("oops");
+            }
+        }
+
+        private void writeArray(Schema<?> schema, int depth) throws IOException {
+            Schema<?> items = schema.getItems();
+            json.writeStartArray();
+            if (schema == sizingArray) {
+                // Grow this array only; nested occurrences of the same schema stay short
+                sizingArray = null;
+                do {
+                    write(items, depth + 1);
+                } while (written() < options.getTargetBytes());
+            } else if (depth < options.getMaxDepth()) {
+                int count = Math.max(schema.getMinItems() != null ? schema.getMinItems() : 0, SHORT_ARRAY_ITEMS);
+                if (schema.getMaxItems() != null) {
+                    count = Math.min(count, schema.getMaxItems());
+                }
+                for (int i = 0; i < count; i++) {
+                    write(items, depth + 1);
+                }
+            }
+            json.writeEndArray();
+        }
+
+        private long written() {
+            return counting.count + json.getOutputBuffered();
+        }
+
+        private void writeString(Schema<?> schema) throws IOException {
+            if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
+                json.writeString(String.valueOf(pick(schema.getEnum())));
+                return;
+            }
+            long n = sequence++;
+            String format = schema.getFormat() != null ? schema.getFormat() : "";
+            String value = switch (format) {
+                case "date" -> LocalDate.from(BASE_TIME.plusDays(n % 3650)).toString();
+                case "date-time" -> BASE_TIME.plusSeconds(n * 37).toString();
+                case "email" -> "user" + n + "@example.com";
+                case "uuid" -> new UUID(random.nextLong(), random.nextLong()).toString();
+                case "uri", "url" -> "https://example.com/items/" + n;
+                case "hostname" -> "host" + n + ".example.com";
+                case "ipv4" -> "10." + (n >> 16 & 0xFF) + "." + (n >> 8 & 0xFF) + "." + (n & 0xFF);
+                case "byte" -> Base64.getEncoder().encodeToString(("value-" + n).getBytes());
+                default -> "value-" + n;
+            };
+            json.writeString(fitLength(value, schema));
+        }
+
+        private static String fitLength(String value, Schema<?> schema) {
+            if (schema.getMaxLength() != null && value.length() > schema.getMaxLength()) {
+                value = value.substring(0, schema.getMaxLength());
+            }
+            if (schema.getMinLength() != null && value.length() < schema.getMinLength()) {
+                value = value + "x".repeat(schema.getMinLength() - value.length());
+            }
+            return value;
+        }
+
+        private void writeInteger(Schema<?> schema) throws IOException {
+            if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
+                json.writeNumber(((Number) pick(schema.getEnum())).longValue());
+                return;
+            }
+            long min = schema.getMinimum() != null ? schema.getMinimum().longValue() : 0;
+            long max = schema.getMaximum() != null ? schema.getMaximum().longValue()
+                    : "int64".equals(schema.getFormat()) ? Long.MAX_VALUE / 2 : Integer.MAX_VALUE;
+            if (max <= min) {
+                json.writeNumber(min);
+                return;
+            }
+            long span = max - min;
+            // A span of Long.MAX_VALUE or more (wrapped to negative) holds every non-negative long
+            long offset = span < 0 || span == Long.MAX_VALUE
+                    ? sequence++ & Long.MAX_VALUE
+                    : Math.floorMod(sequence++, span + 1);
+            json.writeNumber(min + offset);
+        }
+
+        private void writeNumber(Schema<?> schema) throws IOException {
+            if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
+                json.writeNumber(new BigDecimal(String.valueOf(pick(schema.getEnum()))));
+                return;
+            }
+            double min = schema.getMinimum() != null ? schema.getMinimum().doubleValue() : 0;
+            double max = schema.getMaximum() != null ? schema.getMaximum().doubleValue() : min + 1_000;
+            json.writeNumber(Math.round((min + random.nextDouble() * (max - min)) * 100) / 100.0);
+        }
+
+        private Object pick(List<?> values) {
+            return values.get(random.nextInt(values.size()));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.victoriasemkina.validator.infra.http;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the {@link OperationDeadline}s of one run: each operation gets the sooner of its own
+ * timeout and the deadline of the whole run. The timer thread is created on first use, so runs
+ * without timeouts cost nothing.
+ */
+public class DeadlineScheduler implements AutoCloseable {
+
+    private final long runDeadlineNanos;
+    private final boolean hasRunDeadline;
+    private ScheduledExecutorService timer;
+
+    /**
+     * @param runTimeoutMillis budget of the whole run from now; 0 for none
+     */
+    public DeadlineScheduler(long runTimeoutMillis) {
+        this.hasRunDeadline = runTimeoutMillis > 0;
+        this.runDeadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, runTimeoutMillis));
+    }
+
+    public boolean isRunExpired() {
+        return hasRunDeadline && System.nanoTime() - runDeadlineNanos >= 0;
+    }
+
+    /**
+     * Starts the deadline of an operation validated on the current thread
+     *
+     * @param timeoutMillis budget of the operation; 0 for none
+     */
+    public OperationDeadline start(long timeoutMillis) {
+        long now = System.nanoTime();
+        boolean hasTimeout = timeoutMillis > 0;
+        long operationDeadlineNanos = now + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutMillis));
+        boolean runFirst = hasRunDeadline && (!hasTimeout || runDeadlineNanos - operationDeadlineNanos < 0);
+
+        OperationDeadline deadline = new OperationDeadline(hasTimeout ? timeoutMillis : 0,
+                runFirst ? OperationDeadline.Cause.RUN_DEADLINE : OperationDeadline.Cause.OPERATION_TIMEOUT);
+        if (hasTimeout || hasRunDeadline) {
+            long delay = (runFirst ? runDeadlineNanos : operationDeadlineNanos) - now;
+            deadline.arm(timer().schedule(deadline::expire, Math.max(0, delay), TimeUnit.NANOSECONDS));
+        }
+        return deadline;
+    }
+
+    private synchronized ScheduledExecutorService timer() {
+        if (timer == null) {
+            timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "validator-deadline");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return timer;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.victoriasemkina.validator.infra.http;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+
+/**
+ * Lets another thread abort the exchange made through {@link TimedClientHttpRequestFactory}
+ * on the thread the handle is bound to, e.g. the losing request of a hedged pair.
+ * <p>
+ * Cancelling closes the connection, so a blocked read fails at once instead of running into
+ * the read timeout; an exchange started after cancellation fails immediately.
+ */
+public class ExchangeHandle {
+
+    private HttpURLConnection connection;
+    private boolean cancelled;
+
+    public synchronized void cancel() {
+        cancelled = true;
+        if (connection != null) {
+            connection.disconnect();
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    synchronized void attach(HttpURLConnection connection) throws IOException {
+        if (cancelled) {
+            throw new IOException("Exchange cancelled");
+        }
+        this.connection = connection;
+    }
+}
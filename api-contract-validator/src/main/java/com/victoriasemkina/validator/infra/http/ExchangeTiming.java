@@ -0,0 +1,40 @@
+package com.victoriasemkina.validator.infra.http;
+
+import lombok.Getter;
+
+/**
+ * Phase timing of one HTTP exchange made through {@link TimedClientHttpRequestFactory}.
+ * All durations are in nanoseconds.
+ */
+@Getter
+public class ExchangeTiming {
+
+    /** TCP connect (0 when a kept-alive connection was reused) */
+    private long connectNanos;
+
+    /** From the request being sent to the response headers arriving */
+    private long ttfbNanos;
+
+    /** Reading the response body */
+    private long downloadNanos;
+
+    /** Response body size as received */
+    private long bodyBytes;
+
+    void connected(long nanos) {
+        this.connectNanos = nanos;
+    }
+
+    void firstByte(long nanos) {
+        this.ttfbNanos = nanos;
+    }
+
+    void downloaded(long nanos, long bytes) {
+        this.downloadNanos = nanos;
+        this.bodyBytes = bytes;
+    }
+
+    public long getTotalNanos() {
+        return connectNanos + ttfbNanos + downloadNanos;
+    }
+}
@@ -0,0 +1,249 @@
+package com.victoriasemkina.validator.infra.http;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the requests sent to one host: an optional requests-per-second cap and, in adaptive
+ * mode, a concurrency limit tuned from the responses (AIMD).
+ * <p>
+ * The adaptive limit starts low and grows by about one per round trip while the recent latency
+ * stays within {@link #LATENCY_TOLERANCE} of the long-term average, so a host serving both fast
+ * and slow endpoints is judged by changes rather than by its mix. A 429 or 503 halves it,
+ * rising latency shrinks it by 10%; either happens at most once per round trip, so a burst of
+ * throttled responses counts as one signal. Once limiting is enabled, {@code Retry-After} on
+ * a 429 or 503 pauses all requests to the host.
+ * <p>
+ * Every {@link #acquire()} must be paired with a {@link #release}.
+ */
+public class HostLimiter {
+
+    /** Adaptive limit at the start, before any response has been seen */
+    static final int INITIAL_LIMIT = 2;
+
+    /** Limit decrease on 429 / 503 */
+    static final double THROTTLE_BACKOFF = 0.5;
+
+    /** Limit decrease when latency exceeds the baseline by {@link #LATENCY_TOLERANCE} */
+    static final double LATENCY_BACKOFF = 0.9;
+
+    static final double LATENCY_TOLERANCE = 1.5;
+
+    /** Weight of a new sample in the recent latency */
+    static final double SMOOTHING = 0.2;
+
+    /** Weight of a new sample in the long-term latency the recent one is compared with */
+    static final double BASELINE_SMOOTHING = 0.01;
+
+    /** Longest pause taken for a Retry-After, so one header cannot stall a run */
+    static final Duration MAX_RETRY_AFTER = Duration.ofSeconds(60);
+
+    private final String host;
+    private final long intervalNanos;
+    private final boolean adaptive;
+    private final int maxLimit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private long nextSlotNanos;
+    private long pausedUntilNanos;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+    private double smoothedLatency;
+    private double baselineLatency;
+    private long throttledResponses;
+
+    /**
+     * @param requestsPerSecond cap on requests started per second; 0 for none
+     * @param adaptive          whether in-flight requests adapt between 1 and {@code maxConcurrency}
+     * @param maxConcurrency    upper bound of the adaptive limit
+     */
+    public HostLimiter(String host, double requestsPerSecond, boolean adaptive, int maxConcurrency) {
+        this.host = host;
+        this.intervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+        this.adaptive = adaptive;
+        this.maxLimit = Math.max(1, maxConcurrency);
+        this.limit = Math.min(INITIAL_LIMIT, maxLimit);
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Whether requests are limited at all; a disabled limiter never blocks
+     */
+    public boolean isEnabled() {
+        return intervalNanos > 0 || adaptive;
+    }
+
+    /**
+     * Current adaptive limit, or the maximum concurrency when not adaptive
+     */
+    public double getLimit() {
+        lock.lock();
+        try {
+            return adaptive ? limit : maxLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Responses with 429 or 503 seen so far
+     */
+    public long getThrottledResponses() {
+        lock.lock();
+        try {
+            return throttledResponses;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until a request may be sent: no Retry-After pause, a free concurrency slot and the next rate slot
+     */
+    public void acquire() throws InterruptedException {
+        if (!isEnabled()) {
+            return;
+        }
+
+        long slot;
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long pause = pausedUntilNanos - System.nanoTime();
+                if (pause > 0) {
+                    changed.awaitNanos(pause);
+                } else if (adaptive && inFlight >= (int) limit) {
+                    changed.await();
+                } else {
+                    break;
+                }
+            }
+            inFlight++;
+            slot = System.nanoTime();
+            if (intervalNanos > 0) {
+                slot = Math.max(slot, nextSlotNanos);
+                nextSlotNanos = slot + intervalNanos;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        long wait = slot - System.nanoTime();
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                release(0, -1, null);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Frees the slot taken by {@link #acquire()} and adapts the limit to the outcome
+     *
+     * @param status       HTTP status, or 0 when no response was received
+     * @param latencyNanos time to the response, or a negative value when it says nothing about load
+     * @param retryAfter   value of the Retry-After header, or null
+     */
+    public void release(int status, long latencyNanos, String retryAfter) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            inFlight--;
+            long now = System.nanoTime();
+            if (status == 429 || status == 503) {
+                throttledResponses++;
+                long pause = pauseNanos(parseRetryAfter(retryAfter));
+                if (pause > 0) {
+                    pausedUntilNanos = Math.max(pausedUntilNanos, now + pause);
+                }
+                decrease(THROTTLE_BACKOFF, now);
+            } else if (adaptive && status > 0 && latencyNanos >= 0) {
+                sampleLatency(latencyNanos);
+                if (smoothedLatency > baselineLatency * LATENCY_TOLERANCE) {
+                    decrease(LATENCY_BACKOFF, now);
+                } else {
+                    // About +1 per round trip: each of the `limit` responses adds 1/limit
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(double ratio, long now) {
+        if (!adaptive) {
+            return;
+        }
+        long roundTrip = Math.max((long) smoothedLatency, TimeUnit.MILLISECONDS.toNanos(1));
+        if (!decreased || now - lastDecreaseNanos >= roundTrip) {
+            limit = Math.max(1, limit * ratio);
+            lastDecreaseNanos = now;
+            decreased = true;
+        }
+    }
+
+    private void sampleLatency(long latencyNanos) {
+        if (smoothedLatency == 0) {
+            smoothedLatency = latencyNanos;
+            baselineLatency = latencyNanos;
+            return;
+        }
+        smoothedLatency += SMOOTHING * (latencyNanos - smoothedLatency);
+        baselineLatency += BASELINE_SMOOTHING * (latencyNanos - baselineLatency);
+    }
+
+    /**
+     * Pause taken for a Retry-After delay, at most {@link #MAX_RETRY_AFTER}; bounded before the
+     * conversion, as a delay of centuries does not fit in a long of nanoseconds
+     *
+     * @return the pause in nanoseconds, 0 for none
+     */
+    static long pauseNanos(Duration retryAfter) {
+        if (retryAfter == null || retryAfter.isNegative()) {
+            return 0;
+        }
+        return (retryAfter.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : retryAfter).toNanos();
+    }
+
+    /**
+     * Parses a Retry-After value: delay in seconds or an HTTP date
+     *
+     * @return the delay, or null if absent or malformed
+     */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Long.parseLong(trimmed));
+        } catch (NumberFormatException e) {
+            // Not a delay, try a date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Duration.between(ZonedDateTime.now(date.getZone()), date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
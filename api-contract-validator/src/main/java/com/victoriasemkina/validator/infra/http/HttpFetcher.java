@@ -0,0 +1,272 @@
+package com.victoriasemkina.validator.infra.http;
+
+import com.victoriasemkina.validator.domain.model.LatencyHistogram;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the GET requests of one run through the host limiter, retrying transient failures
+ * and optionally hedging slow requests.
+ * <p>
+ * Connection errors, timeouts and 429 / 502 / 503 / 504 are retried with exponential backoff
+ * and full jitter, waiting at least {@code Retry-After} when the response carries one. Only
+ * idempotent GET requests are sent, so a retry cannot change server state.
+ * <p>
+ * With hedging, a second request is sent once the first has taken longer than the p95 latency
+ * of the run so far; the first successful response wins and the other exchange is cancelled.
+ * Hedging starts after {@value #MIN_HEDGE_SAMPLES} responses, when the p95 is meaningful.
+ */
+@Slf4j
+public class HttpFetcher implements AutoCloseable {
+
+    static final int MIN_HEDGE_SAMPLES = 20;
+    static final double HEDGE_PERCENTILE = 95;
+
+    /** Longest backoff between two attempts, Retry-After aside */
+    static final Duration MAX_BACKOFF = Duration.ofSeconds(10);
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    private final RestTemplate restTemplate;
+    private final HostLimiter limiter;
+    private final int retries;
+    private final long backoffNanos;
+    private final ValidatorMetrics metrics;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final ScheduledExecutorService hedgeTimer;
+    private final ExecutorService hedgeExecutor;
+
+    /**
+     * @param retries extra attempts after a transient failure
+     * @param backoff base delay before the first retry, doubled for each further one
+     * @param hedge   whether slow requests are hedged
+     */
+    public HttpFetcher(RestTemplate restTemplate, HostLimiter limiter, int retries, Duration backoff,
+                       boolean hedge, ValidatorMetrics metrics) {
+        this.restTemplate = restTemplate;
+        this.limiter = limiter;
+        this.retries = Math.max(0, retries);
+        this.backoffNanos = Math.max(0, backoff.toNanos());
+        this.metrics = metrics;
+        if (hedge) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.hedgeTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "validator-hedge-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Hedges are bounded by the requests in flight, so the pool needs no queue
+            this.hedgeExecutor = metrics.monitor(Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "validator-hedge-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }), "validator-hedges");
+        } else {
+            this.hedgeTimer = null;
+            this.hedgeExecutor = null;
+        }
+    }
+
+    public HostLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Sends a GET request, retrying and hedging as configured
+     *
+     * @return the successful response, or the failure of the last attempt
+     */
+    public Fetch get(String url) throws InterruptedException {
+        return get(url, null);
+    }
+
+    /**
+     * Sends a GET request within the deadline of an operation: once it expires, the exchanges in
+     * flight are cancelled and a backoff or limiter wait is interrupted
+     *
+     * @param deadline deadline of the operation, or null
+     */
+    public Fetch get(String url, OperationDeadline deadline) throws InterruptedException {
+        Fetch fetch = hedgeTimer != null ? hedged(url, deadline) : attempt(url, handle(deadline));
+        for (int retry = 1; retry <= retries && isTransient(fetch.error()); retry++) {
+            long delay = backoffNanos(retry, fetch.error());
+            log.debug("Retrying GET {} in {} ms after: {}", url, delay / 1_000_000, fetch.error().getMessage());
+            metrics.recordRetry();
+            TimeUnit.NANOSECONDS.sleep(delay);
+            fetch = hedgeTimer != null ? hedged(url, deadline) : attempt(url, handle(deadline));
+        }
+        return fetch;
+    }
+
+    private Fetch hedged(String url, OperationDeadline deadline) throws InterruptedException {
+        long delay = hedgeDelayNanos();
+        if (delay <= 0) {
+            return attempt(url, handle(deadline));
+        }
+
+        ExchangeHandle primaryHandle = deadline != null ? deadline.newHandle() : new ExchangeHandle();
+        ExchangeHandle hedgeHandle = deadline != null ? deadline.newHandle() : new ExchangeHandle();
+        CompletableFuture<Fetch> hedgeResult = new CompletableFuture<>();
+        ScheduledFuture<?> timer = hedgeTimer.schedule(() -> hedgeExecutor.execute(() -> {
+            try {
+                // The primary may have won while the hedge was queued: do not wait for a limiter slot then
+                Fetch fetch = hedgeHandle.isCancelled() ? cancelled() : attempt(url, hedgeHandle);
+                if (fetch.isSuccess()) {
+                    primaryHandle.cancel();
+                }
+                hedgeResult.complete(fetch);
+            } catch (InterruptedException e) {
+                hedgeResult.completeExceptionally(e);
+            }
+        }), delay, TimeUnit.NANOSECONDS);
+
+        Fetch primary = attempt(url, primaryHandle);
+        if (timer.cancel(false)) {
+            return primary;
+        }
+        if (primary.isSuccess()) {
+            hedgeHandle.cancel();
+            metrics.recordHedge(ValidatorMetrics.HEDGE_PRIMARY);
+            return primary;
+        }
+        try {
+            Fetch hedge = hedgeResult.get();
+            if (hedge.isSuccess()) {
+                metrics.recordHedge(ValidatorMetrics.HEDGE_HEDGE);
+                return hedge;
+            }
+        } catch (ExecutionException e) {
+            // The hedge was interrupted: the primary failure stands
+        }
+        return primary;
+    }
+
+    /**
+     * One exchange through the limiter; with a handle it can be cancelled from another thread.
+     * The limiter slot is released whatever the exchange throws.
+     */
+    private Fetch attempt(String url, ExchangeHandle handle) throws InterruptedException {
+        limiter.acquire();
+        // Outcome reported to the limiter; an unexpected exception says nothing about the load of the host
+        int status = 0;
+        long latency = -1;
+        String retryAfter = null;
+        long start = System.nanoTime();
+        try {
+            if (handle != null) {
+                if (handle.isCancelled()) {
+                    // Cancelled while waiting for the limiter: the slot goes back unused
+                    return cancelled();
+                }
+                TimedClientHttpRequestFactory.bind(handle);
+            }
+            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            long nanos = System.nanoTime() - start;
+            status = response.getStatusCode().value();
+            latency = nanos;
+            retryAfter = response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+            latencies.recordNanos(nanos);
+            return new Fetch(response, null, TimedClientHttpRequestFactory.takeLastExchange(), nanos);
+        } catch (RestClientException e) {
+            long nanos = System.nanoTime() - start;
+            status = statusOf(e);
+            // A cancelled exchange says nothing about it either
+            latency = handle != null && handle.isCancelled() ? -1 : nanos;
+            retryAfter = retryAfterOf(e);
+            return new Fetch(null, e, TimedClientHttpRequestFactory.takeLastExchange(), nanos);
+        } finally {
+            limiter.release(status, latency, retryAfter);
+            if (handle != null) {
+                TimedClientHttpRequestFactory.unbind();
+            }
+        }
+    }
+
+    /**
+     * Outcome of an exchange cancelled before it was sent, as the request factory reports one cancelled in flight
+     */
+    private static Fetch cancelled() {
+        return new Fetch(null, new ResourceAccessException("Exchange cancelled"), null, 0);
+    }
+
+    /**
+     * @return a handle tying the exchange to the deadline, or null when there is none
+     */
+    private static ExchangeHandle handle(OperationDeadline deadline) {
+        return deadline != null ? deadline.newHandle() : null;
+    }
+
+    private long hedgeDelayNanos() {
+        if (latencies.getCount() < MIN_HEDGE_SAMPLES) {
+            return 0;
+        }
+        return TimeUnit.MICROSECONDS.toNanos(latencies.getPercentileMicros(HEDGE_PERCENTILE));
+    }
+
+    /**
+     * Full jitter: uniform between 0 and the exponential bound, but not before Retry-After
+     */
+    private long backoffNanos(int retry, RestClientException error) {
+        long bound = Math.min(MAX_BACKOFF.toNanos(), backoffNanos << Math.min(retry - 1, 30));
+        long delay = bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0;
+        return Math.max(delay, HostLimiter.pauseNanos(HostLimiter.parseRetryAfter(retryAfterOf(error))));
+    }
+
+    private static boolean isTransient(RestClientException error) {
+        return error instanceof ResourceAccessException
+                || error instanceof RestClientResponseException responseError
+                && RETRYABLE_STATUSES.contains(responseError.getStatusCode().value());
+    }
+
+    /**
+     * @return HTTP status of an error response, or 0 when no response was received
+     */
+    public static int statusOf(RestClientException e) {
+        return e instanceof RestClientResponseException responseError ? responseError.getStatusCode().value() : 0;
+    }
+
+    public static String retryAfterOf(RestClientException e) {
+        return e instanceof RestClientResponseException responseError && responseError.getResponseHeaders() != null
+                ? responseError.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER) : null;
+    }
+
+    @Override
+    public void close() {
+        if (hedgeTimer != null) {
+            hedgeTimer.shutdownNow();
+            hedgeExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Outcome of a request: the response, or the error of the last attempt
+     *
+     * @param exchange phase timing of the exchange, or null without a timing request factory
+     * @param nanos    duration of the attempt that produced the outcome
+     */
+    public record Fetch(ResponseEntity<String> response, RestClientException error, ExchangeTiming exchange,
+                        long nanos) {
+
+        public boolean isSuccess() {
+            return response != null;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.victoriasemkina.validator.infra.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Deadline of one operation, owned by the thread validating it. On expiry the exchanges in
+ * flight are cancelled and the owner is interrupted, so fetches, retry backoff, limiter waits
+ * and array validation all stop promptly; the owner then reports the operation as cancelled.
+ * <p>
+ * Obtained from {@link DeadlineScheduler#start}; closing it on the owner thread disarms the
+ * timer and clears an interrupt the expiry may have left behind. Issues are recorded through
+ * {@link #guard}, as an interrupt would close the file channels of issue stores and reports.
+ */
+public class OperationDeadline implements AutoCloseable {
+
+    /** What set the deadline of the operation */
+    public enum Cause {
+        OPERATION_TIMEOUT,
+        RUN_DEADLINE
+    }
+
+    private final Thread owner;
+    private final long startNanos;
+    private final long timeoutMillis;
+    private final Cause cause;
+    private final List<ExchangeHandle> handles = new ArrayList<>();
+    private ScheduledFuture<?> timer;
+    private boolean expired;
+    private boolean closed;
+
+    OperationDeadline(long timeoutMillis, Cause cause) {
+        this.owner = Thread.currentThread();
+        this.startNanos = System.nanoTime();
+        this.timeoutMillis = timeoutMillis;
+        this.cause = cause;
+    }
+
+    synchronized void arm(ScheduledFuture<?> timer) {
+        this.timer = timer;
+    }
+
+    /**
+     * Handle for an exchange of the operation, possibly made on another thread (a hedge);
+     * already cancelled once the deadline has expired
+     */
+    public synchronized ExchangeHandle newHandle() {
+        ExchangeHandle handle = new ExchangeHandle();
+        if (expired) {
+            handle.cancel();
+        } else {
+            handles.add(handle);
+        }
+        return handle;
+    }
+
+    public synchronized boolean isExpired() {
+        return expired;
+    }
+
+    public Cause getCause() {
+        return cause;
+    }
+
+    /**
+     * Budget of the operation in milliseconds, or 0 when only the run deadline applies
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Runs an action an interrupt would break, such as recording issues into sinks backed by
+     * interruptible file channels; the deadline cannot expire while it runs
+     *
+     * @throws CancellationException once the deadline has expired: what a cancelled operation
+     *                               found so far is dropped
+     */
+    public synchronized void guard(Runnable action) {
+        if (expired) {
+            throw new CancellationException("Operation deadline expired");
+        }
+        action.run();
+    }
+
+    synchronized void expire() {
+        if (closed) {
+            return;
+        }
+        expired = true;
+        handles.forEach(ExchangeHandle::cancel);
+        owner.interrupt();
+    }
+
+    @Override
+    public void close() {
+        boolean wasExpired;
+        synchronized (this) {
+            closed = true;
+            wasExpired = expired;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        }
+        if (wasExpired && Thread.currentThread() == owner) {
+            // The interrupt was aimed at this operation, not at the next one on the thread
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.victoriasemkina.validator.infra.http;
+
+import com.victoriasemkina.validator.config.ValidationConstants;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Splits a streaming response body into records as they arrive: one per non-blank line of
+ * NDJSON, one per event of a Server-Sent Events stream.
+ * <p>
+ * The record of an event is its data, with multiple {@code data:} lines joined by a newline.
+ * Comments (keep-alives), {@code event}, {@code id} and {@code retry} fields carry no payload
+ * and are skipped, as are events without data.
+ * <p>
+ * With a deadline, reading stops at the first line received after it, so a stream that only
+ * sends keep-alives still ends on time; a stream that sends nothing at all is bounded by the
+ * read timeout of the connection.
+ */
+public class StreamRecordReader implements Closeable {
+
+    public enum Format {
+        NDJSON(ValidationConstants.CONTENT_TYPE_NDJSON),
+        EVENT_STREAM(ValidationConstants.CONTENT_TYPE_EVENT_STREAM);
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * @return the format, or null if the media type is not a streaming one
+         */
+        public static Format forMediaType(String mediaType) {
+            for (Format format : values()) {
+                if (format.mediaType.equals(mediaType)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final String DATA_FIELD = "data";
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final boolean hasDeadline;
+    private final long deadlineNanos;
+    private boolean expired;
+
+    public StreamRecordReader(InputStream input, Format format) {
+        this(input, format, false, 0);
+    }
+
+    /**
+     * @param deadlineNanos {@link System#nanoTime()} after which no further record is returned
+     */
+    public StreamRecordReader(InputStream input, Format format, long deadlineNanos) {
+        this(input, format, true, deadlineNanos);
+    }
+
+    private StreamRecordReader(InputStream input, Format format, boolean hasDeadline, long deadlineNanos) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Blocks until the next record has arrived
+     *
+     * @return the record, or null at end of stream or once the deadline has passed
+     */
+    public String next() throws IOException {
+        return format == Format.NDJSON ? nextLine() : nextEvent();
+    }
+
+    /**
+     * Whether reading stopped because the deadline passed rather than at the end of the stream
+     */
+    public boolean isExpired() {
+        return expired;
+    }
+
+    /**
+     * Reads a line, or returns null once the deadline has passed
+     */
+    private String readLine() throws IOException {
+        if (expired || hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+            expired = true;
+            return null;
+        }
+        return reader.readLine();
+    }
+
+    private String nextLine() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private String nextEvent() throws IOException {
+        StringBuilder data = null;
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.isEmpty()) {
+                // A blank line dispatches the event
+                if (data != null) {
+                    return data.toString();
+                }
+                continue;
+            }
+            if (line.charAt(0) == ':') {
+                continue;
+            }
+
+            int colon = line.indexOf(':');
+            String field = colon < 0 ? line : line.substring(0, colon);
+            if (!DATA_FIELD.equals(field)) {
+                continue;
+            }
+            String value = colon < 0 ? "" : line.substring(colon + 1);
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+            if (data == null) {
+                data = new StringBuilder(value);
+            } else {
+                data.append('\n').append(value);
+            }
+        }
+        // An event cut off by the end of the stream or the deadline is not dispatched
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
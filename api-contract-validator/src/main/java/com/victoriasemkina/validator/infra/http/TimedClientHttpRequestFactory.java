@@ -0,0 +1,243 @@
+package com.victoriasemkina.validator.infra.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link HttpURLConnection}-based request factory that times each exchange by phase:
+ * connect, time to first byte and body download.
+ * <p>
+ * The timing of the last exchange made on the current thread is available through
+ * {@link #takeLastExchange()} once the response has been read. Exchanges made while an
+ * {@link ExchangeHandle} is bound to the thread can be cancelled from another thread.
+ */
+public class TimedClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private static final ThreadLocal<ExchangeTiming> LAST_EXCHANGE = new ThreadLocal<>();
+    private static final ThreadLocal<ExchangeHandle> HANDLE = new ThreadLocal<>();
+
+    private final int connectTimeout;
+    private final int readTimeout;
+
+    public TimedClientHttpRequestFactory(int connectTimeout, int readTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Returns and clears the timing of the last exchange made on this thread
+     *
+     * @return timing, or null if no exchange was made
+     */
+    public static ExchangeTiming takeLastExchange() {
+        ExchangeTiming timing = LAST_EXCHANGE.get();
+        LAST_EXCHANGE.remove();
+        return timing;
+    }
+
+    /**
+     * Attaches the exchanges made on this thread to the handle until {@link #unbind()}
+     */
+    public static void bind(ExchangeHandle handle) {
+        HANDLE.set(handle);
+    }
+
+    public static void unbind() {
+        HANDLE.remove();
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        ExchangeHandle handle = HANDLE.get();
+        if (handle != null) {
+            handle.attach(connection);
+        }
+        connection.setConnectTimeout(connectTimeout);
+        connection.setReadTimeout(readTimeout);
+        connection.setInstanceFollowRedirects(HttpMethod.GET.equals(httpMethod));
+        connection.setDoInput(true);
+        connection.setRequestMethod(httpMethod.name());
+        return new TimedRequest(connection, uri, httpMethod);
+    }
+
+    private static final class TimedRequest extends AbstractClientHttpRequest {
+
+        private final HttpURLConnection connection;
+        private final URI uri;
+        private final HttpMethod method;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(0);
+
+        private TimedRequest(HttpURLConnection connection, URI uri, HttpMethod method) {
+            this.connection = connection;
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            headers.forEach((name, values) -> connection.setRequestProperty(name, String.join(", ", values)));
+            if (body.size() > 0) {
+                connection.setDoOutput(true);
+                connection.setFixedLengthStreamingMode(body.size());
+            }
+
+            ExchangeTiming timing = new ExchangeTiming();
+            LAST_EXCHANGE.set(timing);
+
+            long start = System.nanoTime();
+            connection.connect();
+            long connected = System.nanoTime();
+            timing.connected(connected - start);
+
+            if (body.size() > 0) {
+                try (OutputStream out = connection.getOutputStream()) {
+                    body.writeTo(out);
+                }
+            }
+            // Blocks until the status line and headers have been received
+            connection.getResponseCode();
+            long firstByte = System.nanoTime();
+            timing.firstByte(firstByte - connected);
+
+            return new TimedResponse(connection, timing, firstByte);
+        }
+    }
+
+    private static final class TimedResponse implements ClientHttpResponse {
+
+        private final HttpURLConnection connection;
+        private final ExchangeTiming timing;
+        private final long firstByteNanos;
+        private HttpHeaders headers;
+        private InputStream body;
+
+        private TimedResponse(HttpURLConnection connection, ExchangeTiming timing, long firstByteNanos) {
+            this.connection = connection;
+            this.timing = timing;
+            this.firstByteNanos = firstByteNanos;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return HttpStatusCode.valueOf(connection.getResponseCode());
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            String message = connection.getResponseMessage();
+            return message != null ? message : "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            if (headers == null) {
+                headers = new HttpHeaders();
+                for (Map.Entry<String, List<String>> entry : connection.getHeaderFields().entrySet()) {
+                    // The status line is reported under a null key
+                    if (entry.getKey() != null) {
+                        headers.addAll(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                InputStream errorStream = connection.getErrorStream();
+                InputStream raw = errorStream != null ? errorStream : connection.getInputStream();
+                body = new CountingStream(raw);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                getBody().close();
+            } catch (IOException e) {
+                // Ignore: the connection is released either way
+            }
+        }
+
+        /**
+         * Counts body bytes and records the download phase at end of stream or close
+         */
+        private final class CountingStream extends FilterInputStream {
+
+            private long bytes;
+            private boolean recorded;
+
+            private CountingStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b < 0) {
+                    finish();
+                } else {
+                    bytes++;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = super.read(buffer, offset, length);
+                if (n < 0) {
+                    finish();
+                } else {
+                    bytes += n;
+                }
+                return n;
+            }
+
+            @Override
+            public void close() throws IOException {
+                finish();
+                super.close();
+            }
+
+            private void finish() {
+                if (!recorded) {
+                    recorded = true;
+                    timing.downloaded(System.nanoTime() - firstByteNanos, bytes);
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.victoriasemkina.validator.infra.http;
 
 import lombok.experimental.UtilityClass;
 import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Utility methods for URL manipulation
@@ -32,4 +34,18 @@ public class UrlUtils {
 
         return normalizedBaseUrl + "/" + normalizedPath;
     }
-}
\ No newline at end of file
+
+    /**
+     * Host and, when explicit, port of a URL
+     *
+     * @param url URL, path templates allowed (e.g. "http://localhost:8080/users/{id}")
+     * @return host (e.g. "localhost:8080")
+     */
+    public String hostOf(String url) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(url).build();
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("URL has no host: " + url);
+        }
+        return uri.getPort() >= 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost();
+    }
+}
@@ -0,0 +1,57 @@
+package com.victoriasemkina.validator.infra.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * In-process JDK Flight Recorder recording with the JDK "default" settings
+ * (low overhead, meant for production) plus the validator's own events.
+ * The file is written when the recording is closed.
+ */
+@Slf4j
+public final class FlightRecording implements AutoCloseable {
+
+    private static final String SETTINGS = "default";
+
+    private final Recording recording;
+    private final Path destination;
+
+    private FlightRecording(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    public static FlightRecording start(Path destination) throws IOException {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(SETTINGS);
+        } catch (ParseException e) {
+            throw new IOException("Failed to load JFR settings '" + SETTINGS + "'", e);
+        }
+
+        Recording recording = new Recording(configuration);
+        recording.setName("api-contract-validator");
+        recording.enable(SpecParseEvent.class);
+        recording.enable(HttpFetchEvent.class);
+        recording.enable(JsonParseEvent.class);
+        recording.enable(SchemaValidationEvent.class);
+        recording.enable(ReportGenerationEvent.class);
+        recording.setDestination(destination);
+        recording.start();
+
+        log.info("🎥 Flight recording started: {}", destination);
+        return new FlightRecording(recording, destination);
+    }
+
+    @Override
+    public void close() {
+        recording.stop();
+        recording.close();
+        log.info("🎥 Flight recording saved to: {}", destination);
+    }
+}
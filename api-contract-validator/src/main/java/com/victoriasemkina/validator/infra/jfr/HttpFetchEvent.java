@@ -0,0 +1,29 @@
+package com.victoriasemkina.validator.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.victoriasemkina.validator.HttpFetch")
+@Label("HTTP Fetch")
+@Category("API Contract Validator")
+@Description("HTTP request to the API under test, including reading the response body")
+public class HttpFetchEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Status")
+    @Description("HTTP status code, 0 when no response was received")
+    public int status;
+
+    @Label("Response Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,21 @@
+package com.victoriasemkina.validator.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.victoriasemkina.validator.JsonParse")
+@Label("JSON Parse")
+@Category("API Contract Validator")
+@Description("Parsing a response body into a JSON tree")
+public class JsonParseEvent extends Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Body Length")
+    @Description("Response body length in characters")
+    public long length;
+}
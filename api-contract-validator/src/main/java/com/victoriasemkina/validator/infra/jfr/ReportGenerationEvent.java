@@ -0,0 +1,23 @@
+package com.victoriasemkina.validator.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.victoriasemkina.validator.ReportGeneration")
+@Label("Report Generation")
+@Category("API Contract Validator")
+@Description("Writing the final validation report")
+public class ReportGenerationEvent extends Event {
+
+    @Label("Generator")
+    public String generator;
+
+    @Label("Output")
+    public String output;
+
+    @Label("Issues")
+    public int issues;
+}
@@ -0,0 +1,27 @@
+package com.victoriasemkina.validator.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.victoriasemkina.validator.SchemaValidation")
+@Label("Schema Validation")
+@Category("API Contract Validator")
+@Description("Validating a parsed response against its schema")
+public class SchemaValidationEvent extends Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Schema")
+    public String schema;
+
+    @Label("Node Count")
+    @Description("Number of JSON nodes in the validated document")
+    public int nodeCount;
+
+    @Label("Issues")
+    public int issues;
+}
@@ -0,0 +1,20 @@
+package com.victoriasemkina.validator.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.victoriasemkina.validator.SpecParse")
+@Label("Spec Parse")
+@Category("API Contract Validator")
+@Description("Reading and resolving an OpenAPI specification")
+public class SpecParseEvent extends Event {
+
+    @Label("Spec")
+    public String spec;
+
+    @Label("Endpoints")
+    public int endpoints;
+}
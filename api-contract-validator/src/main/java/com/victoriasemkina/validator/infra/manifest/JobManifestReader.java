@@ -0,0 +1,59 @@
+package com.victoriasemkina.validator.infra.manifest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.victoriasemkina.validator.domain.model.ValidationJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Reads batch manifests: a JSON array of jobs, e.g.
+ * <pre>
+ * [
+ *   {"name": "users", "spec": "spec/users.yaml", "baseUrl": "https://staging.example.com"},
+ *   {"spec": "spec/orders.yaml", "baseUrl": "https://staging.example.com"}
+ * ]
+ * </pre>
+ * Relative spec paths are resolved against the manifest's directory.
+ */
+@Slf4j
+@Component
+public class JobManifestReader {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public List<ValidationJob> read(String manifestPath) throws IOException {
+        return read(manifestPath, ValidationJob.class);
+    }
+
+    /**
+     * Reads a manifest whose entries are a subtype of {@link ValidationJob}
+     */
+    public <T extends ValidationJob> List<T> read(String manifestPath, Class<T> jobType) throws IOException {
+        File manifestFile = new File(manifestPath);
+        if (!manifestFile.isFile()) {
+            throw new IllegalArgumentException("Manifest file not found: " + manifestPath);
+        }
+
+        CollectionType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, jobType);
+        List<T> jobs = objectMapper.readValue(manifestFile, listType);
+
+        // Relative spec paths are resolved against the manifest location, not the working directory
+        Path manifestDir = manifestFile.getAbsoluteFile().toPath().getParent();
+        for (T job : jobs) {
+            if (job.getSpec() != null && !Path.of(job.getSpec()).isAbsolute()) {
+                job.setSpec(manifestDir.resolve(job.getSpec()).normalize().toString());
+            }
+        }
+
+        log.info("📋 Manifest loaded: {} job(s) from {}", jobs.size(), manifestPath);
+        return jobs;
+    }
+}
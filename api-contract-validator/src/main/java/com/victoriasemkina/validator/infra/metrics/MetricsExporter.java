@@ -0,0 +1,59 @@
+package com.victoriasemkina.validator.infra.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Exposes validator metrics in the Prometheus text format: as a file written after a run,
+ * or as a {@code /metrics} scrape endpoint on localhost for the resident modes.
+ */
+@Slf4j
+@Component
+public class MetricsExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final PrometheusMeterRegistry registry;
+
+    @Autowired
+    public MetricsExporter(PrometheusMeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void writeTo(Path path) throws IOException {
+        Files.writeString(path, registry.scrape(), StandardCharsets.UTF_8);
+        log.info("📈 Metrics saved to: {}", path);
+    }
+
+    /**
+     * Starts a scrape endpoint on the loopback interface
+     *
+     * @return running server; call {@code stop(0)} to shut it down
+     */
+    public HttpServer startEndpoint(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        log.info("📈 Metrics endpoint: http://{}:{}/metrics",
+                server.getAddress().getHostString(), server.getAddress().getPort());
+        return server;
+    }
+}
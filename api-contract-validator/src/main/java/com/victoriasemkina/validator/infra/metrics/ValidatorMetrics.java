@@ -0,0 +1,191 @@
+package com.victoriasemkina.validator.infra.metrics;
+
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.port.ValidationListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.swagger.v3.oas.models.media.Schema;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operational metrics of the validator itself, kept in a Micrometer registry:
+ * requests, errors and bytes per endpoint, retries and hedges, validation time per schema,
+ * issues per rule, specification cache hits, sampled live responses, streamed records and
+ * executor queue depth.
+ * <p>
+ * Meters are recorded from the hot paths of a run (every request, schema validation and issue),
+ * so each one is registered once and then looked up by its tag values.
+ */
+@Component
+public class ValidatorMetrics {
+
+    public static final String HTTP_REQUESTS = "validator.http.requests";
+    public static final String HTTP_RESPONSE_BYTES = "validator.http.response.bytes";
+    public static final String HTTP_RETRIES = "validator.http.retries";
+    public static final String HTTP_HEDGES = "validator.http.hedges";
+    public static final String SCHEMA_VALIDATION = "validator.schema.validation";
+    public static final String ISSUES = "validator.issues";
+    public static final String SPEC_CACHE = "validator.spec.cache";
+    public static final String SAMPLES = "validator.samples";
+    public static final String STREAM_RECORDS = "validator.stream.records";
+
+    /** Outcomes of live response samples */
+    public static final String SAMPLE_QUEUED = "queued";
+    public static final String SAMPLE_DROPPED = "dropped";
+    public static final String SAMPLE_VALIDATED = "validated";
+    public static final String SAMPLE_UNMATCHED = "unmatched";
+    public static final String SAMPLE_UNREADABLE = "unreadable";
+
+    /** Winners of hedged requests that were actually sent twice */
+    public static final String HEDGE_PRIMARY = "primary";
+    public static final String HEDGE_HEDGE = "hedge";
+
+    private final MeterRegistry registry;
+
+    private final ConcurrentMap<RequestKey, Timer> requests = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DistributionSummary> responseBytes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> hedges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> schemaValidations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<IssueKey, Counter> issues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> samples = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> specCache = new ConcurrentHashMap<>();
+
+    /** Registered with the first retry, so a run without retries exports no counter */
+    private volatile Counter retries;
+
+    /** Counts issues per rule and severity; attach it to every validation result */
+    private final ValidationListener issueListener;
+
+    @Autowired
+    public ValidatorMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.issueListener = issue -> issues.computeIfAbsent(
+                        new IssueKey(issue.getRule() != null ? issue.getRule() : "other", issue.getSeverity().name()),
+                        key -> Counter.builder(ISSUES)
+                                .tag("rule", key.rule())
+                                .tag("severity", key.severity())
+                                .register(registry))
+                .increment();
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    public ValidationListener issueListener() {
+        return issueListener;
+    }
+
+    /**
+     * Records a finished HTTP exchange
+     *
+     * @param outcome HTTP status code, or {@code error} when no response was received
+     */
+    public void recordRequest(String method, String path, String outcome, long bytes, long nanos) {
+        requests.computeIfAbsent(new RequestKey(method, path, outcome), key -> Timer.builder(HTTP_REQUESTS)
+                        .tag("method", key.method())
+                        .tag("endpoint", key.path())
+                        .tag("outcome", key.outcome())
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        responseBytes.computeIfAbsent(path, endpoint -> DistributionSummary.builder(HTTP_RESPONSE_BYTES)
+                        .baseUnit("bytes")
+                        .tag("endpoint", endpoint)
+                        .register(registry))
+                .record(bytes);
+    }
+
+    public void recordRetry() {
+        Counter counter = retries;
+        if (counter == null) {
+            // Registering twice from racing threads returns the same counter
+            counter = Counter.builder(HTTP_RETRIES).register(registry);
+            retries = counter;
+        }
+        counter.increment();
+    }
+
+    /**
+     * Counts a request sent twice by the request that answered first: primary or hedge
+     */
+    public void recordHedge(String winner) {
+        hedges.computeIfAbsent(winner, tag -> Counter.builder(HTTP_HEDGES)
+                        .tag("winner", tag)
+                        .register(registry))
+                .increment();
+    }
+
+    public void recordSchemaValidation(Schema<?> schema, long nanos) {
+        schemaValidations.computeIfAbsent(schemaName(schema), name -> Timer.builder(SCHEMA_VALIDATION)
+                        .tag("schema", name)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSpecCache(boolean hit) {
+        specCache.computeIfAbsent(hit ? "hit" : "miss", result -> Counter.builder(SPEC_CACHE)
+                        .tag("result", result)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Counts a live response sample by outcome: queued or dropped when captured, then
+     * validated, unmatched or unreadable once processed
+     */
+    public void recordSample(String outcome) {
+        samples.computeIfAbsent(outcome, tag -> Counter.builder(SAMPLES)
+                        .tag("outcome", tag)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Counter of records validated from streaming responses (NDJSON, Server-Sent Events) of an operation;
+     * look it up once per stream
+     */
+    public Counter streamRecords(String method, String path) {
+        return Counter.builder(STREAM_RECORDS)
+                .tag("method", method)
+                .tag("endpoint", path)
+                .register(registry);
+    }
+
+    /**
+     * Wraps an executor so its pool size, active and queued tasks are reported
+     */
+    public ExecutorService monitor(ExecutorService executor, String name) {
+        return ExecutorServiceMetrics.monitor(registry, executor, name);
+    }
+
+    /**
+     * Short label of a schema: component name, last $ref segment or type
+     */
+    public static String schemaName(Schema<?> schema) {
+        if (schema == null) {
+            return "none";
+        }
+        if (schema.getName() != null) {
+            return schema.getName();
+        }
+        if (schema.get$ref() != null) {
+            return schema.get$ref().substring(schema.get$ref().lastIndexOf('/') + 1);
+        }
+        return schema.getType() != null ? schema.getType() : schema.getClass().getSimpleName();
+    }
+
+    private record RequestKey(String method, String path, String outcome) {
+    }
+
+    private record IssueKey(String rule, String severity) {
+    }
+}
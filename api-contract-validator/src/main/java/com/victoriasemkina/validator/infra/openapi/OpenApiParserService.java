@@ -0,0 +1,113 @@
+package com.victoriasemkina.validator.infra.openapi;
+
+import com.victoriasemkina.validator.infra.jfr.SpecParseEvent;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class OpenApiParserService {
+
+    /** Parsed specifications keyed by absolute path, reused by long-running modes */
+    private final Map<String, CachedSpec> cache = new ConcurrentHashMap<>();
+
+    private final ValidatorMetrics metrics;
+
+    @Autowired
+    public OpenApiParserService(ValidatorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns a cached specification, re-parsing it only when the file has changed
+     * since the last call
+     *
+     * @param specPath path to OpenAPI file (YAML or JSON)
+     * @return OpenAPI object
+     * @throws RuntimeException if file not found or parsing failed
+     */
+    public OpenAPI parseCached(String specPath) {
+        File specFile = new File(specPath);
+        String key = specFile.getAbsolutePath();
+        long lastModified = specFile.lastModified();
+        long length = specFile.length();
+
+        CachedSpec cached = cache.get(key);
+        if (cached != null && cached.lastModified() == lastModified && cached.length() == length) {
+            log.debug("Specification cache hit: {}", specPath);
+            metrics.recordSpecCache(true);
+            return cached.openAPI();
+        }
+
+        metrics.recordSpecCache(false);
+        OpenAPI openAPI = parse(specPath);
+        cache.put(key, new CachedSpec(lastModified, length, openAPI));
+        return openAPI;
+    }
+
+    /**
+     * Parses OpenAPI specification from file
+     *
+     * @param specPath path to OpenAPI file (YAML or JSON)
+     * @return OpenAPI object
+     * @throws RuntimeException if file not found or parsing failed
+     */
+    public OpenAPI parse(String specPath) {
+        File specFile = new File(specPath);
+
+        if (!specFile.exists()) {
+            throw new RuntimeException("Specification file not found: " + specPath);
+        }
+
+        log.info("📖 Reading specification: {}", specPath);
+        log.debug("File size: {} bytes", specFile.length());
+
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setResolveFully(true);
+
+        SpecParseEvent event = new SpecParseEvent();
+        event.begin();
+        SwaggerParseResult result = new OpenAPIV3Parser()
+                .readLocation(specFile.getAbsolutePath(), null, options);
+        event.end();
+        if (event.shouldCommit()) {
+            event.spec = specFile.getAbsolutePath();
+            event.endpoints = result.getOpenAPI() != null && result.getOpenAPI().getPaths() != null
+                    ? result.getOpenAPI().getPaths().size() : 0;
+            event.commit();
+        }
+
+        if (result.getOpenAPI() == null) {
+            String errors = String.join("\n", result.getMessages());
+            log.error("Failed to parse OpenAPI specification:\n{}", errors);
+            throw new RuntimeException("OpenAPI parsing error:\n" + errors);
+        }
+
+        OpenAPI openAPI = result.getOpenAPI();
+        log.info("✅ Specification loaded: {} v{}",
+                openAPI.getInfo().getTitle(),
+                openAPI.getInfo().getVersion());
+        log.info("📊 Endpoints found: {}", openAPI.getPaths().size());
+
+        if (!result.getMessages().isEmpty()) {
+            log.warn("Warnings during parsing:");
+            result.getMessages().forEach(log::warn);
+        }
+
+        return openAPI;
+    }
+
+    private record CachedSpec(long lastModified, long length, OpenAPI openAPI) {
+    }
+}
@@ -0,0 +1,301 @@
+package com.victoriasemkina.validator.infra.openapi;
+
+import com.victoriasemkina.validator.config.ValidationConstants;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Matches concrete requests such as {@code GET /users/42?expand=true} to the operations of a
+ * specification ({@code GET /users/{id}}).
+ * <p>
+ * Path templates are compiled once into a segment tree: literal segments are looked up in a
+ * hash map and take precedence over template segments, so matching costs one map lookup per
+ * path segment regardless of the number of operations. Template segments are told apart by the
+ * literal text around the parameter ({@code {name}.json} vs {@code {id}}), the longer text tried
+ * first. Paths may carry the base path of one
+ * of the declared servers, e.g. {@code /v1/users/42} for a server {@code https://api/v1}.
+ * A compiled router is immutable and thread-safe.
+ */
+public final class OperationRouter {
+
+    private final Node root = new Node();
+    private final List<String> basePaths = new ArrayList<>();
+    private final int operations;
+
+    private OperationRouter(OpenAPI openAPI) {
+        int count = 0;
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+                Node node = root;
+                for (String segment : split(entry.getKey())) {
+                    node = isTemplate(segment)
+                            ? node.templateChild(segment)
+                            : node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation : entry.getValue().readOperationsMap().entrySet()) {
+                    String method = operation.getKey().name();
+                    Route route = new Route(method, entry.getKey(), operation.getValue());
+                    Route previous = node.routes.putIfAbsent(method, route);
+                    if (previous != null) {
+                        throw new IllegalArgumentException("Paths " + previous.template() + " and " + entry.getKey()
+                                + " both declare " + method + " and match the same requests");
+                    }
+                    count++;
+                }
+            }
+        }
+        this.operations = count;
+
+        if (openAPI.getServers() != null) {
+            for (Server server : openAPI.getServers()) {
+                String basePath = basePathOf(server.getUrl());
+                if (!basePath.isEmpty() && !basePaths.contains(basePath)) {
+                    basePaths.add(basePath);
+                }
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException when two paths declare the same method and match the same requests,
+     *                                  e.g. {@code /files/{id}} and {@code /files/{name}}
+     */
+    public static OperationRouter compile(OpenAPI openAPI) {
+        return new OperationRouter(openAPI);
+    }
+
+    /**
+     * Number of routed operations
+     */
+    public int size() {
+        return operations;
+    }
+
+    /**
+     * Finds the operation of a request
+     *
+     * @param method HTTP method, any case
+     * @param path   request path or absolute URL; the query string is ignored
+     * @return matching route, or null when no operation matches
+     */
+    public Route match(String method, String path) {
+        String upperMethod = method.toUpperCase(Locale.ROOT);
+        String requestPath = pathOf(path);
+
+        Route route = find(upperMethod, requestPath);
+        if (route != null) {
+            return route;
+        }
+        for (String basePath : basePaths) {
+            if (requestPath.startsWith(basePath)
+                    && (requestPath.length() == basePath.length() || requestPath.charAt(basePath.length()) == '/')) {
+                route = find(upperMethod, requestPath.substring(basePath.length()));
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Route find(String method, String path) {
+        List<String> segments = split(path);
+        return find(root, segments, 0, method);
+    }
+
+    private static Route find(Node node, List<String> segments, int index, String method) {
+        if (index == segments.size()) {
+            return node.routes.get(method);
+        }
+        Node literal = node.literals.get(segments.get(index));
+        if (literal != null) {
+            Route route = find(literal, segments, index + 1, method);
+            if (route != null) {
+                return route;
+            }
+        }
+        // Backtrack to the template branches, e.g. /users/me vs /users/{id}/posts
+        for (Template template : node.templates) {
+            if (template.matches(segments.get(index))) {
+                Route route = find(template.node(), segments, index + 1, method);
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>(8);
+        int start = 0;
+        int length = path.length();
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                segments.add(path.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    /**
+     * Segments such as {@code {id}} or {@code {name}.json}; a parameter never spans segments
+     */
+    private static boolean isTemplate(String segment) {
+        return segment.indexOf('{') >= 0;
+    }
+
+    private static String pathOf(String pathOrUrl) {
+        String path = pathOrUrl;
+        int scheme = path.indexOf("://");
+        if (scheme >= 0) {
+            int slash = path.indexOf('/', scheme + 3);
+            path = slash >= 0 ? path.substring(slash) : "/";
+        }
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        int fragment = path.indexOf('#');
+        return fragment >= 0 ? path.substring(0, fragment) : path;
+    }
+
+    private static String basePathOf(String serverUrl) {
+        if (serverUrl == null) {
+            return "";
+        }
+        String path;
+        try {
+            path = serverUrl.contains("://") ? URI.create(serverUrl).getPath() : serverUrl;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+        if (path == null) {
+            return "";
+        }
+        while (path.endsWith(ValidationConstants.PATH_SEPARATOR)) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Route> routes = new HashMap<>(4);
+
+        /** Template segments, the most literal text first */
+        private final List<Template> templates = new ArrayList<>(1);
+
+        /**
+         * Child of a template segment; segments with the same text around the parameters share it,
+         * whatever the parameter names
+         */
+        Node templateChild(String segment) {
+            String prefix = segment.substring(0, segment.indexOf('{'));
+            String suffix = segment.substring(segment.lastIndexOf('}') + 1);
+            for (Template template : templates) {
+                if (template.prefix().equals(prefix) && template.suffix().equals(suffix)) {
+                    return template.node();
+                }
+            }
+            Template template = new Template(prefix, suffix, new Node());
+            templates.add(template);
+            templates.sort(Comparator.comparingInt(Template::literalLength).reversed());
+            return template.node();
+        }
+    }
+
+    /**
+     * Template segment such as {@code {name}.json}: literal text before and after the parameters
+     */
+    private record Template(String prefix, String suffix, Node node) {
+
+        int literalLength() {
+            return prefix.length() + suffix.length();
+        }
+
+        /**
+         * Whether the segment has the literal text with a non-empty parameter value between
+         */
+        boolean matches(String segment) {
+            return segment.length() > literalLength() && segment.startsWith(prefix) && segment.endsWith(suffix);
+        }
+    }
+
+    /**
+     * An operation of the specification
+     *
+     * @param method   HTTP method in upper case
+     * @param template path template as written in the specification, e.g. {@code /users/{id}}
+     */
+    public record Route(String method, String template, Operation operation) {
+
+        /**
+         * Whether the specification documents the status, directly, as a range ({@code 2XX})
+         * or through {@code default}
+         */
+        public boolean documents(int status) {
+            return response(status) != null;
+        }
+
+        /**
+         * JSON schema of the response with this status, or null when the response has none
+         */
+        public Schema<?> responseSchema(int status) {
+            ApiResponse response = response(status);
+            return response != null ? jsonSchema(response.getContent()) : null;
+        }
+
+        private ApiResponse response(int status) {
+            ApiResponses responses = operation.getResponses();
+            if (responses == null) {
+                return null;
+            }
+            ApiResponse response = responses.get(String.valueOf(status));
+            if (response == null) {
+                response = responses.get((status / 100) + "XX");
+            }
+            if (response == null) {
+                response = responses.get((status / 100) + "xx");
+            }
+            return response != null ? response : responses.get("default");
+        }
+
+        private static Schema<?> jsonSchema(Content content) {
+            if (content == null) {
+                return null;
+            }
+            MediaType json = content.get(ValidationConstants.CONTENT_TYPE_JSON);
+            if (json == null) {
+                // Vendor types such as application/problem+json
+                json = content.entrySet().stream()
+                        .filter(entry -> entry.getKey().endsWith("+json"))
+                        .map(Map.Entry::getValue)
+                        .findFirst()
+                        .orElse(null);
+            }
+            return json != null ? json.getSchema() : null;
+        }
+    }
+}
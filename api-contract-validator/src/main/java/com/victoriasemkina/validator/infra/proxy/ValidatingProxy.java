@@ -0,0 +1,188 @@
+package com.victoriasemkina.validator.infra.proxy;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.infra.sampling.AsyncSampleValidator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reverse proxy that forwards every request to the upstream service and streams the response
+ * back unchanged, copying a sample of responses to an {@link AsyncSampleValidator}.
+ * <p>
+ * The response path only does what a plain proxy does plus, for sampled responses, an extra
+ * write of each body chunk into a capture buffer; decoding and validation happen on the
+ * sampler's workers. Bodies larger than the capture limit are forwarded but not sampled.
+ */
+@Slf4j
+public class ValidatingProxy implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    /** Connection-level headers a proxy must not forward, plus those the HTTP client sets itself */
+    private static final Set<String> HOP_BY_HOP = Set.of("connection", "keep-alive", "proxy-connection",
+            "proxy-authenticate", "proxy-authorization", "te", "trailer", "transfer-encoding", "upgrade",
+            "content-length", "host", "expect");
+
+    private final URI upstream;
+    private final AsyncSampleValidator sampler;
+    private final int maxSampleBytes;
+    private final HttpClient client;
+    private final ExecutorService handlers;
+    private final HttpServer server;
+
+    private ValidatingProxy(InetSocketAddress address, URI upstream, AsyncSampleValidator sampler,
+                            int maxSampleBytes, Duration timeout) throws IOException {
+        this.upstream = upstream;
+        this.sampler = sampler;
+        this.maxSampleBytes = maxSampleBytes;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(timeout)
+                .build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.handlers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "proxy-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(address, 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(handlers);
+    }
+
+    /**
+     * Starts listening
+     *
+     * @param maxSampleBytes largest response body captured for validation
+     * @param timeout        connect timeout towards the upstream
+     */
+    public static ValidatingProxy start(InetSocketAddress address, URI upstream, AsyncSampleValidator sampler,
+                                        int maxSampleBytes, Duration timeout) throws IOException {
+        ValidatingProxy proxy = new ValidatingProxy(address, upstream, sampler, maxSampleBytes, timeout);
+        proxy.server.start();
+        log.info("🔀 Proxy listening on {} → {}", proxy.getAddress(), upstream);
+        return proxy;
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getRawPath();
+        String query = exchange.getRequestURI().getRawQuery();
+
+        try (exchange) {
+            HttpResponse<InputStream> response;
+            try {
+                response = client.send(upstreamRequest(exchange, method, path, query),
+                        HttpResponse.BodyHandlers.ofInputStream());
+            } catch (IOException e) {
+                log.debug("Upstream request {} {} failed: {}", method, path, e.getMessage());
+                exchange.sendResponseHeaders(502, -1);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            forward(exchange, method, query != null ? path + '?' + query : path, response);
+        }
+    }
+
+    private HttpRequest upstreamRequest(HttpExchange exchange, String method, String path, String query) {
+        String base = upstream.toString();
+        if (base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + path + (query != null ? "?" + query : "")));
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            if (!HOP_BY_HOP.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                for (String value : header.getValue()) {
+                    request.header(header.getKey(), value);
+                }
+            }
+        }
+
+        Headers headers = exchange.getRequestHeaders();
+        boolean hasBody = headers.containsKey("Transfer-Encoding")
+                || (headers.getFirst("Content-Length") != null && !"0".equals(headers.getFirst("Content-Length")));
+        return request.method(method, hasBody
+                        ? HttpRequest.BodyPublishers.ofInputStream(exchange::getRequestBody)
+                        : HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private void forward(HttpExchange exchange, String method, String target, HttpResponse<InputStream> response)
+            throws IOException {
+        int status = response.statusCode();
+        Headers headers = exchange.getResponseHeaders();
+        for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+            String name = header.getKey();
+            if (!name.startsWith(":") && !HOP_BY_HOP.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, header.getValue());
+            }
+        }
+
+        boolean bodiless = "HEAD".equalsIgnoreCase(method) || status == 204 || status == 304 || status < 200;
+        long length = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        // HttpServer: -1 means no body, 0 means chunked
+        exchange.sendResponseHeaders(status, bodiless || length == 0 ? -1 : Math.max(length, 0));
+
+        boolean sampled = sampler.sample();
+        ByteArrayOutputStream capture = sampled && !bodiless && length <= maxSampleBytes
+                ? new ByteArrayOutputStream(length > 0 ? (int) length : BUFFER_SIZE)
+                : null;
+
+        try (InputStream in = response.body(); OutputStream out = exchange.getResponseBody()) {
+            if (!bodiless) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    out.write(buffer, 0, read);
+                    if (capture != null) {
+                        if (capture.size() + read > maxSampleBytes) {
+                            capture = null;
+                        } else {
+                            capture.write(buffer, 0, read);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (sampled && (capture != null || bodiless)) {
+            sampler.submit(method, target, status, capture != null ? capture.toByteArray() : null,
+                    response.headers().firstValue("Content-Encoding").orElse(null));
+        }
+    }
+}
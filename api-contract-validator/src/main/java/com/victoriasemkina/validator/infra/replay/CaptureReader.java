@@ -0,0 +1,169 @@
+package com.victoriasemkina.validator.infra.replay;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victoriasemkina.validator.domain.model.RecordedExchange;
+import com.victoriasemkina.validator.domain.port.ExchangeSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams exchanges out of a traffic capture without loading it: only the entry being
+ * read is materialized. Supported formats:
+ * <ul>
+ *     <li>HAR — {@code log.entries[]} with {@code request.method}, {@code request.url},
+ *     {@code response.status} and {@code response.content.text} (base64 content is decoded);</li>
+ *     <li>NDJSON — one object per line with {@code method}, {@code path} or {@code url},
+ *     {@code status} and {@code body}, the body either a JSON string or an inline JSON value.</li>
+ * </ul>
+ */
+public class CaptureReader implements ExchangeSource {
+
+    public enum Format { HAR, NDJSON }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final MappedFileInputStream input;
+    private final JsonParser parser;
+    private final Format format;
+    private boolean inEntries;
+
+    public CaptureReader(Path file, Format format) throws IOException {
+        this.input = new MappedFileInputStream(file);
+        this.parser = MAPPER.getFactory().createParser(input);
+        this.format = format;
+    }
+
+    /**
+     * Opens a capture, choosing the format by extension: {@code .har} or NDJSON otherwise
+     */
+    public static CaptureReader open(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return new CaptureReader(file, name.endsWith(".har") ? Format.HAR : Format.NDJSON);
+    }
+
+    /**
+     * Reads several captures one after another as a single source
+     */
+    public static ExchangeSource openAll(List<Path> files) throws IOException {
+        if (files.size() == 1) {
+            return open(files.get(0));
+        }
+        return new ExchangeSource() {
+
+            private int index;
+            private CaptureReader current;
+
+            @Override
+            public RecordedExchange next() throws IOException {
+                while (true) {
+                    if (current == null) {
+                        if (index == files.size()) {
+                            return null;
+                        }
+                        current = open(files.get(index++));
+                    }
+                    RecordedExchange exchange = current.next();
+                    if (exchange != null) {
+                        return exchange;
+                    }
+                    current.close();
+                    current = null;
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (current != null) {
+                    current.close();
+                }
+            }
+        };
+    }
+
+    @Override
+    public RecordedExchange next() throws IOException {
+        return format == Format.HAR ? nextHarEntry() : nextNdjsonLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+        input.close();
+    }
+
+    private RecordedExchange nextNdjsonLine() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.START_OBJECT) {
+                return fromNdjson(parser.readValueAsTree());
+            }
+            // Anything else at the top level is not an exchange
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private RecordedExchange nextHarEntry() throws IOException {
+        if (!inEntries && !seekEntries()) {
+            return null;
+        }
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            // End of the entries array
+            inEntries = false;
+            return null;
+        }
+        return fromHar(parser.readValueAsTree());
+    }
+
+    /**
+     * Moves the parser into the {@code entries} array of the HAR log
+     */
+    private boolean seekEntries() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.FIELD_NAME && "entries".equals(parser.currentName())) {
+                if (parser.nextToken() == JsonToken.START_ARRAY) {
+                    inEntries = true;
+                    return true;
+                }
+                parser.skipChildren();
+            } else if (token == JsonToken.FIELD_NAME && !"log".equals(parser.currentName())) {
+                parser.nextToken();
+                parser.skipChildren();
+            }
+        }
+        return false;
+    }
+
+    private static RecordedExchange fromHar(JsonNode entry) {
+        JsonNode request = entry.path("request");
+        JsonNode response = entry.path("response");
+        JsonNode content = response.path("content");
+
+        String body = content.hasNonNull("text") ? content.get("text").asText() : null;
+        if (body != null && "base64".equalsIgnoreCase(content.path("encoding").asText())) {
+            body = new String(Base64.getMimeDecoder().decode(body), StandardCharsets.UTF_8);
+        }
+        return new RecordedExchange(request.path("method").asText("GET"), request.path("url").asText(""),
+                response.path("status").asInt(), body);
+    }
+
+    /**
+     * Reads an exchange from an NDJSON object; shared with other line-oriented sources
+     */
+    public static RecordedExchange fromNdjson(JsonNode line) {
+        String path = line.hasNonNull("path") ? line.get("path").asText() : line.path("url").asText("");
+        JsonNode body = line.get("body");
+        String text = body == null || body.isNull() ? null : body.isTextual() ? body.asText() : body.toString();
+        return new RecordedExchange(line.path("method").asText("GET"), path, line.path("status").asInt(200), text);
+    }
+}
@@ -0,0 +1,345 @@
+package com.victoriasemkina.validator.infra.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victoriasemkina.validator.domain.model.RecordedExchange;
+import com.victoriasemkina.validator.domain.port.ExchangeSource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Follows an NDJSON log of exchanges as it grows, like {@code tail -F}.
+ * <p>
+ * {@link #next()} blocks until a complete line is available and returns null only after
+ * {@link #stop()}. Rotation is detected by the file identity changing (rename and re-create)
+ * or by the file shrinking (copy-and-truncate); the rest of the old file is read before
+ * switching. The start of the oldest line handed out but not {@link #completed} yet — or,
+ * with none in flight, the offset of the last line handed out — is saved to a checkpoint file
+ * periodically and on close, so a restart resumes where the previous run stopped as long as
+ * the same file is still in place. Lines queued for validation when the process dies are
+ * read again: each line is validated at least once.
+ */
+@Slf4j
+public class LogFollower implements ExchangeSource {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Path checkpoint;
+    private final Duration pollInterval;
+    private final Duration checkpointInterval;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    private final Deque<Line> pending = new ArrayDeque<>();
+    /** Lines handed out and not validated yet, in file order; guarded by itself */
+    private final Deque<Line> inFlight = new ArrayDeque<>();
+    /** Exchanges validated while an older line is still in flight */
+    private final Set<RecordedExchange> completedEarly = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private FileChannel channel;
+    private String fileId;
+    /** Offset just after the last complete line read */
+    private long lineOffset;
+    /** Position of the last line handed out, what the checkpoint records when no line is in flight */
+    private String handedFileId;
+    private long handedOffset;
+    private long lastCheckpoint = System.nanoTime();
+    private long skippedLines;
+    private volatile boolean stopped;
+
+    /**
+     * @param checkpoint  file keeping the position between runs
+     * @param startAtEnd  without a usable checkpoint, skip the existing content instead of reading it
+     */
+    public LogFollower(Path file, Path checkpoint, boolean startAtEnd, Duration pollInterval,
+                       Duration checkpointInterval) throws IOException {
+        this.file = file;
+        this.checkpoint = checkpoint;
+        this.pollInterval = pollInterval;
+        this.checkpointInterval = checkpointInterval;
+        open(startAtEnd);
+    }
+
+    /**
+     * Makes a blocked or future {@link #next()} return null; safe to call from any thread
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Lines that were not valid exchange objects
+     */
+    public long getSkippedLines() {
+        return skippedLines;
+    }
+
+    @Override
+    public RecordedExchange next() throws IOException {
+        while (!stopped) {
+            saveCheckpointIfDue();
+            Line line = pending.poll();
+            if (line != null) {
+                synchronized (inFlight) {
+                    inFlight.add(line);
+                }
+                handedFileId = line.fileId();
+                handedOffset = line.end();
+                return line.exchange();
+            }
+            // Everything read so far is handed out, including skipped lines
+            handedFileId = fileId;
+            handedOffset = lineOffset;
+
+            if (channel != null && readLines()) {
+                continue;
+            }
+            if (switchIfRotated()) {
+                continue;
+            }
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void completed(RecordedExchange exchange) {
+        synchronized (inFlight) {
+            completedEarly.add(exchange);
+            while (!inFlight.isEmpty() && completedEarly.remove(inFlight.peek().exchange())) {
+                inFlight.poll();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        stopped = true;
+        if (channel != null) {
+            saveCheckpoint();
+            channel.close();
+        }
+    }
+
+    private void open(boolean startAtEnd) throws IOException {
+        if (!Files.exists(file)) {
+            log.info("Waiting for {} to appear", file);
+            return;
+        }
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        fileId = idOf(file);
+
+        Properties saved = loadCheckpoint();
+        long savedOffset = Long.parseLong(saved.getProperty("offset", "-1"));
+        if (fileId.equals(saved.getProperty("file")) && savedOffset >= 0 && savedOffset <= channel.size()) {
+            lineOffset = savedOffset;
+            log.info("Resuming {} at byte {}", file, lineOffset);
+        } else {
+            lineOffset = startAtEnd ? channel.size() : 0;
+        }
+        channel.position(lineOffset);
+        handedFileId = fileId;
+        handedOffset = lineOffset;
+    }
+
+    /**
+     * Reads what the file has now, queueing complete lines
+     *
+     * @return false at the end of the file
+     */
+    private boolean readLines() throws IOException {
+        buffer.clear();
+        int read = channel.read(buffer);
+        if (read <= 0) {
+            return false;
+        }
+        byte[] bytes = buffer.array();
+        int lineStart = 0;
+        for (int i = 0; i < read; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            // The line and its terminator
+            long start = lineOffset;
+            lineOffset += partialLine.size() + i - lineStart + 1;
+            if (partialLine.size() > 0) {
+                partialLine.write(bytes, lineStart, i - lineStart);
+                parse(partialLine.toByteArray(), 0, partialLine.size(), start);
+                partialLine.reset();
+            } else {
+                parse(bytes, lineStart, i - lineStart, start);
+            }
+            lineStart = i + 1;
+        }
+        // Incomplete line: the writer has not finished it yet
+        partialLine.write(bytes, lineStart, read - lineStart);
+        return true;
+    }
+
+    /**
+     * @param start offset of the line in the file
+     */
+    private void parse(byte[] bytes, int offset, int length, long start) {
+        int end = offset + length;
+        while (end > offset && (bytes[end - 1] == '\r' || bytes[end - 1] == ' ')) {
+            end--;
+        }
+        if (end == offset) {
+            return;
+        }
+        try {
+            JsonNode line = MAPPER.readTree(bytes, offset, end - offset);
+            if (line != null && line.isObject()) {
+                pending.add(new Line(CaptureReader.fromNdjson(line), fileId, start, lineOffset));
+                return;
+            }
+        } catch (IOException e) {
+            log.debug("Skipping malformed line at byte {} of {}: {}", lineOffset, file, e.getMessage());
+        }
+        skippedLines++;
+    }
+
+    /**
+     * Called at the end of the current file
+     *
+     * @return true when reading continues in a new or truncated file
+     */
+    private boolean switchIfRotated() throws IOException {
+        if (channel == null) {
+            if (!Files.exists(file)) {
+                return false;
+            }
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            fileId = idOf(file);
+            lineOffset = 0;
+            log.info("Following {}", file);
+            return true;
+        }
+
+        String currentId;
+        long currentSize;
+        try {
+            currentId = idOf(file);
+            currentSize = Files.size(file);
+        } catch (NoSuchFileException e) {
+            // Renamed away, the new file is not created yet
+            return false;
+        }
+
+        if (!currentId.equals(fileId)) {
+            // Whatever was appended between the last read and the rename
+            while (readLines()) {
+                // keep reading
+            }
+            flushPartialLine();
+            channel.close();
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            fileId = currentId;
+            lineOffset = 0;
+            log.info("{} rotated, following the new file", file);
+            return true;
+        }
+        if (currentSize < channel.position()) {
+            partialLine.reset();
+            channel.position(0);
+            lineOffset = 0;
+            log.info("{} truncated, reading from the start", file);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * A rotated file will not grow any more, so its unterminated last line is complete
+     */
+    private void flushPartialLine() {
+        if (partialLine.size() > 0) {
+            long start = lineOffset;
+            lineOffset += partialLine.size();
+            parse(partialLine.toByteArray(), 0, partialLine.size(), start);
+            partialLine.reset();
+        }
+    }
+
+    private void saveCheckpointIfDue() throws IOException {
+        if (System.nanoTime() - lastCheckpoint >= checkpointInterval.toNanos()) {
+            saveCheckpoint();
+        }
+    }
+
+    private void saveCheckpoint() throws IOException {
+        lastCheckpoint = System.nanoTime();
+        if (handedFileId == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        synchronized (inFlight) {
+            Line oldest = inFlight.peek();
+            properties.setProperty("file", oldest != null ? oldest.fileId() : handedFileId);
+            properties.setProperty("offset", Long.toString(oldest != null ? oldest.start() : handedOffset));
+        }
+
+        // Written aside and moved, so a crash never leaves a half-written checkpoint
+        Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Position in " + file.toAbsolutePath());
+        }
+        Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Properties loadCheckpoint() throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(checkpoint)) {
+            try (Reader reader = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Identity that survives appends but changes when the path points to another file:
+     * the inode where available, the creation time otherwise
+     */
+    private static String idOf(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        Object key = attributes.fileKey();
+        return key != null ? key.toString() : attributes.creationTime().toString();
+    }
+
+    /**
+     * A parsed line waiting to be handed out or validated
+     *
+     * @param start offset of the line in the file it was read from
+     * @param end   offset just after the line
+     */
+    private record Line(RecordedExchange exchange, String fileId, long start, long end) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.victoriasemkina.validator.infra.replay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through read-only memory-mapped windows, so multi-gigabyte captures are paged
+ * in by the OS instead of being copied through read buffers; files beyond the 2 GB limit of a
+ * single mapping are read window by window.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    static final long DEFAULT_WINDOW = 256L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long window;
+    private long windowStart;
+    private MappedByteBuffer buffer;
+
+    public MappedFileInputStream(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW);
+    }
+
+    MappedFileInputStream(Path file, long window) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.window = window;
+        map(0);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Bytes consumed so far
+     */
+    public long position() {
+        return windowStart + (buffer != null ? buffer.position() : 0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(target, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, size - position());
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+
+    private boolean ensureRemaining() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Stream closed");
+        }
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+        long next = windowStart + buffer.capacity();
+        if (next >= size) {
+            return false;
+        }
+        map(next);
+        return true;
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(window, size - start));
+    }
+}
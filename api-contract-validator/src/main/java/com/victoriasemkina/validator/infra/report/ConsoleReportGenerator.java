@@ -0,0 +1,103 @@
+package com.victoriasemkina.validator.infra.report;
+
+import com.victoriasemkina.validator.domain.model.IssueGroup;
+import com.victoriasemkina.validator.domain.model.LatencyHistogram;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ReportGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+@Component
+public class ConsoleReportGenerator implements ReportGenerator {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    @Override
+    public void generate(ValidationResult result, String outputPath) throws IOException {
+        log.info("");
+        log.info("========================================");
+        log.info("VALIDATION RESULTS");
+        log.info("========================================");
+        log.info("Base URL:    {}", result.getBaseUrl());
+        log.info("Endpoints:   {}", result.getTotalEndpoints());
+        log.info("Issues:      {}", result.getTotalIssues());
+        log.info("Duration:    {} ms", result.getDurationMillis());
+        log.info("Started:     {}", result.getStartedAt().format(TIME_FORMATTER));
+        log.info("Finished:    {}", result.getFinishedAt().format(TIME_FORMATTER));
+        log.info("========================================");
+
+        logLatency(result);
+
+        if (result.getTotalIssues() > 0) {
+            log.info("");
+            log.info("ISSUES FOUND:");
+            log.info("------------");
+
+            for (ValidationIssue issue : result.getIssues()) {
+                log.info("{}", issue);
+            }
+
+            logRepeatedIssues(result);
+        } else {
+            log.info("");
+            log.info("✅ All endpoints passed validation!");
+        }
+
+        log.info("========================================");
+    }
+
+    private void logRepeatedIssues(ValidationResult result) {
+        boolean headerLogged = false;
+
+        for (IssueGroup group : result.getIssueGroups()) {
+            if (group.getCount() < 2) {
+                continue;
+            }
+            if (!headerLogged) {
+                log.info("");
+                log.info("REPEATED ISSUES:");
+                log.info("----------------");
+                headerLogged = true;
+            }
+            log.info("[{}] {} {}: {} at {} — {} occurrences",
+                    group.getSeverity(), group.getMethod(), group.getPath(),
+                    group.getRule(), group.getFieldPath() != null ? group.getFieldPath() : "-",
+                    group.getCount());
+        }
+    }
+
+    private void logLatency(ValidationResult result) {
+        if (result.getTimings().isEmpty()) {
+            return;
+        }
+
+        log.info("");
+        log.info("LATENCY (p50 / p99):");
+        log.info("--------------------");
+        for (OperationTimings timings : result.getTimings()) {
+            LatencyHistogram total = timings.get(OperationTimings.Phase.TOTAL);
+            if (total.getCount() == 0) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder()
+                    .append(timings.getMethod()).append(' ').append(timings.getPath())
+                    .append(" — ").append(total.getCount()).append(" sample(s)");
+            for (OperationTimings.Phase phase : OperationTimings.Phase.values()) {
+                LatencyHistogram histogram = timings.get(phase);
+                if (histogram.getCount() > 0) {
+                    line.append(", ").append(phase.getLabel()).append(' ')
+                            .append(LatencyHistogram.formatMicros(histogram.getPercentileMicros(50)))
+                            .append(" / ")
+                            .append(LatencyHistogram.formatMicros(histogram.getPercentileMicros(99)));
+                }
+            }
+            log.info("{}", line);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.victoriasemkina.validator.infra.report;
+
+import com.victoriasemkina.validator.domain.model.IssueGroup;
+import com.victoriasemkina.validator.domain.model.LatencyHistogram;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ReportGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes the HTML report straight to a buffered UTF-8 file while iterating issues.
+ * <p>
+ * Runs with more issues than fit on one page get an index page (summary and per-endpoint
+ * counts) plus numbered issue pages next to it: {@code report.html}, {@code report-issues-001.html}, ...
+ * Issue pages left next to it by an earlier, larger report are deleted.
+ */
+@Slf4j
+@Component
+public class HtmlReportGenerator implements ReportGenerator {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String STYLES = """
+                    body { font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif; margin: 40px; background: #f5f5f5; }
+                    .container { max-width: 1200px; margin: 0 auto; background: white; padding: 30px; border-radius: 10px; box-shadow: 0 2px 10px rgba(0,0,0,0.1); }
+                    h1 { color: #2c3e50; border-bottom: 3px solid #3498db; padding-bottom: 10px; }
+                    .summary { background: #ecf0f1; padding: 20px; border-radius: 5px; margin-bottom: 30px; }
+                    .summary-item { display: flex; justify-content: space-between; margin: 10px 0; }
+                    .summary-label { font-weight: bold; color: #34495e; }
+                    .summary-value { color: #2c3e50; }
+                    .status { padding: 5px 15px; border-radius: 20px; font-weight: bold; display: inline-block; margin: 5px 0; }
+                    .status-success { background: #27ae60; color: white; }
+                    .status-error { background: #e74c3c; color: white; }
+                    .status-warning { background: #f39c12; color: white; }
+                    table { width: 100%; border-collapse: collapse; margin-top: 20px; }
+                    th, td { padding: 12px; text-align: left; border-bottom: 1px solid #ddd; }
+                    th { background: #3498db; color: white; font-weight: bold; }
+                    tr:hover { background: #f8f9fa; }
+                    .error-row { background: #ffebee; }
+                    .warning-row { background: #fff3e0; }
+                    .pages a { margin-right: 10px; }
+                    .footer { margin-top: 30px; padding-top: 20px; border-top: 1px solid #ddd; color: #7f8c8d; font-size: 0.9em; }
+            """;
+
+    /** Maximum issue rows per HTML file */
+    private final int pageSize;
+
+    public HtmlReportGenerator(@Value("${validator.report.html.page-size:5000}") int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("HTML report page size must be positive: " + pageSize);
+        }
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void generate(ValidationResult result, String outputPath) throws IOException {
+        if (outputPath == null || outputPath.trim().isEmpty()) {
+            outputPath = "validation-report.html";
+        }
+
+        log.info("Generating HTML report to: {}", outputPath);
+
+        Path indexPath = Path.of(outputPath);
+        int pageCount = 0;
+        if (result.getIssues().size() <= pageSize) {
+            writeSinglePage(result, indexPath);
+        } else {
+            pageCount = writePaginated(result, indexPath);
+        }
+        deleteStalePages(indexPath, pageCount + 1);
+
+        log.info("HTML report saved successfully: {}", outputPath);
+    }
+
+    private void writeSinglePage(ValidationResult result, Path outputPath) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+            writeHeader(writer, "API Contract Validation Report");
+            writeSummary(writer, result);
+            writeLatency(writer, result);
+            writeRepeatedIssues(writer, result);
+
+            if (result.getTotalIssues() > 0) {
+                writer.write("        <h2>🚨 Issues Found</h2>\n");
+                writeTableStart(writer);
+                for (ValidationIssue issue : result.getIssues()) {
+                    writeIssueRow(writer, issue);
+                }
+                writeTableEnd(writer);
+            } else {
+                writePassedBlock(writer);
+            }
+
+            writeFooter(writer, result);
+        }
+    }
+
+    /**
+     * @return number of issue pages written
+     */
+    private int writePaginated(ValidationResult result, Path indexPath) throws IOException {
+        int pageCount = 0;
+
+        Iterator<ValidationIssue> issues = result.getIssues().iterator();
+        while (issues.hasNext()) {
+            pageCount++;
+            Path pagePath = pagePath(indexPath, pageCount);
+
+            try (BufferedWriter writer = Files.newBufferedWriter(pagePath, StandardCharsets.UTF_8)) {
+                writeHeader(writer, "API Contract Validation Report — page " + pageCount);
+                writer.write("        <p><a href=\"" + escapeHtml(indexPath.getFileName().toString())
+                        + "\">← Back to summary</a></p>\n");
+                writer.write("        <h2>🚨 Issues (page " + pageCount + ")</h2>\n");
+                writeTableStart(writer);
+
+                for (int row = 0; row < pageSize && issues.hasNext(); row++) {
+                    writeIssueRow(writer, issues.next());
+                }
+
+                writeTableEnd(writer);
+                writeFooter(writer, result);
+            }
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(indexPath, StandardCharsets.UTF_8)) {
+            writeHeader(writer, "API Contract Validation Report");
+            writeSummary(writer, result);
+            writeLatency(writer, result);
+            writeRepeatedIssues(writer, result);
+            writeEndpointCounts(writer, result);
+            writePageLinks(writer, indexPath, pageCount);
+            writeFooter(writer, result);
+        }
+
+        log.info("HTML report split into {} issue page(s) of up to {} rows", pageCount, pageSize);
+        return pageCount;
+    }
+
+    /**
+     * Deletes the issue pages an earlier report wrote past the last page of this one
+     */
+    private static void deleteStalePages(Path indexPath, int firstStalePage) throws IOException {
+        for (int page = firstStalePage; Files.deleteIfExists(pagePath(indexPath, page)); page++) {
+            log.debug("Deleted stale HTML report page {}", pagePath(indexPath, page));
+        }
+    }
+
+    static Path pagePath(Path indexPath, int page) {
+        String fileName = indexPath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        String extension = dot > 0 ? fileName.substring(dot) : ".html";
+        return indexPath.resolveSibling(String.format("%s-issues-%03d%s", baseName, page, extension));
+    }
+
+    private void writeHeader(Writer writer, String title) throws IOException {
+        writer.write("<!DOCTYPE html>\n");
+        writer.write("<html lang=\"en\">\n");
+        writer.write("<head>\n");
+        writer.write("    <meta charset=\"UTF-8\">\n");
+        writer.write("    <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">\n");
+        writer.write("    <title>" + escapeHtml(title) + "</title>\n");
+        writer.write("    <style>\n");
+        writer.write(STYLES);
+        writer.write("    </style>\n");
+        writer.write("</head>\n");
+        writer.write("<body>\n");
+        writer.write("    <div class=\"container\">\n");
+        writer.write("        <h1>🔍 API Contract Validation Report</h1>\n");
+        writer.write("        \n");
+    }
+
+    private void writeSummary(Writer writer, ValidationResult result) throws IOException {
+        writer.write("        <div class=\"summary\">\n");
+        writer.write("            <h2>📋 Summary</h2>\n");
+        writeSummaryItem(writer, "Base URL:", escapeHtml(result.getBaseUrl()));
+        writeSummaryItem(writer, "Endpoints Checked:", String.valueOf(result.getTotalEndpoints()));
+        writeSummaryItem(writer, "Issues Found:", String.valueOf(result.getTotalIssues()));
+        writeSummaryItem(writer, "Duration:", result.getDurationMillis() + " ms");
+        writeSummaryItem(writer, "Started:", result.getStartedAt().format(TIME_FORMATTER));
+        writeSummaryItem(writer, "Finished:", result.getFinishedAt().format(TIME_FORMATTER));
+        writer.write("            <div class=\"summary-item\">\n");
+        writer.write("                <span class=\"summary-label\">Status:</span>\n");
+        if (result.hasErrors()) {
+            writer.write("                <span class=\"status status-error\">❌ FAILED</span>\n");
+        } else if (result.getTotalIssues() > 0) {
+            writer.write("                <span class=\"status status-warning\">⚠️ WARNINGS</span>\n");
+        } else {
+            writer.write("                <span class=\"status status-success\">✅ PASSED</span>\n");
+        }
+        writer.write("            </div>\n");
+        writer.write("        </div>\n");
+    }
+
+    private void writeSummaryItem(Writer writer, String label, String value) throws IOException {
+        writer.write("            <div class=\"summary-item\">\n");
+        writer.write("                <span class=\"summary-label\">" + label + "</span>\n");
+        writer.write("                <span class=\"summary-value\">" + value + "</span>\n");
+        writer.write("            </div>\n");
+    }
+
+    private void writeTableStart(Writer writer) throws IOException {
+        writer.write("        <table>\n");
+        writer.write("            <thead>\n");
+        writer.write("                <tr>\n");
+        writer.write("                    <th>Severity</th>\n");
+        writer.write("                    <th>Method</th>\n");
+        writer.write("                    <th>Endpoint</th>\n");
+        writer.write("                    <th>Description</th>\n");
+        writer.write("                    <th>Expected</th>\n");
+        writer.write("                    <th>Actual</th>\n");
+        writer.write("                </tr>\n");
+        writer.write("            </thead>\n");
+        writer.write("            <tbody>\n");
+    }
+
+    private void writeIssueRow(Writer writer, ValidationIssue issue) throws IOException {
+        // Called once per issue: writes pieces directly instead of concatenating row strings
+        boolean error = issue.getSeverity() == ValidationIssue.Severity.ERROR;
+        writer.write(error ? "                <tr class=\"error-row\">\n" : "                <tr class=\"warning-row\">\n");
+        writer.write(error ? "                    <td><span class=\"status status-error\">"
+                : "                    <td><span class=\"status status-warning\">");
+        writer.write(issue.getSeverity().name());
+        writer.write("</span></td>\n");
+        writeCell(writer, "<td>", issue.getMethod(), "</td>\n");
+        writeCell(writer, "<td><code>", issue.getPath(), "</code></td>\n");
+        writeCell(writer, "<td>", issue.getDescription(), "</td>\n");
+        writeCell(writer, "<td>", issue.getExpected() != null ? issue.getExpected() : "-", "</td>\n");
+        writeCell(writer, "<td>", issue.getActual() != null ? issue.getActual() : "-", "</td>\n");
+        writer.write("                </tr>\n");
+    }
+
+    private void writeCell(Writer writer, String open, String text, String close) throws IOException {
+        writer.write("                    ");
+        writer.write(open);
+        writeEscaped(writer, text);
+        writer.write(close);
+    }
+
+    private void writeTableEnd(Writer writer) throws IOException {
+        writer.write("            </tbody>\n");
+        writer.write("        </table>\n");
+    }
+
+    /**
+     * Counts come from the issue groups: with a limit on examples, fewer issues are retained than found
+     */
+    private void writeEndpointCounts(Writer writer, ValidationResult result) throws IOException {
+        Map<String, long[]> countsByEndpoint = new TreeMap<>();
+        for (IssueGroup group : result.getIssueGroups()) {
+            long[] counts = countsByEndpoint.computeIfAbsent(
+                    group.getMethod() + " " + group.getPath(), key -> new long[2]);
+            counts[group.getSeverity() == ValidationIssue.Severity.ERROR ? 0 : 1] += group.getCount();
+        }
+
+        writer.write("        <h2>🚨 Issues by Endpoint</h2>\n");
+        writer.write("        <table>\n");
+        writer.write("            <thead>\n");
+        writer.write("                <tr><th>Endpoint</th><th>Errors</th><th>Warnings</th></tr>\n");
+        writer.write("            </thead>\n");
+        writer.write("            <tbody>\n");
+        for (Map.Entry<String, long[]> entry : countsByEndpoint.entrySet()) {
+            long[] counts = entry.getValue();
+            writer.write("                <tr class=\"" + (counts[0] > 0 ? "error-row" : "warning-row") + "\">"
+                    + "<td><code>" + escapeHtml(entry.getKey()) + "</code></td>"
+                    + "<td>" + counts[0] + "</td>"
+                    + "<td>" + counts[1] + "</td></tr>\n");
+        }
+        writeTableEnd(writer);
+    }
+
+    private void writeRepeatedIssues(Writer writer, ValidationResult result) throws IOException {
+        boolean tableStarted = false;
+
+        for (IssueGroup group : result.getIssueGroups()) {
+            if (group.getCount() < 2) {
+                continue;
+            }
+            if (!tableStarted) {
+                writer.write("        <h2>🔁 Repeated Issues</h2>\n");
+                writer.write("        <table>\n");
+                writer.write("            <thead>\n");
+                writer.write("                <tr><th>Severity</th><th>Endpoint</th><th>Rule</th><th>Field</th><th>Occurrences</th></tr>\n");
+                writer.write("            </thead>\n");
+                writer.write("            <tbody>\n");
+                tableStarted = true;
+            }
+            boolean error = group.getSeverity() == ValidationIssue.Severity.ERROR;
+            writer.write("                <tr class=\"" + (error ? "error-row" : "warning-row") + "\">"
+                    + "<td>" + group.getSeverity() + "</td>"
+                    + "<td><code>" + escapeHtml(group.getMethod() + " " + group.getPath()) + "</code></td>"
+                    + "<td>" + escapeHtml(group.getRule()) + "</td>"
+                    + "<td><code>" + escapeHtml(group.getFieldPath() != null ? group.getFieldPath() : "-") + "</code></td>"
+                    + "<td>" + group.getCount() + "</td></tr>\n");
+        }
+
+        if (tableStarted) {
+            writeTableEnd(writer);
+        }
+    }
+
+    private void writeLatency(Writer writer, ValidationResult result) throws IOException {
+        if (result.getTimings().isEmpty()) {
+            return;
+        }
+
+        writer.write("        <h2>⏱ Latency (p50 / p99)</h2>\n");
+        writer.write("        <table>\n");
+        writer.write("            <thead>\n");
+        writer.write("                <tr><th>Endpoint</th><th>Samples</th>");
+        for (OperationTimings.Phase phase : OperationTimings.Phase.values()) {
+            writer.write("<th>" + phase.getLabel() + "</th>");
+        }
+        writer.write("<th>Max</th></tr>\n");
+        writer.write("            </thead>\n");
+        writer.write("            <tbody>\n");
+
+        for (OperationTimings timings : result.getTimings()) {
+            LatencyHistogram total = timings.get(OperationTimings.Phase.TOTAL);
+            writer.write("                <tr><td><code>" + escapeHtml(timings.getMethod() + " " + timings.getPath())
+                    + "</code></td><td>" + total.getCount() + "</td>");
+            for (OperationTimings.Phase phase : OperationTimings.Phase.values()) {
+                LatencyHistogram histogram = timings.get(phase);
+                writer.write("<td>" + (histogram.getCount() == 0 ? "-"
+                        : LatencyHistogram.formatMicros(histogram.getPercentileMicros(50)) + " / "
+                        + LatencyHistogram.formatMicros(histogram.getPercentileMicros(99))) + "</td>");
+            }
+            writer.write("<td>" + LatencyHistogram.formatMicros(total.getMaxMicros()) + "</td></tr>\n");
+        }
+
+        writeTableEnd(writer);
+    }
+
+    private void writePageLinks(Writer writer, Path indexPath, int pageCount) throws IOException {
+        writer.write("        <h2>📄 Issue Pages</h2>\n");
+        writer.write("        <p class=\"pages\">\n");
+        for (int page = 1; page <= pageCount; page++) {
+            writer.write("            <a href=\"" + escapeHtml(pagePath(indexPath, page).getFileName().toString())
+                    + "\">" + page + "</a>\n");
+        }
+        writer.write("        </p>\n");
+    }
+
+    private void writePassedBlock(Writer writer) throws IOException {
+        writer.write("        <div style=\"text-align: center; padding: 40px; background: #d4edda; border-radius: 5px;\">\n");
+        writer.write("            <h2 style=\"color: #155724;\">✅ All endpoints passed validation!</h2>\n");
+        writer.write("            <p style=\"color: #155724; font-size: 1.2em;\">No issues found</p>\n");
+        writer.write("        </div>\n");
+    }
+
+    private void writeFooter(Writer writer, ValidationResult result) throws IOException {
+        writer.write("        <div class=\"footer\">\n");
+        writer.write("            <p>Generated by <strong>API Contract Validator</strong> on "
+                + result.getFinishedAt().format(TIME_FORMATTER) + "</p>\n");
+        writer.write("        </div>\n");
+        writer.write("    </div>\n");
+        writer.write("</body>\n");
+        writer.write("</html>\n");
+    }
+
+    private void writeEscaped(Writer writer, String text) throws IOException {
+        if (text == null) return;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            String entity = switch (text.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#x27;";
+                default -> null;
+            };
+            if (entity != null) {
+                writer.write(text, start, i - start);
+                writer.write(entity);
+                start = i + 1;
+            }
+        }
+        writer.write(text, start, text.length() - start);
+    }
+
+    private String escapeHtml(String text) {
+        if (text == null) return "";
+        return text
+                .replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("'", "&#x27;");
+    }
+}
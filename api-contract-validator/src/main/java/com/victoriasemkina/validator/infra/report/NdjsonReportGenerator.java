@@ -0,0 +1,210 @@
+package com.victoriasemkina.validator.infra.report;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.victoriasemkina.validator.domain.model.IssueGroup;
+import com.victoriasemkina.validator.domain.model.LatencyHistogram;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ReportStream;
+import com.victoriasemkina.validator.domain.port.StreamingReportGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON Lines report: one {@code {"type":"issue",...}} record per issue, written as soon as
+ * it is produced, and a final {@code {"type":"summary",...}} record.
+ * <p>
+ * Records written since the last flush are flushed every {@value #FLUSH_INTERVAL_MILLIS} ms by
+ * a timer, so the file can be tailed live without a syscall per issue, also once issues stop.
+ */
+@Slf4j
+@Component
+public class NdjsonReportGenerator implements StreamingReportGenerator {
+
+    static final long FLUSH_INTERVAL_MILLIS = 200;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** Shared by all open reports; a flush is a few microseconds */
+    private static final ScheduledExecutorService FLUSH_TIMER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "ndjson-report-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @Override
+    public ReportStream open(String outputPath) throws IOException {
+        log.info("Streaming NDJSON report to: {}", outputPath);
+        return new NdjsonListener(Files.newBufferedWriter(Path.of(outputPath), StandardCharsets.UTF_8), outputPath);
+    }
+
+    @Override
+    public void generate(ValidationResult result, String outputPath) throws IOException {
+        try (ReportStream stream = open(outputPath)) {
+            for (ValidationIssue issue : result.getIssues()) {
+                stream.onIssue(issue);
+            }
+            stream.onFinish(result);
+        }
+    }
+
+    private static final class NdjsonListener implements ReportStream {
+
+        private final Writer writer;
+        private final JsonGenerator json;
+        private final String outputPath;
+        private final ScheduledFuture<?> flushTask;
+        private boolean dirty;
+        private boolean closed;
+
+        private NdjsonListener(Writer writer, String outputPath) throws IOException {
+            this.writer = writer;
+            this.json = JSON_FACTORY.createGenerator(writer);
+            this.outputPath = outputPath;
+            // One record per line instead of the default space separator
+            this.json.setRootValueSeparator(null);
+            this.flushTask = FLUSH_TIMER.scheduleWithFixedDelay(this::flushIfDirty,
+                    FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public synchronized void onIssue(ValidationIssue issue) {
+            if (closed) {
+                return;
+            }
+            try {
+                json.writeStartObject();
+                json.writeStringField("type", "issue");
+                json.writeStringField("severity", issue.getSeverity().name());
+                json.writeStringField("method", issue.getMethod());
+                json.writeStringField("path", issue.getPath());
+                json.writeStringField("description", issue.getDescription());
+                json.writeStringField("expected", issue.getExpected());
+                json.writeStringField("actual", issue.getActual());
+                json.writeStringField("rule", issue.getRule());
+                json.writeStringField("fieldPath", issue.getFieldPath());
+                json.writeEndObject();
+                endRecord();
+                dirty = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write NDJSON report: " + outputPath, e);
+            }
+        }
+
+        @Override
+        public synchronized void onFinish(ValidationResult result) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushTask.cancel(false);
+            try (writer; json) {
+                json.writeStartObject();
+                json.writeStringField("type", "summary");
+                json.writeStringField("baseUrl", result.getBaseUrl());
+                json.writeNumberField("totalEndpoints", result.getTotalEndpoints());
+                json.writeNumberField("totalIssues", result.getTotalIssues());
+                json.writeNumberField("errors", result.getErrorCount());
+                json.writeNumberField("warnings", result.getWarningCount());
+                json.writeStringField("startedAt", String.valueOf(result.getStartedAt()));
+                json.writeStringField("finishedAt", String.valueOf(result.getFinishedAt()));
+                json.writeNumberField("durationMillis", result.getDurationMillis());
+                writeGroups(result);
+                writeTimings(result);
+                json.writeEndObject();
+                endRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write NDJSON report: " + outputPath, e);
+            }
+            log.info("NDJSON report saved successfully: {}", outputPath);
+        }
+
+        private void writeGroups(ValidationResult result) throws IOException {
+            json.writeArrayFieldStart("groups");
+            for (IssueGroup group : result.getIssueGroups()) {
+                json.writeStartObject();
+                json.writeStringField("severity", group.getSeverity().name());
+                json.writeStringField("method", group.getMethod());
+                json.writeStringField("path", group.getPath());
+                json.writeStringField("rule", group.getRule());
+                json.writeStringField("fieldPath", group.getFieldPath());
+                json.writeNumberField("count", group.getCount());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+
+        /**
+         * Latency per operation and phase, in microseconds
+         */
+        private void writeTimings(ValidationResult result) throws IOException {
+            json.writeArrayFieldStart("timings");
+            for (OperationTimings timings : result.getTimings()) {
+                json.writeStartObject();
+                json.writeStringField("method", timings.getMethod());
+                json.writeStringField("path", timings.getPath());
+                for (OperationTimings.Phase phase : OperationTimings.Phase.values()) {
+                    LatencyHistogram histogram = timings.get(phase);
+                    if (histogram.getCount() == 0) {
+                        continue;
+                    }
+                    json.writeObjectFieldStart(phase.getLabel());
+                    json.writeNumberField("count", histogram.getCount());
+                    json.writeNumberField("p50", histogram.getPercentileMicros(50));
+                    json.writeNumberField("p99", histogram.getPercentileMicros(99));
+                    json.writeNumberField("max", histogram.getMaxMicros());
+                    json.writeEndObject();
+                }
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+
+        private synchronized void flushIfDirty() {
+            if (closed || !dirty) {
+                return;
+            }
+            try {
+                json.flush();
+                dirty = false;
+            } catch (IOException e) {
+                log.warn("Failed to flush NDJSON report {}: {}", outputPath, e.getMessage());
+            }
+        }
+
+        /**
+         * Ends a report whose run failed: the issues written so far are kept, the summary is missing
+         */
+        @Override
+        public synchronized void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushTask.cancel(false);
+            try (writer) {
+                json.close();
+            }
+            log.warn("NDJSON report closed without a summary: {}", outputPath);
+        }
+
+        private void endRecord() throws IOException {
+            json.writeRaw('\n');
+        }
+    }
+}
@@ -16,9 +16,11 @@ public class ReportGeneratorFactory {
 
     @Autowired
     public ReportGeneratorFactory(ConsoleReportGenerator consoleGenerator,
-                                  HtmlReportGenerator htmlGenerator) {
+                                  HtmlReportGenerator htmlGenerator,
+                                  NdjsonReportGenerator ndjsonGenerator) {
         generators.put("console", consoleGenerator);
         generators.put("html", htmlGenerator);
+        generators.put("ndjson", ndjsonGenerator);
     }
 
     /**
@@ -35,6 +37,11 @@ public class ReportGeneratorFactory {
             return generators.get("html");
         }
 
+        if (outputPath.toLowerCase().endsWith(".ndjson") || outputPath.toLowerCase().endsWith(".jsonl")) {
+            log.info("NDJSON output detected, using streaming JSON Lines report generator");
+            return generators.get("ndjson");
+        }
+
         log.info("Unknown output format, using console report");
         return generators.get("console");
     }
@@ -0,0 +1,167 @@
+package com.victoriasemkina.validator.infra.sampling;
+
+import com.victoriasemkina.validator.domain.model.RecordedExchange;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.service.ReplayValidatorService;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Validates a sample of live responses off the request path.
+ * <p>
+ * Callers ask {@link #sample()} whether to capture a response and hand the captured bytes to
+ * {@link #submit}, which only enqueues them: decoding, parsing and validation run on a small
+ * worker pool. The queue is bounded and never blocks — when it is full the sample is dropped
+ * and counted, so validation can fall behind but can never slow traffic down.
+ * <p>
+ * Violations are counted in the metrics registry; the first occurrence of each distinct
+ * violation is logged as a warning, repeats at debug level.
+ */
+@Slf4j
+public class AsyncSampleValidator implements AutoCloseable {
+
+    private final ReplayValidatorService replayService;
+    private final ValidatorMetrics metrics;
+    private final OperationRouter router;
+    private final double sampleRate;
+    private final int maxSampleBytes;
+    private final ExecutorService workers;
+    private final ValidationResult result = new ValidationResult();
+
+    /** Distinct violations already logged; bounded by operations x rules x normalized field paths */
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param sampleRate     share of responses to validate, 0 to 1
+     * @param workerThreads  validation threads
+     * @param queueCapacity  samples waiting for validation before new ones are dropped
+     * @param maxSampleBytes largest decoded body validated; a compressed body inflating past it is unreadable
+     */
+    public AsyncSampleValidator(ReplayValidatorService replayService, ValidatorMetrics metrics, OperationRouter router,
+                                double sampleRate, int workerThreads, int queueCapacity, int maxSampleBytes) {
+        this.replayService = replayService;
+        this.metrics = metrics;
+        this.router = router;
+        this.sampleRate = sampleRate;
+        this.maxSampleBytes = maxSampleBytes;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = metrics.monitor(new ThreadPoolExecutor(workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "sample-validator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy()), "sample-validators");
+
+        // Only grouped counts are kept, the process may run for weeks
+        result.setRetainIssues(false);
+        result.setMaxExamplesPerGroup(1);
+        result.addListener(metrics.issueListener());
+        result.addListener(this::report);
+    }
+
+    /**
+     * Decides whether the current response should be captured
+     */
+    public boolean sample() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * Queues a captured response for validation; never blocks
+     *
+     * @param contentEncoding {@code Content-Encoding} of the body ({@code gzip}, {@code deflate}) or null
+     * @return false when the sample was dropped because validation is behind
+     */
+    public boolean submit(String method, String path, int status, byte[] body, String contentEncoding) {
+        try {
+            workers.execute(() -> validate(method, path, status, body, contentEncoding));
+            metrics.recordSample(ValidatorMetrics.SAMPLE_QUEUED);
+            return true;
+        } catch (RejectedExecutionException e) {
+            metrics.recordSample(ValidatorMetrics.SAMPLE_DROPPED);
+            return false;
+        }
+    }
+
+    /**
+     * Violations found so far, grouped
+     */
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Stops accepting samples and waits briefly for the queued ones
+     */
+    @Override
+    public void close() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void validate(String method, String path, int status, byte[] body, String contentEncoding) {
+        String text;
+        try {
+            text = body != null ? decode(body, contentEncoding) : null;
+        } catch (IOException e) {
+            log.debug("Cannot decode {} body of {} {}: {}", contentEncoding, method, path, e.getMessage());
+            metrics.recordSample(ValidatorMetrics.SAMPLE_UNREADABLE);
+            return;
+        }
+        boolean matched = replayService.validateExchange(router, new RecordedExchange(method, path, status, text), result);
+        metrics.recordSample(matched ? ValidatorMetrics.SAMPLE_VALIDATED : ValidatorMetrics.SAMPLE_UNMATCHED);
+    }
+
+    private String decode(byte[] body, String contentEncoding) throws IOException {
+        if (contentEncoding == null || contentEncoding.isBlank() || "identity".equalsIgnoreCase(contentEncoding)) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        String encoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        InputStream in = switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(new ByteArrayInputStream(body));
+            case "deflate" -> new InflaterInputStream(new ByteArrayInputStream(body));
+            default -> throw new IOException("Unsupported content encoding: " + contentEncoding);
+        };
+        try (in) {
+            // The cap of the captured body says nothing about its size once inflated
+            byte[] decoded = in.readNBytes(maxSampleBytes + 1);
+            if (decoded.length > maxSampleBytes) {
+                throw new IOException("Decoded body exceeds " + maxSampleBytes + " bytes");
+            }
+            return new String(decoded, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void report(ValidationIssue issue) {
+        String key = issue.getMethod() + ' ' + issue.getPath() + ' ' + issue.getRule() + ' '
+                + (issue.getLocation() != null ? issue.getLocation().toNormalizedString() : "");
+        if (reported.add(key)) {
+            log.warn("⚠️ Contract violation in {} {}: {} (expected: {}, actual: {})",
+                    issue.getMethod(), issue.getPath(), issue.getDescription(), issue.getExpected(), issue.getActual());
+        } else {
+            log.debug("Contract violation in {} {}: {}", issue.getMethod(), issue.getPath(), issue.getDescription());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.victoriasemkina.validator.infra.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+@Slf4j
+@Component
+public class ArrayValidator implements SchemaValidator {
+
+    private final ObjectProvider<List<SchemaValidator>> validatorsProvider;
+
+    /** Resolved from the provider on first use and reused; resolving it is costly */
+    private volatile List<SchemaValidator> validators;
+
+    public ArrayValidator(ObjectProvider<List<SchemaValidator>> validatorsProvider) {
+        this.validatorsProvider = validatorsProvider;
+    }
+
+    @Override
+    public boolean supports(Schema<?> schema) {
+        return schema instanceof ArraySchema;
+    }
+
+    @Override
+    public List<ValidationIssue> validate(JsonNode node, Schema<?> schema, ValidationContext context) {
+        if (!node.isArray()) {
+            return List.of(context.issue(IssueCode.EXPECTED_ARRAY, node.getNodeType()));
+        }
+
+        ArraySchema arraySchema = (ArraySchema) schema;
+        Schema<?> itemsSchema = arraySchema.getItems();
+        if (itemsSchema == null) {
+            return List.of();
+        }
+
+        SchemaValidator itemValidator = findValidator(itemsSchema);
+        if (itemValidator == null) {
+            log.warn("No validator found for schema type: {}", itemsSchema.getType());
+            return List.of();
+        }
+
+        List<ValidationIssue> issues = null;
+        for (int i = 0; i < node.size(); i++) {
+            // Large arrays are where validation takes long: stop here once the operation is cancelled
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Validation cancelled at " + context.currentPath());
+            }
+            context.enterItem(i);
+            try {
+                List<ValidationIssue> itemIssues = itemValidator.validate(node.get(i), itemsSchema, context);
+                if (!itemIssues.isEmpty()) {
+                    if (issues == null) {
+                        issues = new ArrayList<>();
+                    }
+                    issues.addAll(itemIssues);
+                }
+            } finally {
+                context.leave();
+            }
+        }
+
+        return issues != null ? issues : List.of();
+    }
+
+    private SchemaValidator findValidator(Schema<?> itemsSchema) {
+        List<SchemaValidator> validators = validators();
+
+        // The items schema is the same for every element, so the validator is resolved once per array
+        for (SchemaValidator validator : validators) {
+            if (validator.supports(itemsSchema)) {
+                return validator;
+            }
+        }
+        return null;
+    }
+
+    private List<SchemaValidator> validators() {
+        // Получаем список валидаторов только при необходимости (лениво)
+        List<SchemaValidator> resolved = validators;
+        if (resolved == null) {
+            resolved = validatorsProvider.getObject();
+            validators = resolved;
+        }
+        return resolved;
+    }
+}
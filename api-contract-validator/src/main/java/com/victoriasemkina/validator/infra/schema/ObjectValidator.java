@@ -0,0 +1,128 @@
+package com.victoriasemkina.validator.infra.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+@Slf4j
+@Component
+public class ObjectValidator implements SchemaValidator {
+
+    private final ObjectProvider<List<SchemaValidator>> validatorsProvider;
+
+    /** Resolved from the provider on first use and reused; resolving it is costly */
+    private volatile List<SchemaValidator> validators;
+
+    public ObjectValidator(ObjectProvider<List<SchemaValidator>> validatorsProvider) {
+        this.validatorsProvider = validatorsProvider;
+    }
+
+    @Override
+    public boolean supports(Schema<?> schema) {
+        return schema instanceof ObjectSchema;
+    }
+
+    @Override
+    public List<ValidationIssue> validate(JsonNode node, Schema<?> schema, ValidationContext context) {
+        if (!node.isObject()) {
+            return List.of(context.issue(IssueCode.EXPECTED_OBJECT, node.getNodeType()));
+        }
+
+        // Deeply nested documents take long too: stop here once the operation is cancelled
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Validation cancelled at " + context.currentPath());
+        }
+        ObjectSchema objectSchema = (ObjectSchema) schema;
+
+        List<ValidationIssue> issues = new ArrayList<>(0);
+        validateRequiredFields(node, objectSchema, context, issues);
+        validateFieldTypes(node, objectSchema, context, issues);
+        checkUnexpectedFields(node, objectSchema, context, issues);
+
+        return issues;
+    }
+
+    private void validateRequiredFields(JsonNode node, ObjectSchema schema,
+                                        ValidationContext context, List<ValidationIssue> issues) {
+        List<String> required = schema.getRequired();
+        if (required != null) {
+            for (String fieldName : required) {
+                if (!node.has(fieldName)) {
+                    issues.add(context.issueAtField(IssueCode.MISSING_REQUIRED, fieldName, fieldName));
+                }
+            }
+        }
+    }
+
+    private void validateFieldTypes(JsonNode node, ObjectSchema schema,
+                                    ValidationContext context, List<ValidationIssue> issues) {
+        Map<String, Schema> properties = schema.getProperties();
+        if (properties != null) {
+            for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+                String fieldName = entry.getKey();
+                JsonNode fieldValue = node.get(fieldName);
+
+                if (fieldValue != null) {
+                    context.enterField(fieldName);
+                    try {
+                        issues.addAll(validateField(fieldValue, entry.getValue(), context));
+                    } finally {
+                        context.leave();
+                    }
+                }
+            }
+        }
+    }
+
+    private List<ValidationIssue> validateField(JsonNode node, Schema<?> schema,
+                                                ValidationContext context) {
+        List<SchemaValidator> validators = validators();
+
+        for (SchemaValidator validator : validators) {
+            if (validator.supports(schema)) {
+                return validator.validate(node, schema, context);
+            }
+        }
+
+        if (schema.getType() == null) {
+            log.debug("Schema type not specified for field: {}", context.getFieldPath());
+        }
+
+        return List.of();
+    }
+
+    private void checkUnexpectedFields(JsonNode node, ObjectSchema schema,
+                                       ValidationContext context, List<ValidationIssue> issues) {
+        Map<String, Schema> properties = schema.getProperties();
+        if (properties != null) {
+            Iterator<String> fieldNames = node.fieldNames();
+            while (fieldNames.hasNext()) {
+                String fieldName = fieldNames.next();
+                if (!properties.containsKey(fieldName)) {
+                    issues.add(context.issueAtField(IssueCode.UNEXPECTED_FIELD, fieldName));
+                }
+            }
+        }
+    }
+
+    private List<SchemaValidator> validators() {
+        // Получаем список валидаторов только при необходимости (лениво)
+        List<SchemaValidator> resolved = validators;
+        if (resolved == null) {
+            resolved = validatorsProvider.getObject();
+            validators = resolved;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,65 @@
+package com.victoriasemkina.validator.infra.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import io.swagger.v3.oas.models.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Validates primitive types: string, integer, number, boolean
+ */
+@Slf4j
+@Component
+public class PrimitiveValidator implements SchemaValidator {
+
+    @Override
+    public boolean supports(Schema<?> schema) {
+        if (schema == null || schema.getType() == null) {
+            return false;
+        }
+
+        String type = schema.getType();
+        return "string".equals(type) || "integer".equals(type) ||
+                "number".equals(type) || "boolean".equals(type);
+    }
+
+    @Override
+    public List<ValidationIssue> validate(JsonNode node, Schema<?> schema, ValidationContext context) {
+        if (node == null || node.isNull()) {
+            if (Boolean.TRUE.equals(schema.getNullable())) {
+                return List.of(); // Nullable field is allowed to be null
+            }
+            return List.of(context.issue(IssueCode.NOT_NULLABLE));
+        }
+
+        String expectedType = schema.getType();
+        boolean typeMismatch;
+
+        switch (expectedType) {
+            case "string":
+                typeMismatch = !node.isTextual();
+                break;
+            case "integer":
+                typeMismatch = !node.isInt() && !node.isLong();
+                break;
+            case "number":
+                typeMismatch = !node.isNumber();
+                break;
+            case "boolean":
+                typeMismatch = !node.isBoolean();
+                break;
+            default:
+                typeMismatch = false;
+        }
+
+        if (typeMismatch) {
+            return List.of(context.issue(IssueCode.TYPE_MISMATCH, expectedType, node.getNodeType()));
+        }
+
+        return List.of();
+    }
+}
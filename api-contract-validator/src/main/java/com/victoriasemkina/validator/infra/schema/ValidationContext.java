@@ -0,0 +1,130 @@
+package com.victoriasemkina.validator.infra.schema;
+
+import com.victoriasemkina.validator.domain.model.FieldPath;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+
+import java.util.Arrays;
+
+/**
+ * Context object passed through validation chain
+ * Contains information about current validation state
+ * <p>
+ * The current JSON path is kept as a mutable segment stack: descending into a field or
+ * array item and back allocates nothing, and an immutable {@link FieldPath} is built only
+ * when an issue is reported. A context belongs to a single validation run and is not thread-safe.
+ */
+public class ValidationContext {
+
+    private static final int NOT_AN_INDEX = -1;
+
+    /** Path the stack is relative to (e.g., "$") */
+    private FieldPath root;
+
+    /** API endpoint path (e.g., "/users") */
+    private String endpointPath;
+
+    /** HTTP method (e.g., "GET") */
+    private String httpMethod;
+
+    private String[] names = new String[16];
+    private long[] indices = new long[16];
+    private int depth;
+
+    public ValidationContext() {
+        this(null, null, null);
+    }
+
+    public ValidationContext(String fieldPath, String endpointPath, String httpMethod) {
+        this.root = FieldPath.root(fieldPath);
+        this.endpointPath = endpointPath != null ? endpointPath.intern() : null;
+        this.httpMethod = httpMethod != null ? httpMethod.intern() : null;
+    }
+
+    /** Current JSON path (e.g., "$.users[0].name") */
+    public String getFieldPath() {
+        return currentPath().toString();
+    }
+
+    public String getEndpointPath() {
+        return endpointPath;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public ValidationContext withFieldPath(String fieldPath) {
+        this.root = FieldPath.root(fieldPath);
+        this.depth = 0;
+        return this;
+    }
+
+    public ValidationContext withEndpointPath(String endpointPath) {
+        this.endpointPath = endpointPath != null ? endpointPath.intern() : null;
+        return this;
+    }
+
+    public ValidationContext withHttpMethod(String httpMethod) {
+        this.httpMethod = httpMethod != null ? httpMethod.intern() : null;
+        return this;
+    }
+
+    /**
+     * Descends into an object property; must be paired with {@link #leave()}
+     */
+    public void enterField(String name) {
+        push(name, NOT_AN_INDEX);
+    }
+
+    /**
+     * Descends into an array item; must be paired with {@link #leave()}
+     */
+    public void enterItem(long index) {
+        push(null, index);
+    }
+
+    public void leave() {
+        depth--;
+        names[depth] = null;
+    }
+
+    /**
+     * Snapshot of the current location
+     */
+    public FieldPath currentPath() {
+        FieldPath path = root;
+        for (int i = 0; i < depth; i++) {
+            path = names[i] != null ? path.property(names[i]) : path.item(indices[i]);
+        }
+        return path;
+    }
+
+    /**
+     * Creates an issue located at the current path
+     */
+    public ValidationIssue issue(IssueCode code, Object... args) {
+        return ValidationIssue.of(code, method(), endpointPath, currentPath(), args);
+    }
+
+    /**
+     * Creates an issue located at a property of the current value (e.g. a missing field)
+     */
+    public ValidationIssue issueAtField(IssueCode code, String fieldName, Object... args) {
+        return ValidationIssue.of(code, method(), endpointPath, currentPath().property(fieldName), args);
+    }
+
+    private String method() {
+        return httpMethod != null ? httpMethod : "GET";
+    }
+
+    private void push(String name, long index) {
+        if (depth == names.length) {
+            names = Arrays.copyOf(names, depth * 2);
+            indices = Arrays.copyOf(indices, depth * 2);
+        }
+        names[depth] = name;
+        indices[depth] = index;
+        depth++;
+    }
+}
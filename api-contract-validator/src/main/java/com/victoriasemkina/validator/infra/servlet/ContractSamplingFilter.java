@@ -0,0 +1,115 @@
+package com.victoriasemkina.validator.infra.servlet;
+
+import com.victoriasemkina.validator.infra.sampling.AsyncSampleValidator;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter that checks a sample of the application's own responses against its
+ * specification.
+ * <p>
+ * Requests that are not sampled pass through untouched. For sampled ones the response is
+ * wrapped so its body is copied while written, and the copy is handed to an
+ * {@link AsyncSampleValidator} once the response is complete — after the chain returns, or on
+ * completion of an asynchronous request. Validation never runs on the request thread, and
+ * samples are dropped when the validator falls behind.
+ * <p>
+ * Paths are matched without the servlet context path.
+ */
+@Slf4j
+public class ContractSamplingFilter implements Filter {
+
+    private final AsyncSampleValidator sampler;
+    private final int maxSampleBytes;
+
+    /**
+     * @param maxSampleBytes larger responses are not validated
+     */
+    public ContractSamplingFilter(AsyncSampleValidator sampler, int maxSampleBytes) {
+        this.sampler = sampler;
+        this.maxSampleBytes = maxSampleBytes;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest httpRequest)
+                || !(response instanceof HttpServletResponse httpResponse)
+                || request.getDispatcherType() != DispatcherType.REQUEST
+                || !sampler.sample()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        SamplingResponseWrapper wrapper = new SamplingResponseWrapper(httpResponse, maxSampleBytes);
+        chain.doFilter(request, wrapper);
+
+        if (httpRequest.isAsyncStarted()) {
+            httpRequest.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    submit(httpRequest, wrapper);
+                }
+
+                // Timeouts and errors still end with onComplete
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        } else {
+            submit(httpRequest, wrapper);
+        }
+    }
+
+    /**
+     * Waits briefly for queued samples; the validator is owned by the filter
+     */
+    @Override
+    public void destroy() {
+        try {
+            sampler.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(HttpServletRequest request, SamplingResponseWrapper response) {
+        if (!response.isComplete()) {
+            log.debug("Response of {} {} exceeds {} bytes, not validated",
+                    request.getMethod(), request.getRequestURI(), maxSampleBytes);
+            return;
+        }
+        int status = response.getStatus();
+        boolean bodiless = "HEAD".equalsIgnoreCase(request.getMethod()) || status == 204 || status == 304;
+        String encoding = response.isWrittenAsText() ? null : response.getHeader("Content-Encoding");
+        sampler.submit(request.getMethod(), pathOf(request), status, bodiless ? null : response.body(), encoding);
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && path.startsWith(contextPath)) {
+            path = path.substring(contextPath.length());
+        }
+        return request.getQueryString() != null ? path + '?' + request.getQueryString() : path;
+    }
+}
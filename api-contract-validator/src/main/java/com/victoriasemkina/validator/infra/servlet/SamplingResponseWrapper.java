@@ -0,0 +1,214 @@
+package com.victoriasemkina.validator.infra.servlet;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Copies the body of a sampled response while it is written.
+ * <p>
+ * Unlike a caching wrapper, nothing is held back: every write goes straight to the container,
+ * the copy is a side effect. Bytes written through the output stream and characters written
+ * through the writer are copied as they are; the copy is abandoned once it exceeds the limit.
+ */
+class SamplingResponseWrapper extends HttpServletResponseWrapper {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int maxBytes;
+    private ByteArrayOutputStream bytes;
+    private CharArrayWriter chars;
+    private boolean truncated;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    SamplingResponseWrapper(HttpServletResponse response, int maxBytes) {
+        super(response);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new TeeWriter(super.getWriter());
+        }
+        return writer;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        discard();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        discard();
+    }
+
+    /**
+     * Whether the whole body fits the limit
+     */
+    boolean isComplete() {
+        return !truncated;
+    }
+
+    /**
+     * Copy of the body written so far, UTF-8 when written as characters; empty when nothing was written
+     */
+    byte[] body() {
+        if (chars != null) {
+            return chars.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes != null ? bytes.toByteArray() : new byte[0];
+    }
+
+    /**
+     * Whether the body was written as characters, so any content encoding of the response was
+     * applied after the copy
+     */
+    boolean isWrittenAsText() {
+        return chars != null;
+    }
+
+    private void discard() {
+        bytes = null;
+        chars = null;
+        truncated = false;
+    }
+
+    /**
+     * Makes room for the next bytes of the copy
+     *
+     * @return false once the copy has been abandoned
+     */
+    private boolean reserveBytes(int length) {
+        if (truncated) {
+            return false;
+        }
+        if (bytes == null) {
+            bytes = new ByteArrayOutputStream(Math.min(maxBytes, INITIAL_CAPACITY));
+        }
+        if (bytes.size() + length > maxBytes) {
+            truncated = true;
+            bytes = null;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@link #reserveBytes} for characters; characters are counted, not encoded bytes,
+     * which is close enough for a sampling limit
+     */
+    private boolean reserveChars(int length) {
+        if (truncated) {
+            return false;
+        }
+        if (chars == null) {
+            chars = new CharArrayWriter(Math.min(maxBytes, INITIAL_CAPACITY));
+        }
+        if (chars.size() + length > maxBytes) {
+            truncated = true;
+            chars = null;
+            return false;
+        }
+        return true;
+    }
+
+    private final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (reserveBytes(1)) {
+                bytes.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            delegate.write(buffer, offset, length);
+            if (reserveBytes(length)) {
+                bytes.write(buffer, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+
+    /**
+     * PrintWriter funnels every print and append through these three methods
+     */
+    private final class TeeWriter extends PrintWriter {
+
+        TeeWriter(PrintWriter delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void write(int c) {
+            super.write(c);
+            if (reserveChars(1)) {
+                chars.write(c);
+            }
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            super.write(buffer, offset, length);
+            if (reserveChars(length)) {
+                chars.write(buffer, offset, length);
+            }
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            super.write(text, offset, length);
+            if (reserveChars(length)) {
+                chars.write(text, offset, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.victoriasemkina.validator.infra.store;
+
+import com.victoriasemkina.validator.domain.model.InMemoryIssueStore;
+import com.victoriasemkina.validator.domain.port.IssueStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Creates issue stores: in-heap by default, memory-mapped spill files for very large runs.
+ */
+@Component
+public class IssueStoreFactory {
+
+    /** Largest segment a single mapping can hold: 2 GB - 1 MB, as a buffer is indexed by int */
+    static final int MAX_SEGMENT_SIZE_MB = Integer.MAX_VALUE / (1024 * 1024);
+
+    private final String spillDir;
+    private final int segmentSize;
+
+    public IssueStoreFactory(
+            @Value("${validator.issues.spill-dir:}") String spillDir,
+            @Value("${validator.issues.segment-size-mb:64}") int segmentSizeMb) {
+        if (segmentSizeMb < 1 || segmentSizeMb > MAX_SEGMENT_SIZE_MB) {
+            throw new IllegalArgumentException("validator.issues.segment-size-mb must be between 1 and "
+                    + MAX_SEGMENT_SIZE_MB + ", got " + segmentSizeMb);
+        }
+        this.spillDir = spillDir;
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+    }
+
+    public IssueStore create(boolean spill) throws IOException {
+        if (!spill) {
+            return new InMemoryIssueStore();
+        }
+        Path directory = StringUtils.hasText(spillDir)
+                ? Files.createDirectories(Path.of(spillDir))
+                : Path.of(System.getProperty("java.io.tmpdir"));
+        return new MappedIssueStore(directory, segmentSize);
+    }
+}
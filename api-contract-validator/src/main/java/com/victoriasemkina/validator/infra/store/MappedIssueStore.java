@@ -0,0 +1,324 @@
+package com.victoriasemkina.validator.infra.store;
+
+import com.victoriasemkina.validator.domain.model.FieldPath;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.port.IssueStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Spill-to-disk issue store: issues are encoded compactly and appended to a memory-mapped
+ * temporary file, so retained issues live in the page cache instead of the Java heap.
+ * <p>
+ * The file is mapped in fixed-size segments; a record never spans two segments.
+ * Method and endpoint strings are kept once in a small in-heap table and referenced by id.
+ * Arguments are stored as their text, which is all the message templates need.
+ * Iteration decodes records sequentially.
+ */
+@Slf4j
+public class MappedIssueStore implements IssueStore {
+
+    private static final ValidationIssue.Severity[] SEVERITIES = ValidationIssue.Severity.values();
+    private static final IssueCode[] CODES = IssueCode.values();
+
+    private static final byte SEGMENT_ROOT = 0;
+    private static final byte SEGMENT_PROPERTY = 1;
+    private static final byte SEGMENT_ITEM = 2;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int segmentSize;
+
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final List<Integer> segmentLimits = new ArrayList<>();
+    private MappedByteBuffer current;
+    private long mappedBytes;
+
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    /** Reusable encoding buffer; grows for oversized records */
+    private ByteBuffer scratch = ByteBuffer.allocate(4096);
+
+    private int size;
+
+    public MappedIssueStore(Path directory, int segmentSize) throws IOException {
+        this.segmentSize = segmentSize;
+        this.file = Files.createTempFile(directory, "validator-issues-", ".bin");
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        log.info("Spilling issues to memory-mapped file: {}", file);
+    }
+
+    @Override
+    public synchronized void add(ValidationIssue issue) {
+        ByteBuffer record = encode(issue);
+        if (current == null || current.remaining() < record.remaining()) {
+            mapNextSegment(record.remaining());
+        }
+        current.put(record);
+        size++;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized Iterator<ValidationIssue> iterator() {
+        List<ByteBuffer> views = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            int limit = segments.get(i) == current ? current.position() : segmentLimits.get(i);
+            ByteBuffer view = segments.get(i).duplicate();
+            view.position(0).limit(limit);
+            views.add(view);
+        }
+        List<String> stringTable = List.copyOf(strings);
+        int count = size;
+
+        return new Iterator<>() {
+            private int segment;
+            private int returned;
+
+            @Override
+            public boolean hasNext() {
+                return returned < count;
+            }
+
+            @Override
+            public ValidationIssue next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (!views.get(segment).hasRemaining()) {
+                    segment++;
+                }
+                returned++;
+                return decode(views.get(segment), stringTable);
+            }
+        };
+    }
+
+    @Override
+    public synchronized void close() {
+        segments.clear();
+        current = null;
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to remove issue spill file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void mapNextSegment(int minSize) {
+        if (current != null) {
+            segmentLimits.set(segmentLimits.size() - 1, current.position());
+        }
+        int length = Math.max(segmentSize, minSize);
+        try {
+            current = channel.map(FileChannel.MapMode.READ_WRITE, mappedBytes, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map issue spill file: " + file, e);
+        }
+        mappedBytes += length;
+        segments.add(current);
+        segmentLimits.add(0);
+    }
+
+    // ---- encoding ----
+
+    private ByteBuffer encode(ValidationIssue issue) {
+        while (true) {
+            scratch.clear();
+            try {
+                scratch.put((byte) issue.getSeverity().ordinal());
+                scratch.put((byte) (issue.getCode() != null ? issue.getCode().ordinal() + 1 : 0));
+                putVarInt(stringId(issue.getMethod()) + 1);
+                putVarInt(stringId(issue.getPath()) + 1);
+                putLocation(issue.getLocation());
+
+                Object[] args = issue.getArgs();
+                putVarInt(args != null ? args.length : 0);
+                if (args != null) {
+                    for (Object arg : args) {
+                        putString(arg != null ? String.valueOf(arg) : null);
+                    }
+                }
+
+                // Explicit texts only; code-based texts are rendered again after decoding
+                putString(rawText(issue, issue.getDescription()));
+                putString(rawText(issue, issue.getExpected()));
+                putString(rawText(issue, issue.getActual()));
+
+                scratch.flip();
+                return scratch;
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+    }
+
+    private String rawText(ValidationIssue issue, String rendered) {
+        return issue.getCode() == null ? rendered : null;
+    }
+
+    private int stringId(String value) {
+        if (value == null) {
+            return -1;
+        }
+        Integer id = stringIds.get(value);
+        if (id == null) {
+            id = strings.size();
+            strings.add(value);
+            stringIds.put(value, id);
+        }
+        return id;
+    }
+
+    private void putLocation(FieldPath location) {
+        if (location == null) {
+            putVarInt(0);
+            return;
+        }
+
+        int depth = 0;
+        for (FieldPath p = location; p != null; p = p.getParent()) {
+            depth++;
+        }
+        FieldPath[] chain = new FieldPath[depth];
+        int i = depth;
+        for (FieldPath p = location; p != null; p = p.getParent()) {
+            chain[--i] = p;
+        }
+
+        putVarInt(depth);
+        for (FieldPath segment : chain) {
+            if (segment.getParent() == null) {
+                scratch.put(SEGMENT_ROOT);
+                putString(segment.getName());
+            } else if (segment.getName() != null) {
+                scratch.put(SEGMENT_PROPERTY);
+                putString(segment.getName());
+            } else {
+                scratch.put(SEGMENT_ITEM);
+                putVarLong(segment.getIndex());
+            }
+        }
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            putVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarInt(bytes.length + 1);
+        scratch.put(bytes);
+    }
+
+    private void putVarInt(int value) {
+        putVarLong(value & 0xFFFFFFFFL);
+    }
+
+    private void putVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            scratch.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        scratch.put((byte) value);
+    }
+
+    // ---- decoding ----
+
+    private static ValidationIssue decode(ByteBuffer buffer, List<String> stringTable) {
+        try {
+            ValidationIssue.Severity severity = SEVERITIES[buffer.get()];
+            int codeIndex = buffer.get();
+            IssueCode code = codeIndex > 0 ? CODES[codeIndex - 1] : null;
+            String method = lookup(stringTable, getVarInt(buffer) - 1);
+            String path = lookup(stringTable, getVarInt(buffer) - 1);
+            FieldPath location = getLocation(buffer);
+
+            int argCount = getVarInt(buffer);
+            Object[] args = argCount > 0 ? new Object[argCount] : null;
+            for (int i = 0; i < argCount; i++) {
+                args[i] = getString(buffer);
+            }
+
+            String description = getString(buffer);
+            String expected = getString(buffer);
+            String actual = getString(buffer);
+
+            return new ValidationIssue(method, path, severity, description, expected, actual,
+                    code, location, args);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException("Corrupted issue spill file", e);
+        }
+    }
+
+    private static String lookup(List<String> stringTable, int id) {
+        return id >= 0 ? stringTable.get(id) : null;
+    }
+
+    private static FieldPath getLocation(ByteBuffer buffer) {
+        int depth = getVarInt(buffer);
+        FieldPath location = null;
+        for (int i = 0; i < depth; i++) {
+            byte kind = buffer.get();
+            if (kind == SEGMENT_ROOT) {
+                location = FieldPath.root(getString(buffer));
+            } else if (kind == SEGMENT_PROPERTY) {
+                location = location.property(getString(buffer));
+            } else {
+                location = location.item(getVarLong(buffer));
+            }
+        }
+        return location;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = getVarInt(buffer) - 1;
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int getVarInt(ByteBuffer buffer) {
+        return (int) getVarLong(buffer);
+    }
+
+    private static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.victoriasemkina.validator.cli.progress;
+
+import com.victoriasemkina.validator.domain.model.RunProgress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProgressDashboard unit tests")
+class ProgressDashboardTest {
+
+    @Test
+    @DisplayName("should format counts, rates, percentiles and ETA")
+    void shouldFormatProgress() {
+        // given: 5 of 10 endpoints in 4 seconds
+        RunProgress progress = new RunProgress();
+        progress.setTotalEndpoints(10);
+        for (int i = 0; i < 5; i++) {
+            progress.endpointCompleted();
+        }
+        progress.requestCompleted(4096, TimeUnit.MILLISECONDS.toNanos(2));
+        progress.requestCompleted(4096, TimeUnit.MILLISECONDS.toNanos(2));
+        progress.requestCompleted(8192, TimeUnit.MILLISECONDS.toNanos(100));
+
+        // when
+        String line = ProgressDashboard.format(progress, TimeUnit.SECONDS.toNanos(4));
+
+        // then
+        assertThat(line).isEqualTo("5/10 endpoints | 0.8 req/s | 4.0 KB/s | p50 2.0 ms | p99 100.0 ms | ETA 00:04");
+    }
+
+    @Test
+    @DisplayName("should not estimate before the first endpoint completes")
+    void shouldFormatNoCompletedEndpoints() {
+        // given
+        RunProgress progress = new RunProgress();
+        progress.setTotalEndpoints(10);
+
+        // when
+        String line = ProgressDashboard.format(progress, TimeUnit.SECONDS.toNanos(1));
+
+        // then
+        assertThat(line).isEqualTo("0/10 endpoints | 0.0 req/s | 0 B/s | p50 - | p99 - | ETA --:--");
+    }
+
+    @Test
+    @DisplayName("should mark the total as unknown until the specification is read")
+    void shouldFormatUnknownTotal() {
+        // given
+        RunProgress progress = new RunProgress();
+        progress.endpointCompleted();
+
+        // when
+        String line = ProgressDashboard.format(progress, TimeUnit.SECONDS.toNanos(1));
+
+        // then
+        assertThat(line).startsWith("1/? endpoints").endsWith("ETA --:--");
+    }
+
+    @Test
+    @DisplayName("should format ETA in minutes and seconds")
+    void shouldFormatEta() {
+        // when / then
+        assertThat(ProgressDashboard.formatEta(1, 100, 2.0)).isEqualTo("03:18");
+        assertThat(ProgressDashboard.formatEta(100, 100, 60.0)).isEqualTo("00:00");
+        assertThat(ProgressDashboard.formatEta(0, 100, 60.0)).isEqualTo("--:--");
+    }
+
+    @Test
+    @DisplayName("should format byte rates in B, KB and MB")
+    void shouldFormatBytes() {
+        // when / then
+        assertThat(ProgressDashboard.formatBytes(512)).isEqualTo("512 B");
+        assertThat(ProgressDashboard.formatBytes(1536)).isEqualTo("1.5 KB");
+        assertThat(ProgressDashboard.formatBytes(3 * 1024 * 1024)).isEqualTo("3.0 MB");
+    }
+}
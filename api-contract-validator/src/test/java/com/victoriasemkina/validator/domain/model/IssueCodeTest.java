@@ -0,0 +1,67 @@
+package com.victoriasemkina.validator.domain.model;
+
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IssueCode rendering unit tests")
+class IssueCodeTest {
+
+    @Test
+    @DisplayName("should render texts from code, location and arguments")
+    void shouldRenderTextsFromCodeLocationAndArguments() {
+        // given
+        FieldPath location = FieldPath.ROOT.property("users").item(3).property("email");
+
+        // when
+        ValidationIssue issue = ValidationIssue.of(IssueCode.MISSING_REQUIRED, "GET", "/users", location, "email");
+
+        // then
+        assertThat(issue.getSeverity()).isEqualTo(ValidationIssue.Severity.ERROR);
+        assertThat(issue.getDescription()).isEqualTo("Missing required field: email at $.users[3]");
+        assertThat(issue.getExpected()).isEqualTo("Field 'email' must be present");
+        assertThat(issue.getActual()).isEqualTo("Field is missing");
+        assertThat(issue.getRule()).isEqualTo("required");
+        assertThat(issue.getFieldPath()).isEqualTo("$.users[3].email");
+    }
+
+    @Test
+    @DisplayName("should render typed arguments")
+    void shouldRenderTypedArguments() {
+        // when
+        ValidationIssue issue = ValidationIssue.of(IssueCode.TYPE_MISMATCH, "GET", "/users",
+                FieldPath.ROOT.property("id"), "integer", JsonNodeType.STRING);
+
+        // then
+        assertThat(issue.getDescription()).isEqualTo("Type mismatch at $.id");
+        assertThat(issue.getExpected()).isEqualTo("Expected type: integer");
+        assertThat(issue.getActual()).isEqualTo("Actual type: STRING");
+    }
+
+    @Test
+    @DisplayName("should prefer explicitly set texts")
+    void shouldPreferExplicitlySetTexts() {
+        // given
+        ValidationIssue issue = ValidationIssue.of(IssueCode.EMPTY_BODY, "GET", "/users", null);
+
+        // when
+        issue.setDescription("Custom");
+
+        // then
+        assertThat(issue.getDescription()).isEqualTo("Custom");
+        assertThat(issue.getExpected()).isEqualTo("Valid JSON object/array");
+    }
+
+    @Test
+    @DisplayName("should normalize array indices in field path")
+    void shouldNormalizeArrayIndicesInFieldPath() {
+        // given
+        FieldPath path = FieldPath.root("$").property("users").item(12).property("tags").item(0);
+
+        // then
+        assertThat(path.toString()).isEqualTo("$.users[12].tags[0]");
+        assertThat(path.toNormalizedString()).isEqualTo("$.users[*].tags[*]");
+    }
+}
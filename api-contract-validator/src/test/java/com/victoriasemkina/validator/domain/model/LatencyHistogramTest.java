@@ -0,0 +1,73 @@
+package com.victoriasemkina.validator.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencyHistogram unit tests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("should report percentiles within bucket precision")
+    void shouldReportPercentilesWithinBucketPrecision() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.recordMicros(i * 100L);
+        }
+
+        // then
+        assertThat(histogram.getCount()).isEqualTo(10_000);
+        assertThat(histogram.getMaxMicros()).isEqualTo(1_000_000);
+        assertThat((double) histogram.getPercentileMicros(50)).isCloseTo(500_000, within(500_000 * 0.07));
+        assertThat((double) histogram.getPercentileMicros(99)).isCloseTo(990_000, within(990_000 * 0.07));
+        assertThat(histogram.getPercentileMicros(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    @DisplayName("should count concurrent samples without losing any")
+    void shouldCountConcurrentSamples() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        IntStream.range(0, 100_000).parallel().forEach(i -> histogram.recordMicros(i % 1000));
+
+        // then
+        assertThat(histogram.getCount()).isEqualTo(100_000);
+        assertThat(histogram.getMaxMicros()).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("should merge another histogram")
+    void shouldMergeAnotherHistogram() {
+        // given
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.recordMicros(10);
+        second.recordMicros(5_000);
+
+        // when
+        first.add(second);
+
+        // then
+        assertThat(first.getCount()).isEqualTo(2);
+        assertThat(first.getMaxMicros()).isEqualTo(5_000);
+        assertThat(first.getPercentileMicros(50)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("should return zero for an empty histogram")
+    void shouldReturnZeroForEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getPercentileMicros(99)).isZero();
+        assertThat(histogram.getMeanMicros()).isZero();
+    }
+}
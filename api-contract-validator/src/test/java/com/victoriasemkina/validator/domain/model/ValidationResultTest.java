@@ -0,0 +1,88 @@
+package com.victoriasemkina.validator.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ValidationResult unit tests")
+class ValidationResultTest {
+
+    @Test
+    @DisplayName("should group identical issues and keep bounded examples")
+    void shouldGroupIdenticalIssuesAndKeepBoundedExamples() {
+        // given
+        ValidationResult result = new ValidationResult();
+        result.setMaxExamplesPerGroup(2);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            result.addIssue(missingEmail(i));
+        }
+
+        // then
+        assertThat(result.getTotalIssues()).isEqualTo(1000);
+        assertThat(result.getIssues()).hasSize(2);
+        assertThat(result.getIssueGroups()).singleElement().satisfies(group -> {
+            assertThat(group.getCount()).isEqualTo(1000);
+            assertThat(group.getFieldPath()).isEqualTo("$[*].email");
+            assertThat(group.getExamples()).hasSize(2);
+        });
+    }
+
+    @Test
+    @DisplayName("should keep every issue when examples are unlimited")
+    void shouldKeepEveryIssueWhenExamplesAreUnlimited() {
+        // given
+        ValidationResult result = new ValidationResult();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            result.addIssue(missingEmail(i));
+        }
+
+        // then
+        assertThat(result.getIssues()).hasSize(10);
+        assertThat(result.getIssueGroups()).singleElement()
+                .satisfies(group -> assertThat(group.getCount()).isEqualTo(10));
+    }
+
+    @Test
+    @DisplayName("should count issues per severity")
+    void shouldCountIssuesPerSeverity() {
+        // given
+        ValidationResult result = new ValidationResult();
+
+        // when
+        result.addIssue(missingEmail(0));
+        result.addIssue(ValidationIssue.of(IssueCode.UNEXPECTED_FIELD, "GET", "/users",
+                FieldPath.ROOT.item(0).property("age")));
+
+        // then
+        assertThat(result.getErrorCount()).isEqualTo(1);
+        assertThat(result.getWarningCount()).isEqualTo(1);
+        assertThat(result.hasErrors()).isTrue();
+        assertThat(result.getIssueGroups()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should keep distinct free-text issues in separate groups")
+    void shouldKeepDistinctFreeTextIssuesInSeparateGroups() {
+        // given
+        ValidationResult result = new ValidationResult();
+        result.setMaxExamplesPerGroup(1);
+
+        // when
+        result.addIssue(new ValidationIssue("GET", "/users", ValidationIssue.Severity.ERROR, "First", null, null));
+        result.addIssue(new ValidationIssue("GET", "/users", ValidationIssue.Severity.ERROR, "Second", null, null));
+
+        // then
+        assertThat(result.getIssues()).hasSize(2);
+        assertThat(result.getIssueGroups()).hasSize(2);
+    }
+
+    private ValidationIssue missingEmail(int index) {
+        return ValidationIssue.of(IssueCode.MISSING_REQUIRED, "GET", "/users",
+                FieldPath.ROOT.item(index).property("email"), "email");
+    }
+}
@@ -0,0 +1,110 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.victoriasemkina.validator.domain.model.MonitorTarget;
+import com.victoriasemkina.validator.domain.model.ValidationJob;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ContractMonitorService unit tests")
+class ContractMonitorServiceTest {
+
+    private final ValidationJobService jobService = mock(ValidationJobService.class);
+    private final ContractMonitorService service = new ContractMonitorService(jobService,
+            new ValidatorMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    @DisplayName("should repeat the cycles of a target on its interval until stopped")
+    void shouldRepeatCyclesUntilStopped() throws Exception {
+        // given
+        AtomicInteger cycles = new AtomicInteger();
+        CountDownLatch twoCycles = new CountDownLatch(2);
+        when(jobService.run(any(ValidationJob.class), any(ValidationResult.class))).thenAnswer(invocation -> {
+            cycles.incrementAndGet();
+            twoCycles.countDown();
+            return invocation.getArgument(1);
+        });
+        Thread monitor = new Thread(() -> {
+            try {
+                service.run(List.of(target("users", 1)), 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        monitor.start();
+        boolean repeated = twoCycles.await(5, TimeUnit.SECONDS);
+        service.stop();
+        monitor.join(TimeUnit.SECONDS.toMillis(5));
+        int cyclesAtStop = cycles.get();
+        Thread.sleep(1500);
+
+        // then
+        assertThat(repeated).isTrue();
+        assertThat(monitor.isAlive()).isFalse();
+        assertThat(cycles).hasValue(cyclesAtStop);
+    }
+
+    @Test
+    @DisplayName("should not start when stopped before running")
+    void shouldNotStartWhenStoppedFirst() throws Exception {
+        // given
+        service.stop();
+
+        // when
+        service.run(List.of(target("users", 1)), 1);
+        Thread.sleep(1200);
+
+        // then
+        verify(jobService, never()).run(any(ValidationJob.class), any(ValidationResult.class));
+    }
+
+    @Test
+    @DisplayName("should reject targets sharing a name")
+    void shouldRejectDuplicateNames() {
+        // given
+        MonitorTarget first = target("users", 60);
+        MonitorTarget second = target("users", 60);
+        second.setBaseUrl("http://staging");
+
+        // when / then
+        assertThatThrownBy(() -> service.run(List.of(first, second), 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate target name: users");
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive interval")
+    void shouldRejectNonPositiveInterval() {
+        // when / then
+        assertThatThrownBy(() -> service.run(List.of(target("users", 0)), 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Interval must be positive");
+    }
+
+    private static MonitorTarget target(String name, long intervalSeconds) {
+        MonitorTarget target = new MonitorTarget();
+        target.setName(name);
+        target.setSpec("users.yaml");
+        target.setBaseUrl("http://api");
+        target.setIntervalSeconds(intervalSeconds);
+        target.setJitterPercent(0);
+        return target;
+    }
+}
@@ -0,0 +1,224 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.domain.model.FieldPath;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.infra.http.TimedClientHttpRequestFactory;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ContractValidatorService unit tests")
+class ContractValidatorServiceTest {
+
+    private static final int ENDPOINTS = 200;
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final ResponseValidatorService responseValidator = mock(ResponseValidatorService.class);
+    private final ValidatorMetrics metrics = new ValidatorMetrics(new SimpleMeterRegistry());
+    private final ContractValidatorService service = new ContractValidatorService(
+            restTemplate, responseValidator, new StreamValidatorService(responseValidator, metrics), metrics);
+
+    @Test
+    @DisplayName("should validate endpoints concurrently without losing issues")
+    void shouldValidateEndpointsConcurrently() {
+        // given
+        when(restTemplate.getForEntity(anyString(), eq(String.class))).thenReturn(ResponseEntity.ok("{}"));
+        when(responseValidator.validateResponseBody(anyString(), any(), anyString(), any(OperationTimings.class)))
+                .thenAnswer(invocation -> List.of(ValidationIssue.of(IssueCode.MISSING_REQUIRED, "GET",
+                        invocation.getArgument(2), FieldPath.ROOT.property("id"), "id")));
+        ValidationResult result = new ValidationResult();
+
+        // when
+        service.validate(api(ENDPOINTS), "http://localhost:8080", ValidationOptions.builder().concurrency(8).build(),
+                result);
+
+        // then
+        assertThat(result.getTotalIssues()).isEqualTo(ENDPOINTS);
+        assertThat(result.getErrorCount()).isEqualTo(ENDPOINTS);
+        assertThat(result.getIssues().size()).isEqualTo(ENDPOINTS);
+        assertThat(result.getIssueGroups()).hasSize(ENDPOINTS);
+        assertThat(result.getTimings()).hasSize(ENDPOINTS);
+        assertThat(result.getProgress().getCompletedEndpoints()).isEqualTo(ENDPOINTS);
+        assertThat(result.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should cancel an operation past its x-validator-timeout-ms and report a timeout")
+    void shouldCancelOperationPastItsTimeout() throws Exception {
+        // given
+        OpenAPI openAPI = api(0);
+        Operation slow = jsonOperation();
+        slow.addExtension("x-validator-timeout-ms", 200);
+        openAPI.getPaths().addPathItem("/slow", new PathItem().get(slow));
+        openAPI.getPaths().addPathItem("/fast", new PathItem().get(jsonOperation()));
+        when(responseValidator.validateResponseBody(anyString(), any(), anyString(), any(OperationTimings.class)))
+                .thenReturn(List.of());
+        ValidationResult result = new ValidationResult();
+
+        // when
+        long elapsed = validateAgainstServer(openAPI, ValidationOptions.defaults(), result);
+
+        // then: the next operation runs on the same thread, no longer interrupted
+        assertThat(elapsed).isLessThan(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rules(result)).containsExactly(IssueCode.TIMEOUT.getRule() + " /slow");
+        assertThat(issues(result).get(0).getExpected()).isEqualTo("Completed within 200 ms");
+        assertThat(result.getProgress().getCompletedEndpoints()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should drop the issues of an operation that expired while validating its response")
+    void shouldDropIssuesOfExpiredOperation() throws Exception {
+        // given: body validation that outlives the timeout without checking for the interrupt
+        OpenAPI openAPI = api(0);
+        Operation fast = jsonOperation();
+        fast.addExtension("x-validator-timeout-ms", 200);
+        openAPI.getPaths().addPathItem("/fast", new PathItem().get(fast));
+        when(responseValidator.validateResponseBody(anyString(), any(), anyString(), any(OperationTimings.class)))
+                .thenAnswer(invocation -> {
+                    long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+                    while (System.nanoTime() < end) {
+                        Thread.onSpinWait();
+                    }
+                    return List.of(ValidationIssue.of(IssueCode.MISSING_REQUIRED, "GET", "/fast",
+                            FieldPath.ROOT.property("id"), "id"));
+                });
+        ValidationResult result = new ValidationResult();
+
+        // when
+        validateAgainstServer(openAPI, ValidationOptions.defaults(), result);
+
+        // then
+        assertThat(rules(result)).containsExactly(IssueCode.TIMEOUT.getRule() + " /fast");
+    }
+
+    @Test
+    @DisplayName("should cancel the operation in flight at the run deadline and skip the rest")
+    void shouldCancelOperationsAtRunDeadline() throws Exception {
+        // given
+        OpenAPI openAPI = api(0);
+        openAPI.getPaths().addPathItem("/slow", new PathItem().get(jsonOperation()));
+        openAPI.getPaths().addPathItem("/fast", new PathItem().get(jsonOperation()));
+        ValidationResult result = new ValidationResult();
+        ValidationOptions options = ValidationOptions.builder()
+                .operationTimeoutMillis(10_000)
+                .runDeadlineMillis(300)
+                .build();
+
+        // when
+        long elapsed = validateAgainstServer(openAPI, options, result);
+
+        // then
+        assertThat(elapsed).isLessThan(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rules(result)).containsExactly(
+                IssueCode.CANCELLED.getRule() + " /slow", IssueCode.CANCELLED.getRule() + " /fast");
+        assertThat(issues(result).get(1).getActual()).isEqualTo("Not started");
+    }
+
+    /**
+     * Validates against a server whose /slow endpoint hangs for seconds
+     *
+     * @return duration of the run
+     */
+    private long validateAgainstServer(OpenAPI openAPI, ValidationOptions options, ValidationResult result)
+            throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange);
+        });
+        server.createContext("/fast", ContractValidatorServiceTest::respond);
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        ContractValidatorService realService = new ContractValidatorService(
+                new RestTemplate(new TimedClientHttpRequestFactory(1000, 10_000)),
+                responseValidator, new StreamValidatorService(responseValidator, metrics), metrics);
+
+        long start = System.nanoTime();
+        try {
+            realService.validate(openAPI, "http://localhost:" + server.getAddress().getPort(), options, result);
+            return System.nanoTime() - start;
+        } finally {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    private static void respond(HttpExchange exchange) throws IOException {
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static List<String> rules(ValidationResult result) {
+        List<String> rules = new ArrayList<>();
+        for (ValidationIssue issue : issues(result)) {
+            rules.add(issue.getRule() + " " + issue.getPath());
+        }
+        return rules;
+    }
+
+    private static List<ValidationIssue> issues(ValidationResult result) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        result.getIssues().forEach(issues::add);
+        return issues;
+    }
+
+    private OpenAPI api(int endpoints) {
+        Paths paths = new Paths();
+        for (int i = 0; i < endpoints; i++) {
+            paths.addPathItem("/items/" + i, new PathItem().get(jsonOperation()));
+        }
+        return new OpenAPI().paths(paths);
+    }
+
+    private Operation jsonOperation() {
+        ApiResponses responses = new ApiResponses();
+        responses.addApiResponse("200", new ApiResponse().content(new Content()
+                .addMediaType("application/json", new MediaType().schema(new ObjectSchema()))));
+        return new Operation().responses(responses);
+    }
+}
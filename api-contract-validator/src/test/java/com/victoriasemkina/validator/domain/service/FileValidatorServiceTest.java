@@ -0,0 +1,144 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.schema.TestValidators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FileValidatorService unit tests")
+class FileValidatorServiceTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.3
+            info: {title: Users, version: "1.0"}
+            paths: {}
+            components:
+              schemas:
+                User:
+                  type: object
+                  required: [id, name]
+                  properties:
+                    id: {type: integer}
+                    name: {type: string}
+                Users:
+                  type: array
+                  items:
+                    type: object
+                    required: [id, name]
+                    properties:
+                      id: {type: integer}
+                      name: {type: string}
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private FileValidatorService service;
+    private OpenAPI openAPI;
+
+    @BeforeEach
+    void setUp() {
+        ValidatorMetrics metrics = new ValidatorMetrics(new SimpleMeterRegistry());
+        service = new FileValidatorService(TestValidators.responseValidatorService(metrics), metrics);
+
+        openAPI = TestValidators.parse(SPEC);
+    }
+
+    @Test
+    @DisplayName("should stream a top-level array and report issues at their element index")
+    void shouldStreamTopLevelArray() throws Exception {
+        // given
+        Path file = tempDir.resolve("users.json");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("[");
+            for (int i = 0; i < 5000; i++) {
+                writer.write(i > 0 ? "," : "");
+                if (i == 10) {
+                    writer.write("{\"id\": \"ten\", \"name\": \"x\"}");
+                } else if (i == 4321) {
+                    writer.write("{\"id\": 4321}");
+                } else {
+                    writer.write("{\"id\": " + i + ", \"name\": \"user " + i + "\"}");
+                }
+            }
+            writer.write("]");
+        }
+        ValidationResult result = new ValidationResult();
+
+        // when
+        FileValidatorService.Stats stats = service.validate(file, schema("Users"), "SCHEMA", "Users", 64,
+                ValidationOptions.builder().concurrency(4).build(), result);
+
+        // then
+        assertThat(stats.elements()).isEqualTo(5000);
+        assertThat(stats.bytes()).isEqualTo(Files.size(file));
+        List<String> locations = new ArrayList<>();
+        for (ValidationIssue issue : result.getIssues()) {
+            locations.add(issue.getRule() + " " + issue.getFieldPath());
+        }
+        assertThat(locations).containsExactlyInAnyOrder(
+                IssueCode.TYPE_MISMATCH.getRule() + " $[10].id",
+                IssueCode.MISSING_REQUIRED.getRule() + " $[4321].name");
+    }
+
+    @Test
+    @DisplayName("should validate other documents whole and report malformed JSON")
+    void shouldValidateWholeDocuments() throws Exception {
+        // given
+        Path user = tempDir.resolve("user.json");
+        Files.writeString(user, "{\"id\": 1}");
+        Path broken = tempDir.resolve("broken.json");
+        Files.writeString(broken, "[{\"id\": 1, \"name\": \"a\"}, {\"id\": ");
+        ValidationResult userResult = new ValidationResult();
+        ValidationResult brokenResult = new ValidationResult();
+
+        // when
+        service.validate(user, schema("User"), "SCHEMA", "User", 64, ValidationOptions.defaults(), userResult);
+        service.validate(broken, schema("Users"), "SCHEMA", "Users", 64, ValidationOptions.defaults(), brokenResult);
+
+        // then
+        assertThat(userResult.getErrorCount()).isEqualTo(1);
+        assertThat(brokenResult.getIssueGroups()).anySatisfy(group ->
+                assertThat(group.getRule()).isEqualTo(IssueCode.INVALID_JSON.getRule()));
+    }
+
+    @Test
+    @DisplayName("should rethrow the failure of a validation worker")
+    void shouldRethrowWorkerFailure() throws Exception {
+        // given
+        Path file = tempDir.resolve("users.json");
+        Files.writeString(file, "[{\"id\": 1}, {\"id\": 2, \"name\": \"b\"}]");
+        ValidationResult result = new ValidationResult();
+        result.addListener(issue -> {
+            throw new IllegalStateException("issue sink failed");
+        });
+
+        // when / then
+        assertThatThrownBy(() -> service.validate(file, schema("Users"), "SCHEMA", "Users", 1,
+                ValidationOptions.builder().concurrency(2).build(), result))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("issue sink failed");
+    }
+
+    private Schema<?> schema(String name) {
+        return openAPI.getComponents().getSchemas().get(name);
+    }
+}
@@ -0,0 +1,228 @@
+package com.victoriasemkina.validator.domain.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.OperationTimings;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationOptions;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.infra.http.StreamRecordReader;
+import com.victoriasemkina.validator.infra.http.TimedClientHttpRequestFactory;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.schema.TestValidators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@DisplayName("StreamValidatorService unit tests")
+class StreamValidatorServiceTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.3
+            info: {title: Feeds, version: "1.0"}
+            paths:
+              /events:
+                get:
+                  responses:
+                    '200':
+                      description: Endless feed of events
+                      content:
+                        text/event-stream:
+                          schema:
+                            type: array
+                            items:
+                              type: object
+                              required: [id, type]
+                              properties:
+                                id: {type: integer}
+                                type: {type: string}
+            components:
+              schemas:
+                Event:
+                  type: object
+                  required: [id, type]
+                  properties:
+                    id: {type: integer}
+                    type: {type: string}
+            """;
+
+    private ValidatorMetrics metrics;
+    private ResponseValidatorService responseValidatorService;
+    private StreamValidatorService service;
+    private OpenAPI openAPI;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ValidatorMetrics(new SimpleMeterRegistry());
+        responseValidatorService = TestValidators.responseValidatorService(metrics);
+        service = new StreamValidatorService(responseValidatorService, metrics);
+
+        openAPI = TestValidators.parse(SPEC);
+    }
+
+    @Test
+    @DisplayName("should validate each NDJSON line and report issues at the record index")
+    void shouldValidateNdjsonRecords() throws Exception {
+        // given
+        String body = """
+                {"id": 1, "type": "created"}
+
+                {"id": "two", "type": "updated"}
+                {"id": 3,
+                {"id": 4, "type": "deleted"}
+                """;
+        ValidationResult result = new ValidationResult();
+
+        // when
+        StreamValidatorService.Stats stats = service.validate(stream(body), StreamRecordReader.Format.NDJSON,
+                openAPI.getComponents().getSchemas().get("Event"), "GET", "/events", ValidationOptions.defaults(),
+                result::addIssue, result.timingsFor("GET", "/events"));
+
+        // then
+        assertThat(stats.records()).isEqualTo(4);
+        assertThat(stats.stopReason()).isEqualTo(StreamValidatorService.StopReason.END_OF_STREAM);
+        assertThat(locations(result)).containsExactlyInAnyOrder(
+                IssueCode.TYPE_MISMATCH.getRule() + " $[1].id",
+                IssueCode.INVALID_JSON.getRule() + " $[2]");
+        assertThat(result.timingsFor("GET", "/events").get(OperationTimings.Phase.VALIDATE).getCount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should validate Server-Sent Events data against the array item schema up to the record limit")
+    void shouldValidateEventStreamUpToRecordLimit() throws Exception {
+        // given
+        String body = """
+                : keep-alive
+
+                event: created
+                id: 1
+                data: {"id": 1,
+                data:  "type": "created"}
+
+                retry: 1000
+                data: {"id": 2}
+
+                data: {"id": 3, "type": "deleted"}
+
+                """;
+        ValidationResult result = new ValidationResult();
+
+        // when
+        StreamValidatorService.Stats stats = service.validate(stream(body), StreamRecordReader.Format.EVENT_STREAM,
+                openAPI.getPaths().get("/events").getGet().getResponses().get("200").getContent()
+                        .get("text/event-stream").getSchema(),
+                "GET", "/events", ValidationOptions.builder().streamMaxRecords(2).build(), result::addIssue,
+                result.timingsFor("GET", "/events"));
+
+        // then
+        assertThat(stats.records()).isEqualTo(2);
+        assertThat(stats.stopReason()).isEqualTo(StreamValidatorService.StopReason.RECORD_LIMIT);
+        assertThat(locations(result)).containsExactly(IssueCode.MISSING_REQUIRED.getRule() + " $[1].type");
+    }
+
+    @Test
+    @DisplayName("should close an endless event stream once the record limit is reached")
+    void shouldCloseEndlessEventStream() throws Exception {
+        // given
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/events", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int id = 0; ; id++) {
+                    out.write(("data: {\"id\": " + id + ", \"type\": \"tick\"}\n\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    Thread.sleep(2);
+                }
+            } catch (IOException | InterruptedException e) {
+                // Client went away
+            }
+        });
+        server.start();
+        ContractValidatorService validatorService = new ContractValidatorService(
+                new RestTemplate(new TimedClientHttpRequestFactory(1000, 5000)),
+                responseValidatorService, service, metrics);
+        ValidationResult result = new ValidationResult();
+
+        try {
+            // when
+            validatorService.validate(openAPI, "http://localhost:" + server.getAddress().getPort(),
+                    ValidationOptions.builder().streamMaxRecords(50).build(), result);
+        } finally {
+            server.stop(0);
+        }
+
+        // then
+        assertThat(result.getTotalIssues()).isZero();
+        assertThat(result.getProgress().getCompletedEndpoints()).isEqualTo(1);
+        assertThat(result.timingsFor("GET", "/events").get(OperationTimings.Phase.VALIDATE).getCount())
+                .isEqualTo(50);
+        assertThat(metrics.getRegistry().get(ValidatorMetrics.STREAM_RECORDS).counter().count()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("should stop a stream of keep-alives only at the time limit")
+    void shouldStopHeartbeatOnlyStreamAtTimeLimit() {
+        // given
+        byte[] heartbeat = ": keep-alive\n\n".getBytes(StandardCharsets.UTF_8);
+        InputStream endless = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() throws IOException {
+                if (position == heartbeat.length) {
+                    position = 0;
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    }
+                }
+                return heartbeat[position++];
+            }
+        };
+        ValidationResult result = new ValidationResult();
+
+        // when
+        StreamValidatorService.Stats stats = assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                service.validate(endless, StreamRecordReader.Format.EVENT_STREAM,
+                        openAPI.getComponents().getSchemas().get("Event"), "GET", "/events",
+                        ValidationOptions.builder().streamMaxSeconds(1).build(), result::addIssue,
+                        result.timingsFor("GET", "/events")));
+
+        // then
+        assertThat(stats.records()).isZero();
+        assertThat(stats.stopReason()).isEqualTo(StreamValidatorService.StopReason.TIME_LIMIT);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> locations(ValidationResult result) {
+        List<String> locations = new ArrayList<>();
+        for (ValidationIssue issue : result.getIssues()) {
+            locations.add(issue.getRule() + " " + issue.getFieldPath());
+        }
+        return locations;
+    }
+}
@@ -0,0 +1,89 @@
+package com.victoriasemkina.validator.infra.daemon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.victoriasemkina.validator.domain.model.FieldPath;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobProtocol unit tests")
+class JobProtocolTest {
+
+    @Test
+    @DisplayName("should round-trip a job request through its JSON line")
+    void shouldRoundTripJobRequest() throws Exception {
+        // given
+        JobProtocol.JobRequest request = new JobProtocol.JobRequest("users", "users.yaml", "http://api", null);
+
+        // when
+        String line = JobProtocol.MAPPER.writeValueAsString(request);
+        JobProtocol.JobRequest parsed = JobProtocol.MAPPER.readValue(line, JobProtocol.JobRequest.class);
+
+        // then
+        assertThat(line).doesNotContain("\n");
+        assertThat(parsed).isEqualTo(request);
+    }
+
+    @Test
+    @DisplayName("should ignore unknown fields sent by a newer client")
+    void shouldIgnoreUnknownFields() throws Exception {
+        // when
+        JobProtocol.JobRequest parsed = JobProtocol.MAPPER.readValue(
+                "{\"manifest\": \"jobs.json\", \"priority\": 1}", JobProtocol.JobRequest.class);
+
+        // then
+        assertThat(parsed.getManifest()).isEqualTo("jobs.json");
+    }
+
+    @Test
+    @DisplayName("should frame issue, summary, error and done messages as typed JSON lines")
+    void shouldFrameMessages() throws Exception {
+        // given
+        ValidationIssue issue = ValidationIssue.of(IssueCode.MISSING_REQUIRED, "GET", "/users",
+                FieldPath.ROOT.property("id"), "id");
+        ValidationResult result = new ValidationResult();
+        result.setBaseUrl("http://api");
+        result.addIssue(issue);
+
+        // when
+        JsonNode issueMessage = JobProtocol.MAPPER.readTree(JobProtocol.issueMessage("users", issue));
+        JsonNode summary = JobProtocol.MAPPER.readTree(JobProtocol.summaryMessage("users", result));
+        JsonNode error = JobProtocol.MAPPER.readTree(JobProtocol.errorMessage(null, "bad\nrequest"));
+        String done = JobProtocol.doneMessage(1);
+
+        // then
+        assertThat(issueMessage.path("type").asText()).isEqualTo(JobProtocol.TYPE_ISSUE);
+        assertThat(issueMessage.path("job").asText()).isEqualTo("users");
+        assertThat(issueMessage.path("rule").asText()).isEqualTo(IssueCode.MISSING_REQUIRED.getRule());
+        assertThat(issueMessage.path("fieldPath").asText()).isEqualTo("$.id");
+        assertThat(summary.path("type").asText()).isEqualTo(JobProtocol.TYPE_SUMMARY);
+        assertThat(summary.path("totalIssues").asInt()).isEqualTo(1);
+        assertThat(summary.path("hasErrors").asBoolean()).isTrue();
+        assertThat(error.path("job").isNull()).isTrue();
+        assertThat(error.path("message").asText()).isEqualTo("bad\nrequest");
+        assertThat(JobProtocol.errorMessage(null, "bad\nrequest")).doesNotContain("\n");
+        assertThat(JobProtocol.MAPPER.readTree(done).path("exitCode").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should resolve a loopback TCP address when a port is given, a Unix socket otherwise")
+    void shouldResolveAddress() {
+        // when / then
+        assertThat(JobProtocol.resolveAddress(null, 7070)).isInstanceOfSatisfying(InetSocketAddress.class,
+                address -> {
+                    assertThat(address.getPort()).isEqualTo(7070);
+                    assertThat(address.getAddress().isLoopbackAddress()).isTrue();
+                });
+        assertThat(JobProtocol.resolveAddress("/tmp/v.sock", null))
+                .isEqualTo(UnixDomainSocketAddress.of("/tmp/v.sock"));
+        assertThat(JobProtocol.resolveAddress(null, null))
+                .isEqualTo(UnixDomainSocketAddress.of(JobProtocol.DEFAULT_SOCKET_PATH));
+    }
+}
@@ -0,0 +1,210 @@
+package com.victoriasemkina.validator.infra.daemon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.victoriasemkina.validator.domain.model.FieldPath;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationJob;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.service.ValidationJobService;
+import com.victoriasemkina.validator.infra.manifest.JobManifestReader;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JobServer unit tests")
+class JobServerTest {
+
+    private static final int ISSUES = 500;
+
+    private final ValidationJobService jobService = mock(ValidationJobService.class);
+    private final JobManifestReader manifestReader = mock(JobManifestReader.class);
+    private final JobServer server = new JobServer(jobService, manifestReader,
+            new ValidatorMetrics(new SimpleMeterRegistry()));
+
+    @TempDir
+    Path tempDir;
+
+    private UnixDomainSocketAddress address;
+    private Thread serverThread;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        address = UnixDomainSocketAddress.of(tempDir.resolve("validator.sock"));
+        serverThread = new Thread(() -> {
+            try {
+                server.serve(address, 2);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        serverThread.start();
+        // The socket file appears on bind, slightly before the server listens: probe until it accepts
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!accepts(address) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean accepts(UnixDomainSocketAddress address) {
+        try (SocketChannel probe = SocketChannel.open(address)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        server.stop();
+        serverThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Test
+    @DisplayName("should stream every issue, the summary and the exit code of a job")
+    void shouldStreamJobResults() throws Exception {
+        // given
+        when(jobService.run(any(ValidationJob.class), any(ValidationResult.class))).thenAnswer(invocation -> {
+            ValidationResult result = invocation.getArgument(1);
+            for (int i = 0; i < ISSUES; i++) {
+                result.addIssue(ValidationIssue.of(IssueCode.MISSING_REQUIRED, "GET", "/users/" + i,
+                        FieldPath.ROOT.property("id"), "id"));
+            }
+            result.finish();
+            return result;
+        });
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int exitCode = new JobClient(address, new PrintStream(out, true, StandardCharsets.UTF_8))
+                .submit(new JobProtocol.JobRequest("users", "users.yaml", "http://api", null), true);
+
+        // then
+        List<JsonNode> messages = messages(out);
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(messages).hasSize(ISSUES + 2);
+        assertThat(messages.subList(0, ISSUES)).allSatisfy(message ->
+                assertThat(message.path("type").asText()).isEqualTo(JobProtocol.TYPE_ISSUE));
+        assertThat(messages.get(ISSUES - 1).path("path").asText()).isEqualTo("/users/" + (ISSUES - 1));
+        assertThat(messages.get(ISSUES).path("type").asText()).isEqualTo(JobProtocol.TYPE_SUMMARY);
+        assertThat(messages.get(ISSUES).path("totalIssues").asInt()).isEqualTo(ISSUES);
+        assertThat(messages.get(ISSUES + 1).path("type").asText()).isEqualTo(JobProtocol.TYPE_DONE);
+    }
+
+    @Test
+    @DisplayName("should drop a client that stops reading instead of queueing its lines")
+    void shouldDropClientThatStopsReading() throws Exception {
+        // given: a job producing more lines than the queue and the socket buffers hold
+        CountDownLatch finished = new CountDownLatch(1);
+        when(jobService.run(any(ValidationJob.class), any(ValidationResult.class))).thenAnswer(invocation -> {
+            ValidationResult result = invocation.getArgument(1);
+            for (int i = 0; i < JobStreamWriter.QUEUE_CAPACITY * 5; i++) {
+                result.addIssue(ValidationIssue.of(IssueCode.MISSING_REQUIRED, "GET", "/users/" + i,
+                        FieldPath.ROOT.property("id"), "id"));
+            }
+            result.finish();
+            finished.countDown();
+            return result;
+        });
+
+        try (SocketChannel stalled = SocketChannel.open(address)) {
+            // when: the request is sent, but nothing is read until the job is over
+            stalled.write(StandardCharsets.UTF_8.encode(JobProtocol.MAPPER.writeValueAsString(
+                    new JobProtocol.JobRequest("users", "users.yaml", "http://api", null)) + "\n"));
+            assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // then: the server closes the connection without the rest of the lines
+            String received = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> readAll(stalled));
+            assertThat(received.lines().count()).isLessThan(JobStreamWriter.QUEUE_CAPACITY * 5L);
+            assertThat(received).doesNotContain("\"" + JobProtocol.TYPE_DONE + "\"");
+        }
+        int exitCode = new JobClient(address, new PrintStream(new ByteArrayOutputStream(), true,
+                StandardCharsets.UTF_8)).submit(new JobProtocol.JobRequest("users", "users.yaml", "http://api", null),
+                true);
+        assertThat(exitCode).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should report a failed job as an error and keep serving")
+    void shouldReportFailedJob() throws Exception {
+        // given
+        when(jobService.run(any(ValidationJob.class), any(ValidationResult.class)))
+                .thenThrow(new IllegalArgumentException("Job base URL cannot be empty"))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        ByteArrayOutputStream failedOut = new ByteArrayOutputStream();
+        int failed = new JobClient(address, new PrintStream(failedOut, true, StandardCharsets.UTF_8))
+                .submit(new JobProtocol.JobRequest("users", "users.yaml", null, null), true);
+        int succeeded = new JobClient(address, new PrintStream(new ByteArrayOutputStream(), true,
+                StandardCharsets.UTF_8)).submit(new JobProtocol.JobRequest("users", "users.yaml", "http://api", null),
+                true);
+
+        // then
+        List<JsonNode> messages = messages(failedOut);
+        assertThat(failed).isEqualTo(1);
+        assertThat(messages.get(0).path("type").asText()).isEqualTo(JobProtocol.TYPE_ERROR);
+        assertThat(messages.get(0).path("message").asText()).isEqualTo("Job base URL cannot be empty");
+        assertThat(succeeded).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject a request whose manifest cannot be read")
+    void shouldRejectUnreadableManifest() throws Exception {
+        // given
+        when(manifestReader.read("missing.json")).thenThrow(new IOException("missing.json not found"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JobClient client = new JobClient(address, new PrintStream(out, true, StandardCharsets.UTF_8));
+
+        // when
+        int exitCode = client.submit(new JobProtocol.JobRequest(null, null, null, "missing.json"), true);
+
+        // then
+        List<JsonNode> messages = messages(out);
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(messages).extracting(message -> message.path("type").asText())
+                .containsExactly(JobProtocol.TYPE_ERROR, JobProtocol.TYPE_DONE);
+    }
+
+    private static String readAll(SocketChannel channel) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        while (channel.read(buffer) >= 0) {
+            out.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static List<JsonNode> messages(ByteArrayOutputStream out) throws Exception {
+        List<JsonNode> messages = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            messages.add(JobProtocol.MAPPER.readTree(line));
+        }
+        return messages;
+    }
+}
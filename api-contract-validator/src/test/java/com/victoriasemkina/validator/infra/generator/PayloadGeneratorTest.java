@@ -0,0 +1,207 @@
+package com.victoriasemkina.validator.infra.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.service.ResponseValidatorService;
+import com.victoriasemkina.validator.infra.schema.TestValidators;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PayloadGenerator unit tests")
+class PayloadGeneratorTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.3
+            info:
+              title: Generator test
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: Users
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+                            items:
+                              $ref: '#/components/schemas/User'
+            components:
+              schemas:
+                User:
+                  type: object
+                  required: [id, email, status]
+                  properties:
+                    id:
+                      type: integer
+                      minimum: 1
+                      maximum: 1000
+                    email:
+                      type: string
+                      format: email
+                    status:
+                      type: string
+                      enum: [active, blocked]
+                    createdAt:
+                      type: string
+                      format: date-time
+                    score:
+                      type: number
+                    address:
+                      type: object
+                      required: [city]
+                      properties:
+                        city:
+                          type: string
+                          maxLength: 12
+                    tags:
+                      type: array
+                      items:
+                        type: string
+            """;
+
+    private final PayloadGenerator generator = new PayloadGenerator();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ResponseValidatorService validatorService;
+    private Schema<?> usersSchema;
+
+    @BeforeEach
+    void setUp() {
+        validatorService = TestValidators.responseValidatorService();
+
+        OpenAPI openAPI = TestValidators.parse(SPEC);
+        usersSchema = openAPI.getPaths().get("/users").getGet().getResponses().get("200")
+                .getContent().get("application/json").getSchema();
+    }
+
+    @Test
+    @DisplayName("should generate a valid payload of the target size")
+    void shouldGenerateValidPayloadOfTargetSize() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        GenerationStats stats = generator.generate(usersSchema, out,
+                GenerationOptions.builder().targetBytes(64 * 1024).build());
+
+        // then
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertThat(stats.bytes()).isEqualTo(out.size()).isBetween(64L * 1024, 66L * 1024);
+        assertThat(stats.mutations()).isZero();
+        assertThat(validatorService.validateResponseBody(json, usersSchema, "/users")).isEmpty();
+
+        JsonNode user = objectMapper.readTree(json).get(0);
+        assertThat(user.get("email").asText()).matches("user\\d+@example\\.com");
+        assertThat(user.get("status").asText()).isIn("active", "blocked");
+        assertThat(user.get("id").asLong()).isBetween(1L, 1000L);
+        assertThat(user.get("address").get("city").asText()).hasSizeLessThanOrEqualTo(12);
+        assertThat(user.get("tags").isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should break the requested share of objects")
+    void shouldBreakRequestedShareOfObjects() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        GenerationStats stats = generator.generate(usersSchema, out,
+                GenerationOptions.builder().targetBytes(64 * 1024).mutationRate(0.1).build());
+
+        // then
+        List<ValidationIssue> issues = validatorService.validateResponseBody(
+                out.toString(StandardCharsets.UTF_8), usersSchema, "/users");
+        assertThat(stats.mutations()).isGreaterThan(0);
+        assertThat(issues).hasSize((int) stats.mutations());
+    }
+
+    @Test
+    @DisplayName("should produce the same document for the same seed")
+    void shouldBeReproducible() throws Exception {
+        // given
+        GenerationOptions options = GenerationOptions.builder().targetBytes(8 * 1024).mutationRate(0.2).build();
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        // when
+        generator.generate(usersSchema, first, options);
+        generator.generate(usersSchema, second, options);
+
+        // then
+        assertThat(first.toByteArray()).isEqualTo(second.toByteArray());
+    }
+
+    @Test
+    @DisplayName("should keep integers within a range wider than a long can hold")
+    void shouldKeepIntegersWithinWideRange() throws Exception {
+        // given
+        Schema<?> value = new IntegerSchema().format("int64")
+                .minimum(BigDecimal.valueOf(Long.MIN_VALUE)).maximum(BigDecimal.ZERO);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        generator.generate(new ArraySchema().items(value), out, GenerationOptions.builder().build());
+
+        // then
+        JsonNode values = objectMapper.readTree(out.toString(StandardCharsets.UTF_8));
+        assertThat(values).isNotEmpty();
+        values.forEach(node -> assertThat(node.asLong()).isLessThanOrEqualTo(0));
+    }
+
+    @Test
+    @DisplayName("should reject a schema that requires itself instead of overflowing the stack")
+    void shouldRejectSchemaRequiringItself() {
+        // given
+        ObjectSchema node = new ObjectSchema();
+        node.addProperty("name", new StringSchema());
+        node.addProperty("parent", node);
+        node.addRequiredItem("parent");
+
+        GenerationOptions options = GenerationOptions.builder().build();
+
+        // when / then
+        assertThatThrownBy(() -> generator.generate(node, new ByteArrayOutputStream(), options))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("requires itself");
+    }
+
+    @Test
+    @DisplayName("should count only the mutations written past the maximum depth")
+    void shouldCountOnlyWrittenMutationsPastMaxDepth() throws Exception {
+        // given
+        ObjectSchema item = new ObjectSchema();
+        item.addProperty("note", new StringSchema());
+        item.addProperty("id", new IntegerSchema());
+        item.addRequiredItem("id");
+        Schema<?> items = new ArraySchema().items(item);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        GenerationStats stats = generator.generate(items, out,
+                GenerationOptions.builder().targetBytes(8 * 1024).mutationRate(0.5).maxDepth(1).build());
+
+        // then
+        List<ValidationIssue> issues = validatorService.validateResponseBody(
+                out.toString(StandardCharsets.UTF_8), items, "/items");
+        assertThat(stats.mutations()).isGreaterThan(0);
+        assertThat(issues).hasSize((int) stats.mutations());
+    }
+}
@@ -0,0 +1,129 @@
+package com.victoriasemkina.validator.infra.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HostLimiter unit tests")
+class HostLimiterTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    @DisplayName("should space requests to the requests-per-second cap")
+    void shouldSpaceRequestsToRateCap() throws Exception {
+        // given
+        HostLimiter limiter = new HostLimiter("api", 50, false, 8);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            limiter.acquire();
+            limiter.release(200, 0, null);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // then: ten intervals of 20 ms after the first request
+        assertThat(elapsed).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    @Test
+    @DisplayName("should grow while latency is flat and halve once per round trip on throttling")
+    void shouldGrowAndBackOffOnThrottling() throws Exception {
+        // given
+        HostLimiter limiter = new HostLimiter("api", 0, true, 16);
+
+        // when
+        for (int i = 0; i < 60; i++) {
+            limiter.acquire();
+            limiter.release(200, LATENCY, null);
+        }
+        double grown = limiter.getLimit();
+        limiter.acquire();
+        limiter.release(429, LATENCY, null);
+        limiter.acquire();
+        limiter.release(503, LATENCY, null);
+
+        // then: the second throttled response falls within the same round trip
+        assertThat(grown).isGreaterThan(8);
+        assertThat(limiter.getLimit()).isCloseTo(grown / 2, within(0.01));
+        assertThat(limiter.getThrottledResponses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should back off when latency rises above the long-term average")
+    void shouldBackOffOnRisingLatency() throws Exception {
+        // given
+        HostLimiter limiter = new HostLimiter("api", 0, true, 16);
+        for (int i = 0; i < 60; i++) {
+            limiter.acquire();
+            limiter.release(200, TimeUnit.MILLISECONDS.toNanos(1), null);
+        }
+        double grown = limiter.getLimit();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.release(200, TimeUnit.MILLISECONDS.toNanos(10), null);
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(grown);
+    }
+
+    @Test
+    @DisplayName("should pause requests for Retry-After")
+    void shouldPauseForRetryAfter() throws Exception {
+        // given
+        HostLimiter limiter = new HostLimiter("api", 0, true, 4);
+        limiter.acquire();
+        limiter.release(429, LATENCY, "1");
+
+        // when
+        long start = System.nanoTime();
+        limiter.acquire();
+        long waited = System.nanoTime() - start;
+        limiter.release(200, LATENCY, null);
+
+        // then
+        assertThat(waited).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(900));
+    }
+
+    @Test
+    @DisplayName("should cap a Retry-After too long to convert to nanoseconds")
+    void shouldCapHugeRetryAfter() throws Exception {
+        // given
+        HostLimiter limiter = new HostLimiter("api", 0, true, 4);
+        limiter.acquire();
+
+        // when
+        limiter.release(503, LATENCY, String.valueOf(Long.MAX_VALUE));
+
+        // then
+        assertThat(HostLimiter.pauseNanos(HostLimiter.parseRetryAfter(String.valueOf(Long.MAX_VALUE))))
+                .isEqualTo(HostLimiter.MAX_RETRY_AFTER.toNanos());
+        assertThat(limiter.getThrottledResponses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should parse Retry-After as seconds or an HTTP date")
+    void shouldParseRetryAfter() {
+        // given
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+        // when / then
+        assertThat(HostLimiter.parseRetryAfter("120")).isEqualTo(Duration.ofSeconds(120));
+        assertThat(HostLimiter.parseRetryAfter(date)).isBetween(Duration.ofSeconds(28), Duration.ofSeconds(30));
+        assertThat(HostLimiter.parseRetryAfter("soon")).isNull();
+        assertThat(HostLimiter.parseRetryAfter(null)).isNull();
+    }
+}
@@ -0,0 +1,159 @@
+package com.victoriasemkina.validator.infra.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("HttpFetcher unit tests")
+class HttpFetcherTest {
+
+    private final AtomicInteger flakyRequests = new AtomicInteger();
+    private final AtomicInteger slowRequests = new AtomicInteger();
+    private final ValidatorMetrics metrics = new ValidatorMetrics(new SimpleMeterRegistry());
+    private final RestTemplate restTemplate = new RestTemplate(new TimedClientHttpRequestFactory(1000, 10_000));
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        // Fails twice with 503, then answers
+        server.createContext("/flaky", exchange ->
+                respond(exchange, flakyRequests.incrementAndGet() <= 2 ? 503 : 200));
+        server.createContext("/missing", exchange -> respond(exchange, 404));
+        // Request 21 hangs, as on a stuck replica; the others answer at once
+        server.createContext("/slow", exchange -> {
+            if (slowRequests.incrementAndGet() == HttpFetcher.MIN_HEDGE_SAMPLES + 1) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            respond(exchange, 200);
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should retry transient failures with backoff")
+    void shouldRetryTransientFailures() throws Exception {
+        // given
+        try (HttpFetcher fetcher = fetcher(3, false)) {
+            // when
+            HttpFetcher.Fetch fetch = fetcher.get(baseUrl + "/flaky");
+
+            // then
+            assertThat(fetch.isSuccess()).isTrue();
+            assertThat(flakyRequests).hasValue(3);
+            assertThat(metrics.getRegistry().get(ValidatorMetrics.HTTP_RETRIES).counter().count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("should not retry a client error")
+    void shouldNotRetryClientError() throws Exception {
+        // given
+        try (HttpFetcher fetcher = fetcher(3, false)) {
+            // when
+            HttpFetcher.Fetch fetch = fetcher.get(baseUrl + "/missing");
+
+            // then
+            assertThat(fetch.isSuccess()).isFalse();
+            assertThat(HttpFetcher.statusOf(fetch.error())).isEqualTo(404);
+            assertThat(metrics.getRegistry().find(ValidatorMetrics.HTTP_RETRIES).counter()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("should answer from the hedge when a request hangs past the p95 latency")
+    void shouldHedgeHangingRequest() throws Exception {
+        // given
+        try (HttpFetcher fetcher = fetcher(0, true)) {
+            for (int i = 0; i < HttpFetcher.MIN_HEDGE_SAMPLES; i++) {
+                assertThat(fetcher.get(baseUrl + "/slow").isSuccess()).isTrue();
+            }
+
+            // when
+            long start = System.nanoTime();
+            HttpFetcher.Fetch fetch = fetcher.get(baseUrl + "/slow");
+            long elapsed = System.nanoTime() - start;
+
+            // then
+            assertThat(fetch.isSuccess()).isTrue();
+            assertThat(elapsed).isLessThan(TimeUnit.SECONDS.toNanos(2));
+            assertThat(slowRequests).hasValue(HttpFetcher.MIN_HEDGE_SAMPLES + 2);
+            assertThat(metrics.getRegistry().get(ValidatorMetrics.HTTP_HEDGES)
+                    .tag("winner", ValidatorMetrics.HEDGE_HEDGE).counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("should free the limiter slot when the exchange fails unexpectedly")
+    void shouldFreeSlotOnUnexpectedFailure() {
+        // given
+        RestTemplate failing = mock(RestTemplate.class);
+        when(failing.getForEntity(anyString(), eq(String.class))).thenThrow(new IllegalStateException("broken"));
+        HostLimiter limiter = new HostLimiter("localhost", 0, true, 1);
+
+        try (HttpFetcher fetcher = new HttpFetcher(failing, limiter, 0, Duration.ofMillis(1), false, metrics)) {
+            // when / then: with the slot leaked, the second request would wait forever
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                for (int i = 0; i < 2; i++) {
+                    assertThatThrownBy(() -> fetcher.get(baseUrl + "/missing"))
+                            .isInstanceOf(IllegalStateException.class);
+                }
+            });
+        }
+    }
+
+    private HttpFetcher fetcher(int retries, boolean hedge) {
+        return new HttpFetcher(restTemplate, new HostLimiter("localhost", 0, false, 1), retries,
+                Duration.ofMillis(1), hedge, metrics);
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
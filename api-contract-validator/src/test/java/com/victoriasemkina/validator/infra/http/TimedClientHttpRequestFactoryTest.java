@@ -0,0 +1,65 @@
+package com.victoriasemkina.validator.infra.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimedClientHttpRequestFactory unit tests")
+class TimedClientHttpRequestFactoryTest {
+
+    private static final String BODY = "{\"id\": 1, \"name\": \"Ann\"}";
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/users/1", exchange -> {
+            byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("should time each phase and count body bytes")
+    void shouldTimePhasesAndCountBodyBytes() {
+        // given
+        RestTemplate restTemplate = new RestTemplate(new TimedClientHttpRequestFactory(1000, 1000));
+
+        // when
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/users/1", String.class);
+        ExchangeTiming timing = TimedClientHttpRequestFactory.takeLastExchange();
+
+        // then
+        assertThat(response.getBody()).isEqualTo(BODY);
+        assertThat(response.getHeaders().getContentType()).hasToString("application/json");
+        assertThat(timing).isNotNull();
+        assertThat(timing.getBodyBytes()).isEqualTo(BODY.length());
+        assertThat(timing.getTtfbNanos()).isPositive();
+        assertThat(timing.getTotalNanos()).isGreaterThanOrEqualTo(timing.getTtfbNanos());
+        assertThat(TimedClientHttpRequestFactory.takeLastExchange()).isNull();
+    }
+}
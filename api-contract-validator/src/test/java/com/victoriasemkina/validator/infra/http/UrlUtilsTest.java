@@ -59,4 +59,18 @@ class UrlUtilsTest {
         // then
         assertThat(result).isEqualTo("https://api.example.com/users?id=42");
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @CsvSource({
+            "https://api.example.com/v1, api.example.com",
+            "http://localhost:8080/users/{id}, localhost:8080"
+    })
+    @DisplayName("should extract host and explicit port")
+    void shouldExtractHost(String url, String expectedHost) {
+        // when
+        String result = UrlUtils.hostOf(url);
+
+        // then
+        assertThat(result).isEqualTo(expectedHost);
+    }
+}
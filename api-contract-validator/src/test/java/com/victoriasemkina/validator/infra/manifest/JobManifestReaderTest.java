@@ -0,0 +1,57 @@
+package com.victoriasemkina.validator.infra.manifest;
+
+import com.victoriasemkina.validator.domain.model.ValidationJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JobManifestReader unit tests")
+class JobManifestReaderTest {
+
+    private JobManifestReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new JobManifestReader();
+    }
+
+    @Test
+    @DisplayName("should read jobs and resolve relative spec paths against manifest directory")
+    void shouldReadJobsAndResolveRelativeSpecPaths(@TempDir Path tempDir) throws Exception {
+        // given
+        Path manifest = tempDir.resolve("manifest.json");
+        Files.writeString(manifest, """
+                [
+                  {"name": "users", "spec": "specs/users.yaml", "baseUrl": "https://api.example.com"},
+                  {"spec": "/abs/orders.yaml", "baseUrl": "https://api.example.com"}
+                ]
+                """);
+
+        // when
+        List<ValidationJob> jobs = reader.read(manifest.toString());
+
+        // then
+        assertThat(jobs).hasSize(2);
+        assertThat(jobs.get(0).getDisplayName()).isEqualTo("users");
+        assertThat(jobs.get(0).getSpec()).isEqualTo(tempDir.resolve("specs/users.yaml").toString());
+        assertThat(jobs.get(1).getSpec()).isEqualTo("/abs/orders.yaml");
+        assertThat(jobs.get(1).getDisplayName()).isEqualTo("/abs/orders.yaml");
+    }
+
+    @Test
+    @DisplayName("should throw exception when manifest does not exist")
+    void shouldThrowExceptionWhenManifestDoesNotExist() {
+        // when / then
+        assertThatThrownBy(() -> reader.read("/non/existent/manifest.json"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+    }
+}
@@ -0,0 +1,74 @@
+package com.victoriasemkina.validator.infra.metrics;
+
+import com.victoriasemkina.validator.domain.model.FieldPath;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ValidatorMetrics unit tests")
+class ValidatorMetricsTest {
+
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final ValidatorMetrics metrics = new ValidatorMetrics(registry);
+
+    @Test
+    @DisplayName("should count requests, bytes and issues per rule")
+    void shouldCountRequestsBytesAndIssues() {
+        // when
+        metrics.recordRequest("GET", "/users", "200", 512, TimeUnit.MILLISECONDS.toNanos(12));
+        metrics.recordRequest("GET", "/users", "error", 0, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.issueListener().onIssue(ValidationIssue.of(IssueCode.MISSING_REQUIRED, "GET", "/users",
+                FieldPath.ROOT.item(0).property("email"), "email"));
+
+        // then
+        assertThat(registry.get(ValidatorMetrics.HTTP_REQUESTS).tag("outcome", "200").timer().count()).isEqualTo(1);
+        assertThat(registry.get(ValidatorMetrics.HTTP_REQUESTS).tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get(ValidatorMetrics.HTTP_RESPONSE_BYTES).summary().totalAmount()).isEqualTo(512);
+        assertThat(registry.get(ValidatorMetrics.ISSUES).tag("rule", "required").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should expose metrics in Prometheus text format")
+    void shouldExposePrometheusText() {
+        // given
+        ObjectSchema schema = new ObjectSchema();
+        schema.setName("User");
+
+        // when
+        metrics.recordSchemaValidation(schema, 1_000);
+        metrics.recordSpecCache(true);
+
+        // then
+        String text = registry.scrape();
+        assertThat(text).contains("validator_schema_validation_seconds_count{schema=\"User\"} 1");
+        assertThat(text).contains("validator_spec_cache_total{result=\"hit\"} 1.0");
+    }
+
+    @Test
+    @DisplayName("should reuse the meters registered for the same tag values")
+    void shouldReuseMetersForSameTags() {
+        // given
+        metrics.recordRequest("GET", "/users", "200", 100, 1_000);
+        metrics.recordSample(ValidatorMetrics.SAMPLE_QUEUED);
+        int meters = registry.getMeters().size();
+
+        // when
+        metrics.recordRequest("GET", "/users", "200", 100, 1_000);
+        metrics.recordSample(ValidatorMetrics.SAMPLE_QUEUED);
+        metrics.recordRequest("GET", "/users", "404", 100, 1_000);
+
+        // then
+        assertThat(registry.getMeters()).hasSize(meters + 1);
+        assertThat(registry.get(ValidatorMetrics.HTTP_REQUESTS).tag("outcome", "200").timer().count()).isEqualTo(2);
+        assertThat(registry.get(ValidatorMetrics.HTTP_RESPONSE_BYTES).summary().count()).isEqualTo(3);
+        assertThat(registry.get(ValidatorMetrics.SAMPLES).tag("outcome", "queued").counter().count()).isEqualTo(2);
+    }
+}
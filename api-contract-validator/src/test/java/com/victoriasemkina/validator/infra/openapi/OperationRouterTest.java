@@ -0,0 +1,162 @@
+package com.victoriasemkina.validator.infra.openapi;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OperationRouter unit tests")
+class OperationRouterTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.3
+            info:
+              title: Router test
+              version: 1.0.0
+            servers:
+              - url: https://api.example.com/v1
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: Users
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+                            items:
+                              type: object
+              /users/{id}:
+                get:
+                  responses:
+                    '200':
+                      description: User
+                      content:
+                        application/json:
+                          schema:
+                            type: object
+                    4XX:
+                      description: Problem
+                      content:
+                        application/problem+json:
+                          schema:
+                            type: object
+                delete:
+                  responses:
+                    '204':
+                      description: Deleted
+              /users/me:
+                get:
+                  responses:
+                    '200':
+                      description: Current user
+              /users/{id}/posts:
+                get:
+                  responses:
+                    default:
+                      description: Posts
+            """;
+
+    private final OpenAPI openAPI = new OpenAPIV3Parser().readContents(SPEC, null, null).getOpenAPI();
+    private final OperationRouter router = OperationRouter.compile(openAPI);
+
+    @Test
+    @DisplayName("should match templates, preferring literal segments")
+    void shouldMatchTemplatesPreferringLiterals() {
+        // then
+        assertThat(router.size()).isEqualTo(5);
+        assertThat(router.match("get", "/users/42").template()).isEqualTo("/users/{id}");
+        assertThat(router.match("DELETE", "/users/42").method()).isEqualTo("DELETE");
+        assertThat(router.match("GET", "/users/me").template()).isEqualTo("/users/me");
+        assertThat(router.match("GET", "/users/me/posts").template()).isEqualTo("/users/{id}/posts");
+        assertThat(router.match("GET", "/users/").template()).isEqualTo("/users");
+        assertThat(router.match("POST", "/users")).isNull();
+        assertThat(router.match("GET", "/orders/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("should accept absolute URLs, query strings and server base paths")
+    void shouldAcceptUrlsAndBasePaths() {
+        // then
+        assertThat(router.match("GET", "https://api.example.com/v1/users/7?expand=posts").template())
+                .isEqualTo("/users/{id}");
+        assertThat(router.match("GET", "/v1/users").template()).isEqualTo("/users");
+        assertThat(router.match("GET", "/v10/users")).isNull();
+    }
+
+    @Test
+    @DisplayName("should resolve response schemas by exact status, range and default")
+    void shouldResolveResponseSchemas() {
+        // given
+        OperationRouter.Route user = router.match("GET", "/users/1");
+
+        // then
+        assertThat(user.responseSchema(200)).isNotNull();
+        assertThat(user.responseSchema(404)).isNotNull();
+        assertThat(user.documents(500)).isFalse();
+        assertThat(router.match("DELETE", "/users/1").responseSchema(204)).isNull();
+        assertThat(router.match("GET", "/users/1/posts").documents(503)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should tell template segments apart by the text around the parameter")
+    void shouldTellTemplateSegmentsApart() {
+        // given
+        OperationRouter files = OperationRouter.compile(new OpenAPIV3Parser().readContents("""
+                openapi: 3.0.3
+                info:
+                  title: Files
+                  version: 1.0.0
+                paths:
+                  /files/{id}:
+                    get:
+                      responses:
+                        '200':
+                          description: File
+                  /files/{name}.json:
+                    get:
+                      responses:
+                        '200':
+                          description: JSON file
+                """, null, null).getOpenAPI());
+
+        // then
+        assertThat(files.size()).isEqualTo(2);
+        assertThat(files.match("GET", "/files/report.json").template()).isEqualTo("/files/{name}.json");
+        assertThat(files.match("GET", "/files/42").template()).isEqualTo("/files/{id}");
+        assertThat(files.match("GET", "/files/.json").template()).isEqualTo("/files/{id}");
+    }
+
+    @Test
+    @DisplayName("should reject paths that declare the same operation twice")
+    void shouldRejectAmbiguousPaths() {
+        // given
+        OpenAPI ambiguous = new OpenAPIV3Parser().readContents("""
+                openapi: 3.0.3
+                info:
+                  title: Files
+                  version: 1.0.0
+                paths:
+                  /files/{id}:
+                    get:
+                      responses:
+                        '200':
+                          description: File
+                  /files/{name}:
+                    get:
+                      responses:
+                        '200':
+                          description: File by name
+                """, null, null).getOpenAPI();
+
+        // when / then
+        assertThatThrownBy(() -> OperationRouter.compile(ambiguous))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("/files/{id}")
+                .hasMessageContaining("/files/{name}");
+    }
+}
@@ -0,0 +1,140 @@
+package com.victoriasemkina.validator.infra.proxy;
+
+import com.sun.net.httpserver.HttpServer;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.service.ReplayValidatorService;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import com.victoriasemkina.validator.infra.sampling.AsyncSampleValidator;
+import com.victoriasemkina.validator.infra.schema.TestValidators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ValidatingProxy unit tests")
+class ValidatingProxyTest {
+
+    private static final String SPEC = """
+            openapi: 3.0.3
+            info: {title: Users, version: "1.0"}
+            paths:
+              /users/{id}:
+                get:
+                  responses:
+                    '200':
+                      description: ok
+                      content:
+                        application/json:
+                          schema:
+                            type: object
+                            required: [id, name]
+                            properties:
+                              id: {type: integer}
+                              name: {type: string}
+            """;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private HttpServer upstream;
+    private AsyncSampleValidator sampler;
+    private ValidatingProxy proxy;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        upstream.createContext("/", exchange -> {
+            byte[] body = exchange.getRequestURI().getPath().endsWith("/1")
+                    ? "{\"id\":1,\"name\":\"Leanne\"}".getBytes(StandardCharsets.UTF_8)
+                    : "{\"id\":\"two\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("X-Upstream", "users");
+            exchange.sendResponseHeaders(200, body.length);
+            try (exchange) {
+                exchange.getResponseBody().write(body);
+            }
+        });
+        upstream.start();
+
+        ValidatorMetrics metrics = new ValidatorMetrics(registry);
+        ReplayValidatorService replayService = new ReplayValidatorService(
+                TestValidators.responseValidatorService(metrics), metrics);
+
+        OperationRouter router = OperationRouter.compile(TestValidators.parse(SPEC));
+
+        sampler = new AsyncSampleValidator(replayService, metrics, router, 1.0, 1, 16, 1024);
+        proxy = ValidatingProxy.start(new InetSocketAddress("127.0.0.1", 0),
+                URI.create("http://127.0.0.1:" + upstream.getAddress().getPort()), sampler, 1024, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        proxy.close();
+        sampler.close();
+        upstream.stop(0);
+    }
+
+    @Test
+    @DisplayName("should forward responses unchanged and validate sampled ones in the background")
+    void shouldForwardAndValidateSamples() throws Exception {
+        // when
+        HttpResponse<String> valid = get("/users/1");
+        HttpResponse<String> invalid = get("/users/2?expand=true");
+        // The client may see the end of the body before the proxy queues the sample
+        awaitQueuedSamples(2);
+        sampler.close();
+
+        // then
+        assertThat(valid.statusCode()).isEqualTo(200);
+        assertThat(valid.body()).isEqualTo("{\"id\":1,\"name\":\"Leanne\"}");
+        assertThat(valid.headers().firstValue("X-Upstream")).contains("users");
+        assertThat(invalid.body()).isEqualTo("{\"id\":\"two\"}");
+
+        ValidationResult result = sampler.getResult();
+        assertThat(result.hasErrors()).isTrue();
+        assertThat(result.getIssueGroups()).anySatisfy(group ->
+                assertThat(group.getRule()).isEqualTo(IssueCode.TYPE_MISMATCH.getRule()));
+        assertThat(registry.counter(ValidatorMetrics.SAMPLES, "outcome", ValidatorMetrics.SAMPLE_VALIDATED).count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should answer 502 when the upstream is unreachable")
+    void shouldAnswerBadGatewayWhenUpstreamIsDown() throws Exception {
+        // given
+        upstream.stop(0);
+
+        // when
+        HttpResponse<String> response = get("/users/1");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(502);
+    }
+
+    private void awaitQueuedSamples(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (registry.counter(ValidatorMetrics.SAMPLES, "outcome", ValidatorMetrics.SAMPLE_QUEUED).count() < count
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + proxy.getAddress().getPort() + path)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,108 @@
+package com.victoriasemkina.validator.infra.replay;
+
+import com.victoriasemkina.validator.domain.model.RecordedExchange;
+import com.victoriasemkina.validator.domain.port.ExchangeSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CaptureReader unit tests")
+class CaptureReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should stream HAR entries, decoding base64 content")
+    void shouldStreamHarEntries() throws Exception {
+        // given
+        String encoded = Base64.getEncoder().encodeToString("{\"id\":2}".getBytes(StandardCharsets.UTF_8));
+        Path har = tempDir.resolve("traffic.har");
+        Files.writeString(har, """
+                {"log": {"version": "1.2", "creator": {"name": "browser", "entries": "not these"},
+                  "pages": [{"id": "page_1"}],
+                  "entries": [
+                    {"request": {"method": "GET", "url": "https://api.example.com/users/1"},
+                     "response": {"status": 200, "content": {"mimeType": "application/json", "text": "{\\"id\\":1}"}}},
+                    {"request": {"method": "GET", "url": "https://api.example.com/users/2"},
+                     "response": {"status": 200, "content": {"text": "%s", "encoding": "base64"}}},
+                    {"request": {"method": "DELETE", "url": "https://api.example.com/users/3"},
+                     "response": {"status": 204, "content": {"size": 0}}}
+                  ]}}
+                """.formatted(encoded));
+
+        // when
+        List<RecordedExchange> exchanges = readAll(CaptureReader.open(har));
+
+        // then
+        assertThat(exchanges).containsExactly(
+                new RecordedExchange("GET", "https://api.example.com/users/1", 200, "{\"id\":1}"),
+                new RecordedExchange("GET", "https://api.example.com/users/2", 200, "{\"id\":2}"),
+                new RecordedExchange("DELETE", "https://api.example.com/users/3", 204, null));
+    }
+
+    @Test
+    @DisplayName("should read NDJSON lines with string or inline bodies across several files")
+    void shouldReadNdjsonLines() throws Exception {
+        // given
+        Path first = tempDir.resolve("first.ndjson");
+        Files.writeString(first, """
+                {"method": "GET", "path": "/users/1", "status": 200, "body": "{\\"id\\":1}"}
+                {"method": "GET", "url": "http://gw/users/2?x=1", "status": 404, "body": {"error": "not found"}}
+                """);
+        Path second = tempDir.resolve("second.ndjson");
+        Files.writeString(second, "{\"method\": \"GET\", \"path\": \"/users\", \"body\": [1, 2]}\n");
+
+        // when
+        List<RecordedExchange> exchanges = readAll(CaptureReader.openAll(List.of(first, second)));
+
+        // then
+        assertThat(exchanges).containsExactly(
+                new RecordedExchange("GET", "/users/1", 200, "{\"id\":1}"),
+                new RecordedExchange("GET", "http://gw/users/2?x=1", 404, "{\"error\":\"not found\"}"),
+                new RecordedExchange("GET", "/users", 200, "[1,2]"));
+    }
+
+    @Test
+    @DisplayName("should read a file across several mapped windows")
+    void shouldReadAcrossMappedWindows() throws Exception {
+        // given
+        byte[] content = new byte[10_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path file = Files.write(tempDir.resolve("data.bin"), content);
+
+        // when
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        try (InputStream in = new MappedFileInputStream(file, 4096)) {
+            copy.write(in.read());
+            in.transferTo(copy);
+        }
+
+        // then
+        assertThat(copy.toByteArray()).isEqualTo(content);
+    }
+
+    private static List<RecordedExchange> readAll(ExchangeSource source) throws Exception {
+        List<RecordedExchange> exchanges = new ArrayList<>();
+        try (source) {
+            RecordedExchange exchange;
+            while ((exchange = source.next()) != null) {
+                exchanges.add(exchange);
+            }
+        }
+        return exchanges;
+    }
+}
@@ -0,0 +1,151 @@
+package com.victoriasemkina.validator.infra.replay;
+
+import com.victoriasemkina.validator.domain.model.RecordedExchange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogFollower unit tests")
+class LogFollowerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should resume after the last validated line on restart")
+    void shouldResumeFromCheckpoint() throws Exception {
+        // given
+        Path log = tempDir.resolve("responses.ndjson");
+        Path checkpoint = tempDir.resolve("responses.checkpoint");
+        Files.writeString(log, line(1) + line(2) + line(3));
+
+        // when
+        try (LogFollower follower = follower(log, checkpoint)) {
+            RecordedExchange first = follower.next();
+            RecordedExchange second = follower.next();
+            assertThat(first.getPath()).isEqualTo("/users/1");
+            assertThat(second.getPath()).isEqualTo("/users/2");
+            follower.completed(second);
+            follower.completed(first);
+        }
+        Files.writeString(log, line(4), StandardOpenOption.APPEND);
+
+        // then
+        try (LogFollower follower = follower(log, checkpoint)) {
+            assertThat(follower.next().getPath()).isEqualTo("/users/3");
+            assertThat(follower.next().getPath()).isEqualTo("/users/4");
+        }
+    }
+
+    @Test
+    @DisplayName("should read lines handed out but not validated again on restart")
+    void shouldRereadLinesInFlight() throws Exception {
+        // given
+        Path log = tempDir.resolve("responses.ndjson");
+        Path checkpoint = tempDir.resolve("responses.checkpoint");
+        Files.writeString(log, line(1) + line(2) + line(3));
+
+        // when: the second line is still being validated when the process stops
+        try (LogFollower follower = follower(log, checkpoint)) {
+            follower.completed(follower.next());
+            follower.next();
+            follower.completed(follower.next());
+        }
+
+        // then
+        try (LogFollower follower = follower(log, checkpoint)) {
+            assertThat(follower.next().getPath()).isEqualTo("/users/2");
+            assertThat(follower.next().getPath()).isEqualTo("/users/3");
+        }
+    }
+
+    @Test
+    @DisplayName("should wait for lines being written and skip malformed ones")
+    void shouldWaitForCompleteLines() throws Exception {
+        // given
+        Path log = tempDir.resolve("responses.ndjson");
+        Files.writeString(log, "not json\n" + "{\"method\": \"GET\", \"path\": \"/users/1\", \"sta");
+
+        try (LogFollower follower = follower(log, tempDir.resolve("responses.checkpoint"))) {
+            CompletableFuture<RecordedExchange> next = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return follower.next();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // when
+            Thread.sleep(50);
+            assertThat(next).isNotDone();
+            Files.writeString(log, "tus\": 404, \"body\": {\"error\": \"x\"}}\n", StandardOpenOption.APPEND);
+
+            // then
+            assertThat(next.get(5, TimeUnit.SECONDS))
+                    .isEqualTo(new RecordedExchange("GET", "/users/1", 404, "{\"error\":\"x\"}"));
+            assertThat(follower.getSkippedLines()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("should finish the rotated file and continue with the new one")
+    void shouldFollowRotation() throws Exception {
+        // given
+        Path log = tempDir.resolve("responses.ndjson");
+        Files.writeString(log, line(1));
+
+        try (LogFollower follower = follower(log, tempDir.resolve("responses.checkpoint"))) {
+            assertThat(follower.next().getPath()).isEqualTo("/users/1");
+
+            // when
+            Files.writeString(log, line(2), StandardOpenOption.APPEND);
+            Files.move(log, tempDir.resolve("responses.ndjson.1"));
+            Files.writeString(log, line(3));
+
+            // then
+            assertThat(follower.next().getPath()).isEqualTo("/users/2");
+            assertThat(follower.next().getPath()).isEqualTo("/users/3");
+        }
+    }
+
+    @Test
+    @DisplayName("should return null once stopped")
+    void shouldStop() throws Exception {
+        // given
+        Path log = tempDir.resolve("responses.ndjson");
+        Files.writeString(log, "");
+
+        try (LogFollower follower = follower(log, tempDir.resolve("responses.checkpoint"))) {
+            CompletableFuture<RecordedExchange> next = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return follower.next();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // when
+            follower.stop();
+
+            // then
+            assertThat(next.get(5, TimeUnit.SECONDS)).isNull();
+        }
+    }
+
+    private static LogFollower follower(Path log, Path checkpoint) throws Exception {
+        return new LogFollower(log, checkpoint, false, Duration.ofMillis(10), Duration.ofSeconds(5));
+    }
+
+    private static String line(int id) {
+        return "{\"method\": \"GET\", \"path\": \"/users/" + id + "\", \"status\": 200, \"body\": {\"id\": " + id + "}}\n";
+    }
+}
@@ -0,0 +1,120 @@
+package com.victoriasemkina.validator.infra.report;
+
+import com.victoriasemkina.validator.domain.model.FieldPath;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HtmlReportGenerator unit tests")
+class HtmlReportGeneratorTest {
+
+    @Test
+    @DisplayName("should write single page when issues fit")
+    void shouldWriteSinglePageWhenIssuesFit(@TempDir Path tempDir) throws Exception {
+        // given
+        HtmlReportGenerator generator = new HtmlReportGenerator(10);
+        ValidationResult result = resultWithIssues(3);
+        Path report = tempDir.resolve("report.html");
+
+        // when
+        generator.generate(result, report.toString());
+
+        // then
+        String html = Files.readString(report, StandardCharsets.UTF_8);
+        assertThat(html).contains("Issues Found").contains("&lt;b&gt;2&lt;/b&gt;");
+        assertThat(Files.exists(tempDir.resolve("report-issues-001.html"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should split large reports into index and issue pages")
+    void shouldSplitLargeReportsIntoIndexAndIssuePages(@TempDir Path tempDir) throws Exception {
+        // given
+        HtmlReportGenerator generator = new HtmlReportGenerator(2);
+        ValidationResult result = resultWithIssues(5);
+        Path report = tempDir.resolve("report.html");
+
+        // when
+        generator.generate(result, report.toString());
+
+        // then
+        String index = Files.readString(report, StandardCharsets.UTF_8);
+        assertThat(index)
+                .contains("Issues by Endpoint")
+                .contains("report-issues-001.html")
+                .contains("report-issues-003.html");
+        assertThat(Files.readString(tempDir.resolve("report-issues-003.html"), StandardCharsets.UTF_8))
+                .contains("&lt;b&gt;4&lt;/b&gt;")
+                .doesNotContain("&lt;b&gt;3&lt;/b&gt;");
+        assertThat(Files.exists(tempDir.resolve("report-issues-004.html"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should count every issue per endpoint, not only the retained examples")
+    void shouldCountIssuesBeyondRetainedExamples(@TempDir Path tempDir) throws Exception {
+        // given: 10 identical issues of which one is kept, plus 4 distinct ones
+        HtmlReportGenerator generator = new HtmlReportGenerator(2);
+        ValidationResult result = new ValidationResult();
+        result.setMaxExamplesPerGroup(1);
+        for (int i = 0; i < 10; i++) {
+            result.addIssue(ValidationIssue.of(IssueCode.MISSING_REQUIRED, "GET", "/users",
+                    FieldPath.ROOT.property("id"), "id"));
+        }
+        for (int i = 0; i < 4; i++) {
+            result.addIssue(new ValidationIssue("GET", "/users", ValidationIssue.Severity.ERROR,
+                    "Missing required field <b>" + i + "</b>", "present", "missing"));
+        }
+        result.finish();
+        Path report = tempDir.resolve("report.html");
+
+        // when
+        generator.generate(result, report.toString());
+
+        // then
+        assertThat(result.getIssues().size()).isEqualTo(5);
+        assertThat(Files.readString(report, StandardCharsets.UTF_8))
+                .contains("<td><code>GET /users</code></td><td>14</td><td>0</td>");
+    }
+
+    @Test
+    @DisplayName("should delete issue pages left by an earlier, larger report")
+    void shouldDeleteStalePages(@TempDir Path tempDir) throws Exception {
+        // given
+        HtmlReportGenerator generator = new HtmlReportGenerator(2);
+        Path report = tempDir.resolve("report.html");
+        generator.generate(resultWithIssues(7), report.toString());
+
+        // when
+        generator.generate(resultWithIssues(3), report.toString());
+
+        // then
+        assertThat(Files.exists(tempDir.resolve("report-issues-002.html"))).isTrue();
+        assertThat(Files.exists(tempDir.resolve("report-issues-003.html"))).isFalse();
+        assertThat(Files.exists(tempDir.resolve("report-issues-004.html"))).isFalse();
+
+        // when: the next report fits on one page
+        generator.generate(resultWithIssues(1), report.toString());
+
+        // then
+        assertThat(Files.exists(tempDir.resolve("report-issues-001.html"))).isFalse();
+    }
+
+    private ValidationResult resultWithIssues(int count) {
+        ValidationResult result = new ValidationResult();
+        result.setBaseUrl("https://api.example.com");
+        for (int i = 0; i < count; i++) {
+            result.addIssue(new ValidationIssue("GET", "/users", ValidationIssue.Severity.ERROR,
+                    "Missing required field <b>" + i + "</b>", "present", "missing"));
+        }
+        result.finish();
+        return result;
+    }
+}
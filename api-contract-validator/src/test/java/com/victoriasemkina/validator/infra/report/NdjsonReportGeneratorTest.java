@@ -0,0 +1,108 @@
+package com.victoriasemkina.validator.infra.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import com.victoriasemkina.validator.domain.model.ValidationResult;
+import com.victoriasemkina.validator.domain.port.ReportStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NdjsonReportGenerator unit tests")
+class NdjsonReportGeneratorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final NdjsonReportGenerator generator = new NdjsonReportGenerator();
+
+    @Test
+    @DisplayName("should write one issue record per line and a final summary")
+    void shouldWriteIssuesAndSummary(@TempDir Path tempDir) throws Exception {
+        // given
+        ValidationResult result = resultWithIssues(3);
+        Path report = tempDir.resolve("report.ndjson");
+
+        // when
+        generator.generate(result, report.toString());
+
+        // then
+        List<JsonNode> records = records(report);
+        assertThat(records).extracting(record -> record.path("type").asText())
+                .containsExactly("issue", "issue", "issue", "summary");
+        assertThat(records.get(2).path("description").asText()).isEqualTo("Missing required field 2");
+        assertThat(records.get(3).path("totalIssues").asInt()).isEqualTo(3);
+        assertThat(records.get(3).path("errors").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should flush issues to the file while the run is idle")
+    void shouldFlushWhileIdle(@TempDir Path tempDir) throws Exception {
+        // given
+        Path report = tempDir.resolve("report.ndjson");
+
+        try (ReportStream stream = generator.open(report.toString())) {
+            // when: a single issue, then nothing more for a while
+            stream.onIssue(issue(0));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (Files.size(report) == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+
+            // then
+            assertThat(records(report)).extracting(record -> record.path("type").asText())
+                    .containsExactly("issue");
+        }
+    }
+
+    @Test
+    @DisplayName("should keep the issues written so far when closed without finishing")
+    void shouldKeepIssuesWhenClosedEarly(@TempDir Path tempDir) throws Exception {
+        // given
+        Path report = tempDir.resolve("report.ndjson");
+        ReportStream stream = generator.open(report.toString());
+        stream.onIssue(issue(0));
+        stream.onIssue(issue(1));
+
+        // when
+        stream.close();
+        stream.close();
+        stream.onIssue(issue(2));
+
+        // then
+        assertThat(records(report)).extracting(record -> record.path("type").asText())
+                .containsExactly("issue", "issue");
+    }
+
+    private static List<JsonNode> records(Path report) throws Exception {
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : Files.readAllLines(report, StandardCharsets.UTF_8)) {
+            records.add(MAPPER.readTree(line));
+        }
+        return records;
+    }
+
+    private static ValidationResult resultWithIssues(int count) {
+        ValidationResult result = new ValidationResult();
+        result.setBaseUrl("https://api.example.com");
+        for (int i = 0; i < count; i++) {
+            result.addIssue(issue(i));
+        }
+        result.finish();
+        return result;
+    }
+
+    private static ValidationIssue issue(int index) {
+        return new ValidationIssue("GET", "/users", ValidationIssue.Severity.ERROR,
+                "Missing required field " + index, "present", "missing");
+    }
+}
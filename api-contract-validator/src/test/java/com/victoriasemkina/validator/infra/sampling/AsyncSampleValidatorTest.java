@@ -0,0 +1,103 @@
+package com.victoriasemkina.validator.infra.sampling;
+
+import com.victoriasemkina.validator.domain.model.RecordedExchange;
+import com.victoriasemkina.validator.domain.service.ReplayValidatorService;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import com.victoriasemkina.validator.infra.openapi.OperationRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AsyncSampleValidator unit tests")
+class AsyncSampleValidatorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ValidatorMetrics metrics = new ValidatorMetrics(registry);
+    private final ReplayValidatorService replayService = mock(ReplayValidatorService.class);
+    private final OperationRouter router = OperationRouter.compile(new OpenAPI());
+
+    @Test
+    @DisplayName("should drop samples instead of blocking when the queue is full")
+    void shouldDropSamplesWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(replayService.validateExchange(any(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        AsyncSampleValidator sampler = new AsyncSampleValidator(replayService, metrics, router, 1.0, 1, 1, 1024);
+
+        // when
+        boolean first = sampler.submit("GET", "/users/1", 200, "{}".getBytes(StandardCharsets.UTF_8), null);
+        started.await();
+        boolean second = sampler.submit("GET", "/users/2", 200, "{}".getBytes(StandardCharsets.UTF_8), null);
+        boolean third = sampler.submit("GET", "/users/3", 200, "{}".getBytes(StandardCharsets.UTF_8), null);
+        release.countDown();
+        sampler.close();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(registry.counter(ValidatorMetrics.SAMPLES, "outcome", ValidatorMetrics.SAMPLE_DROPPED).count())
+                .isEqualTo(1);
+        assertThat(registry.counter(ValidatorMetrics.SAMPLES, "outcome", ValidatorMetrics.SAMPLE_VALIDATED).count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should decode gzip bodies before validation")
+    void shouldDecodeGzipBodies() throws Exception {
+        // given
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        }
+        when(replayService.validateExchange(any(), any(), any())).thenReturn(true);
+        AsyncSampleValidator sampler = new AsyncSampleValidator(replayService, metrics, router, 1.0, 1, 8, 1024);
+
+        // when
+        sampler.submit("GET", "/users/1", 200, compressed.toByteArray(), "gzip");
+        sampler.close();
+
+        // then
+        verify(replayService).validateExchange(router, new RecordedExchange("GET", "/users/1", 200, "{\"id\":1}"),
+                sampler.getResult());
+    }
+
+    @Test
+    @DisplayName("should not inflate a compressed body past the sample limit")
+    void shouldRejectBodyInflatingPastLimit() throws Exception {
+        // given: 64KB of zeros compress to a few hundred bytes
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(new byte[64 * 1024]);
+        }
+        AsyncSampleValidator sampler = new AsyncSampleValidator(replayService, metrics, router, 1.0, 1, 8, 1024);
+
+        // when
+        sampler.submit("GET", "/users/1", 200, compressed.toByteArray(), "gzip");
+        sampler.close();
+
+        // then
+        assertThat(compressed.size()).isLessThan(1024);
+        verify(replayService, never()).validateExchange(any(), any(), any());
+        assertThat(registry.counter(ValidatorMetrics.SAMPLES, "outcome", ValidatorMetrics.SAMPLE_UNREADABLE).count())
+                .isEqualTo(1);
+    }
+}
@@ -12,8 +12,10 @@ import org.springframework.beans.factory.ObjectProvider;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -48,6 +50,24 @@ class ObjectValidatorTest {
         assertThat(result).isTrue();
     }
 
+    @Test
+    @DisplayName("should stop validating once the thread is interrupted")
+    void shouldStopOnceInterrupted() throws Exception {
+        // given
+        ObjectSchema schema = new ObjectSchema();
+        var node = objectMapper.readTree("{\"name\": \"John\"}");
+        Thread.currentThread().interrupt();
+
+        // when / then
+        try {
+            assertThatThrownBy(() -> validator.validate(node, schema, context))
+                    .isInstanceOf(CancellationException.class)
+                    .hasMessageContaining("$");
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
     @Test
     @DisplayName("should detect non-object JSON as error")
     void shouldDetectNonObjectJsonAsError() throws Exception {
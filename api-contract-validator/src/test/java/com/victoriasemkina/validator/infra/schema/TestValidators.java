@@ -0,0 +1,52 @@
+package com.victoriasemkina.validator.infra.schema;
+
+import com.victoriasemkina.validator.domain.service.ResponseValidatorService;
+import com.victoriasemkina.validator.infra.metrics.ValidatorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Validation engine wired by hand for tests that run real schema validation without Spring
+ */
+public final class TestValidators {
+
+    private TestValidators() {
+    }
+
+    public static ResponseValidatorService responseValidatorService() {
+        return responseValidatorService(new ValidatorMetrics(new SimpleMeterRegistry()));
+    }
+
+    /**
+     * Object, array and primitive validators, nested ones resolved through the same list
+     */
+    @SuppressWarnings("unchecked")
+    public static ResponseValidatorService responseValidatorService(ValidatorMetrics metrics) {
+        List<SchemaValidator> validators = new ArrayList<>();
+        ObjectProvider<List<SchemaValidator>> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(validators);
+        validators.add(new ObjectValidator(provider));
+        validators.add(new ArrayValidator(provider));
+        validators.add(new PrimitiveValidator());
+        return new ResponseValidatorService(validators, metrics);
+    }
+
+    /**
+     * Parses a specification with references resolved, as the CLI does
+     */
+    public static OpenAPI parse(String spec) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setResolveFully(true);
+        return new OpenAPIV3Parser().readContents(spec, null, options).getOpenAPI();
+    }
+}
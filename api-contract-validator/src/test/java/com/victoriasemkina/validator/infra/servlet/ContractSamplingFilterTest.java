@@ -0,0 +1,115 @@
+package com.victoriasemkina.validator.infra.servlet;
+
+import com.victoriasemkina.validator.infra.sampling.AsyncSampleValidator;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ContractSamplingFilter unit tests")
+class ContractSamplingFilterTest {
+
+    private static final String BODY = "{\"id\":1,\"name\":\"Leanne\"}";
+
+    private final AsyncSampleValidator sampler = mock(AsyncSampleValidator.class);
+
+    @Test
+    @DisplayName("should pass requests that are not sampled through untouched")
+    void shouldPassUnsampledRequestsThrough() throws Exception {
+        // given
+        when(sampler.sample()).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new JsonServlet(false));
+
+        // when
+        new ContractSamplingFilter(sampler, 1024).doFilter(request(), response, chain);
+
+        // then
+        assertThat(chain.getResponse()).isSameAs(response);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        verify(sampler, never()).submit(anyString(), anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should copy sampled bodies written through the writer or the stream")
+    void shouldSubmitSampledResponses() throws Exception {
+        // given
+        when(sampler.sample()).thenReturn(true);
+        ContractSamplingFilter filter = new ContractSamplingFilter(sampler, 1024);
+        MockHttpServletResponse written = new MockHttpServletResponse();
+        MockHttpServletResponse streamed = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request(), written, new MockFilterChain(new JsonServlet(false)));
+        filter.doFilter(request(), streamed, new MockFilterChain(new JsonServlet(true)));
+
+        // then
+        assertThat(written.getContentAsString()).isEqualTo(BODY);
+        assertThat(streamed.getContentAsString()).isEqualTo(BODY);
+        verify(sampler, times(2)).submit(eq("GET"), eq("/users/1?expand=true"), eq(200),
+                eq(BODY.getBytes(StandardCharsets.UTF_8)), isNull());
+    }
+
+    @Test
+    @DisplayName("should forward but not submit responses above the sample limit")
+    void shouldSkipOversizedResponses() throws Exception {
+        // given
+        when(sampler.sample()).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        new ContractSamplingFilter(sampler, 8).doFilter(request(), response, new MockFilterChain(new JsonServlet(true)));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        verify(sampler, never()).submit(anyString(), anyString(), anyInt(), any(), any());
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/users/1");
+        request.setContextPath("/app");
+        request.setQueryString("expand=true");
+        return request;
+    }
+
+    private static class JsonServlet extends HttpServlet {
+
+        private final boolean useStream;
+
+        JsonServlet(boolean useStream) {
+            this.useStream = useStream;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            if (useStream) {
+                byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+                response.getOutputStream().write(bytes, 0, 10);
+                response.getOutputStream().write(bytes, 10, bytes.length - 10);
+            } else {
+                response.getWriter().print(BODY);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.victoriasemkina.validator.infra.store;
+
+import com.victoriasemkina.validator.domain.port.IssueStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IssueStoreFactory unit tests")
+class IssueStoreFactoryTest {
+
+    @Test
+    @DisplayName("should reject segment sizes that do not fit a single mapping")
+    void shouldRejectSegmentSizesOutOfRange() {
+        // when / then
+        assertThatThrownBy(() -> new IssueStoreFactory("", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IssueStoreFactory("", 2048))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("between 1 and 2047");
+    }
+
+    @Test
+    @DisplayName("should spill to mapped segments of the largest size")
+    void shouldCreateStoreWithLargestSegmentSize(@TempDir Path tempDir) throws Exception {
+        // given
+        IssueStoreFactory factory = new IssueStoreFactory(tempDir.toString(), IssueStoreFactory.MAX_SEGMENT_SIZE_MB);
+
+        // when
+        try (IssueStore store = factory.create(true)) {
+            // then
+            assertThat(store).isInstanceOf(MappedIssueStore.class);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.victoriasemkina.validator.infra.store;
+
+import com.victoriasemkina.validator.domain.model.FieldPath;
+import com.victoriasemkina.validator.domain.model.IssueCode;
+import com.victoriasemkina.validator.domain.model.ValidationIssue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedIssueStore unit tests")
+class MappedIssueStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should round-trip issues across several mapped segments")
+    void shouldRoundTripIssuesAcrossSegments() throws Exception {
+        // given
+        List<ValidationIssue> issues = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            issues.add(ValidationIssue.of(IssueCode.TYPE_MISMATCH, "GET", "/users",
+                    FieldPath.ROOT.item(i).property("address").property("zip"), "string", "integer"));
+        }
+
+        try (MappedIssueStore store = new MappedIssueStore(tempDir, 4096)) {
+            // when
+            issues.forEach(store::add);
+            List<ValidationIssue> restored = new ArrayList<>();
+            store.forEach(restored::add);
+
+            // then
+            assertThat(store.size()).isEqualTo(500);
+            assertThat(restored).hasSize(500);
+            assertThat(restored.get(499).getFieldPath()).isEqualTo("$[499].address.zip");
+            assertThat(restored.get(499).getLocation()).isEqualTo(issues.get(499).getLocation());
+            assertThat(restored.get(499).getCode()).isEqualTo(IssueCode.TYPE_MISMATCH);
+            assertThat(restored.get(499).getDescription()).isEqualTo(issues.get(499).getDescription());
+            assertThat(restored.get(499).getExpected()).isEqualTo(issues.get(499).getExpected());
+        }
+    }
+
+    @Test
+    @DisplayName("should keep free-text issues and delete the spill file on close")
+    void shouldKeepFreeTextIssuesAndDeleteFileOnClose() throws Exception {
+        // given
+        MappedIssueStore store = new MappedIssueStore(tempDir, 4096);
+        store.add(new ValidationIssue("POST", "/orders", ValidationIssue.Severity.WARNING,
+                "Custom check failed — ünïcödé", null, "42"));
+
+        // when
+        ValidationIssue restored = store.iterator().next();
+        store.close();
+
+        // then
+        assertThat(restored.getSeverity()).isEqualTo(ValidationIssue.Severity.WARNING);
+        assertThat(restored.getMethod()).isEqualTo("POST");
+        assertThat(restored.getDescription()).isEqualTo("Custom check failed — ünïcödé");
+        assertThat(restored.getExpected()).isNull();
+        assertThat(restored.getActual()).isEqualTo("42");
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}